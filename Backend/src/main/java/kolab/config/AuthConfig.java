@@ -0,0 +1,41 @@
+package kolab.config;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Arrays;
+
+/**
+ * One shared Google ID token verifier. Its {@link GooglePublicKeysManager}
+ * keeps the signing certificates in memory for as long as Google's
+ * Cache-Control allows, and {@code JwtServiceImpl} refreshes them ahead of
+ * expiry so no login waits on the certificate download. Without a
+ * configured client id the verifier has no audience and
+ * {@code JwtServiceImpl} refuses every Google login.
+ */
+@Configuration
+@EnableScheduling
+public class AuthConfig {
+    private static final Logger log = LoggerFactory.getLogger(AuthConfig.class);
+
+    @Bean
+    public GoogleIdTokenVerifier googleIdTokenVerifier(@Value("${kolab.auth.google.client-id:}") String clientIds) {
+        GooglePublicKeysManager publicKeys =
+            new GooglePublicKeysManager(new NetHttpTransport(), GsonFactory.getDefaultInstance());
+        GoogleIdTokenVerifier.Builder builder = new GoogleIdTokenVerifier.Builder(publicKeys);
+        if (!clientIds.isBlank()) {
+            builder.setAudience(Arrays.stream(clientIds.split(",")).map(String::trim).toList());
+        } else {
+            log.warn("kolab.auth.google.client-id is not set, Google login is disabled");
+        }
+        return builder.build();
+    }
+}
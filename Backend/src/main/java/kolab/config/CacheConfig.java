@@ -0,0 +1,45 @@
+package kolab.config;
+
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process caches for the small, rarely changing reference tables
+ * (industries and categories). Entries are evicted by the owning service on
+ * every write, and the size/TTL bound only guards against unexpected growth.
+ * Evictions from a transactional write are repeated after it completes
+ * (see {@link EvictOnCompletionCache}), so a concurrent read cannot leave the
+ * pre-commit value cached.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String INDUSTRIES = "industries";
+    public static final String INDUSTRY_BY_ID = "industryById";
+    public static final String INDUSTRY_NAME_EXISTS = "industryNameExists";
+    public static final String CATEGORIES = "categories";
+    public static final String CATEGORY_BY_ID = "categoryById";
+    public static final String CATEGORY_NAME_EXISTS = "categoryNameExists";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${kolab.cache.reference-data.spec:maximumSize=1000,expireAfterWrite=30m,recordStats}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                INDUSTRIES, INDUSTRY_BY_ID, INDUSTRY_NAME_EXISTS,
+                CATEGORIES, CATEGORY_BY_ID, CATEGORY_NAME_EXISTS) {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new EvictOnCompletionCache(super.adaptCaffeineCache(name, cache));
+            }
+        };
+        cacheManager.setCaffeineSpec(CaffeineSpec.parse(spec));
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,45 @@
+package kolab.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kolab.jfr.RecordingJacksonConverter;
+import kolab.jfr.RepositoryEventInterceptor;
+import kolab.jfr.ServiceEventAspect;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Wires the custom Flight Recorder events (package {@code kolab.jfr}) into
+ * services, repositories and JSON responses. Events cost next to nothing
+ * until a recording enables them; see {@code FlightRecorderService}.
+ */
+@Configuration
+public class FlightRecorderConfig {
+
+    @Bean
+    public ServiceEventAspect serviceEventAspect() {
+        return new ServiceEventAspect();
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryEventPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factory) {
+                    factory.addRepositoryFactoryCustomizer(repositoryFactory -> repositoryFactory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, information) -> proxyFactory.addAdvice(
+                            new RepositoryEventInterceptor(information.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new RecordingJacksonConverter(objectMapper);
+    }
+}
@@ -0,0 +1,32 @@
+package kolab.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application meters on top of what Spring Boot binds by itself: request
+ * timers ({@code http.server.requests}), Hikari, Hibernate statistics,
+ * Caffeine caches and JVM memory/GC. Histograms and the Prometheus
+ * exposure are configured in application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public ServiceMetricsAspect serviceMetricsAspect(MeterRegistry meterRegistry) {
+        return new ServiceMetricsAspect(meterRegistry);
+    }
+
+    // Boot only binds plain CaffeineCache instances, so unwrap the eviction decorator
+    @Bean
+    CacheMeterBinderProvider<EvictOnCompletionCache> evictOnCompletionCacheMeterBinderProvider() {
+        CaffeineCacheMeterBinderProvider caffeine = new CaffeineCacheMeterBinderProvider();
+        return (cache, tags) -> cache.getTargetCache() instanceof CaffeineCache target
+            ? caffeine.getMeterBinder(target, tags)
+            : null;
+    }
+}
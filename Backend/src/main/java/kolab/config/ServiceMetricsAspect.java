@@ -0,0 +1,63 @@
+package kolab.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public {@code *ServiceJpa} method as {@code kolab.service}
+ * and counts the exceptions it throws as {@code kolab.service.errors},
+ * tagged by service, method and exception type. Timers are looked up once
+ * per method and cached, so a call costs two {@code nanoTime} reads and
+ * a map lookup with no allocation. Methods returning a {@code Stream} are
+ * timed until the stream is returned, not until it is consumed.
+ */
+@Aspect
+public class ServiceMetricsAspect {
+    private final MeterRegistry registry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * kolab.service.impl.*ServiceJpa.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            errors(method, e).increment();
+            throw e;
+        } finally {
+            timers.computeIfAbsent(method, this::timer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(Method method) {
+        return Timer.builder("kolab.service")
+            .description("Service method calls")
+            .tag("service", method.getDeclaringClass().getSimpleName())
+            .tag("method", method.getName())
+            .register(registry);
+    }
+
+    private Counter errors(Method method, Throwable e) {
+        return Counter.builder("kolab.service.errors")
+            .description("Service method calls that threw")
+            .tag("service", method.getDeclaringClass().getSimpleName())
+            .tag("method", method.getName())
+            .tag("exception", e.getClass().getSimpleName())
+            .register(registry);
+    }
+}
@@ -0,0 +1,53 @@
+package kolab.config;
+
+import kolab.rest.SqlStatsFilter;
+import kolab.util.SqlLog;
+import kolab.util.SqlStatsDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Per-request SQL accounting, on unless {@code kolab.sql-stats.enabled} is
+ * false. The datasource is wrapped so statements, fetched rows and JDBC
+ * time are counted against the request that caused them. Development
+ * builds return the counts as response headers; in production
+ * ({@code kolab.sql-stats.headers=false}) they are only aggregated per
+ * endpoint under {@code /api/admin/sql}.
+ * <p>
+ * The same wrapper feeds the slow-query log and query sampling
+ * ({@link SqlLog}) when {@code kolab.sql-log.enabled} is set, which the
+ * prod profile uses instead of {@code spring.jpa.show-sql}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "kolab.sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor(Environment environment) {
+        SqlLog log = environment.getProperty("kolab.sql-log.enabled", Boolean.class, false)
+            ? new SqlLog(environment.getProperty("kolab.sql-log.slow-threshold", Duration.class, Duration.ofMillis(200)),
+                environment.getProperty("kolab.sql-log.sample-rate", Double.class, 0.0))
+            : null;
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof SqlStatsDataSource)
+                    ? new SqlStatsDataSource(dataSource, log) : bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatsFilter sqlStatsFilter(
+            @Value("${kolab.sql-stats.headers:true}") boolean headers,
+            @Value("${kolab.sql-stats.warn-statements:50}") int warnStatements) {
+        return new SqlStatsFilter(headers, warnStatements);
+    }
+}
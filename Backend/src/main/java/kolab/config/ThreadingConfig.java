@@ -0,0 +1,67 @@
+package kolab.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import kolab.rest.ConcurrencyLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual-thread execution mode, enabled with {@code kolab.threads.virtual}.
+ * Tomcat hands every request to a new virtual thread, and MVC async work
+ * (streaming exports) and {@code @Async} methods use one as well, so a
+ * request blocked on JDBC no longer ties up a platform thread.
+ * <p>
+ * Without Tomcat's 200-thread cap nothing bounds how many requests reach
+ * the database at once, so the mode also registers a
+ * {@link ConcurrencyLimitFilter} sized to the Hikari pool. Excess requests
+ * wait for a permit instead of piling up on the pool's connection timeout.
+ */
+@Configuration
+@ConditionalOnProperty(name = "kolab.threads.virtual", havingValue = "true")
+public class ThreadingConfig {
+    // What Hikari applies when maximum-pool-size is left unset; the pool reports -1 until it starts
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-vt-", 0).factory()));
+    }
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-vt-", 0).factory()));
+    }
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(
+            DataSource dataSource,
+            @Value("${kolab.threads.max-concurrent-requests:0}") int maxConcurrentRequests,
+            @Value("${kolab.threads.queue-timeout:PT30S}") Duration queueTimeout) throws SQLException {
+        int permits = maxConcurrentRequests > 0 ? maxConcurrentRequests : poolSize(dataSource);
+        return new ConcurrencyLimitFilter(permits, queueTimeout);
+    }
+
+    private static int poolSize(DataSource dataSource) throws SQLException {
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            int size = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            return size > 0 ? size : HIKARI_DEFAULT_POOL_SIZE;
+        }
+        throw new IllegalStateException(
+            "kolab.threads.max-concurrent-requests must be set when the datasource is not a Hikari pool");
+    }
+}
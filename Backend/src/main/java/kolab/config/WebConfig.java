@@ -0,0 +1,25 @@
+package kolab.config;
+
+import kolab.rest.ConditionalGetInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ConditionalGetInterceptor conditionalGetInterceptor;
+
+    @Value("${kolab.conditional-get.enabled:true}")
+    private boolean conditionalGetEnabled;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (conditionalGetEnabled) {
+            registry.addInterceptor(conditionalGetInterceptor).addPathPatterns("/api/**");
+        }
+    }
+}
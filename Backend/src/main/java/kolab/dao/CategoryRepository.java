@@ -1,8 +1,12 @@
 package kolab.dao;
+import kolab.config.CacheConfig;
 import kolab.domain.Category;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.UUID;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
+    // Cached here rather than in the service, whose create/update call it internally.
+    @Cacheable(CacheConfig.CATEGORY_NAME_EXISTS)
     boolean existsByName(String name);
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package kolab.dao;
+
+import kolab.domain.CollaborationEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CollaborationEventRepository extends JpaRepository<CollaborationEvent, Long> {
+    List<CollaborationEvent> findByCollaborationIdOrderByOccurredAtAscIdAsc(UUID collaborationId);
+
+    @Query("select e from CollaborationEvent e where e.projectId = :projectId "
+        + "and e.occurredAt >= :from and e.occurredAt < :to order by e.occurredAt, e.id")
+    List<CollaborationEvent> findProjectTimeline(@Param("projectId") UUID projectId,
+                                                 @Param("from") Instant from,
+                                                 @Param("to") Instant to);
+
+    @Query("select e from CollaborationEvent e where e.companyId = :companyId "
+        + "and e.occurredAt >= :from and e.occurredAt < :to order by e.occurredAt, e.id")
+    List<CollaborationEvent> findCompanyTimeline(@Param("companyId") UUID companyId,
+                                                 @Param("from") Instant from,
+                                                 @Param("to") Instant to);
+}
@@ -1,15 +1,67 @@
 package kolab.dao;
 
 import kolab.domain.Collaboration;
+import kolab.dto.ProgressBucketDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CollaborationRepository extends JpaRepository<Collaboration, UUID> {
+    String DETAIL = "Collaboration.detail";
+    int STREAM_FETCH_SIZE = 500;
+
+    @Override
+    @EntityGraph(DETAIL)
+    List<Collaboration> findAll();
+
+    @Override
+    @EntityGraph(DETAIL)
+    Optional<Collaboration> findById(UUID id);
+
+    @EntityGraph(DETAIL)
     List<Collaboration> findByProjectId(UUID projectId);
+
+    @EntityGraph(DETAIL)
     List<Collaboration> findByCompanyId(UUID companyId);
+
+    @EntityGraph(DETAIL)
     List<Collaboration> findByContactId(UUID contactId);
+
+    @EntityGraph(DETAIL)
     List<Collaboration> findByResponsibleId(UUID responsibleId);
-}
\ No newline at end of file
+
+    @EntityGraph(DETAIL)
+    List<Collaboration> findAllByOrderByIdAsc(Pageable pageable);
+
+    @EntityGraph(DETAIL)
+    List<Collaboration> findByIdGreaterThanOrderByIdAsc(UUID after, Pageable pageable);
+
+    @EntityGraph(DETAIL)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Collaboration> streamAllBy();
+
+    @Query("select new kolab.dto.ProgressBucketDTO(c.status, c.category, count(c), coalesce(sum(c.achievedValue), 0.0)) "
+        + "from Collaboration c where c.project.id = :projectId group by c.status, c.category")
+    List<ProgressBucketDTO> summarizeByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("select c.company.id from Collaboration c "
+        + "where c.project.id = :projectId and c.company.id in :companyIds")
+    Set<UUID> findCompanyIdsByProjectId(@Param("projectId") UUID projectId,
+                                        @Param("companyIds") Collection<UUID> companyIds);
+}
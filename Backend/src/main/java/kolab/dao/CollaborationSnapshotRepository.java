@@ -0,0 +1,18 @@
+package kolab.dao;
+
+import kolab.domain.CollaborationSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface CollaborationSnapshotRepository extends JpaRepository<CollaborationSnapshot, UUID> {
+    Optional<CollaborationSnapshot> findFirstByAsOfLessThanEqualOrderByAsOfDesc(Instant asOf);
+
+    Optional<CollaborationSnapshot> findFirstByOrderByAsOfDesc();
+
+    List<CollaborationSnapshot> findAllByOrderByAsOfDesc();
+}
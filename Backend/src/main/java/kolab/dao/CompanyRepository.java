@@ -1,14 +1,61 @@
 package kolab.dao;
 
 import kolab.domain.Company;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, UUID> {
+    String DETAIL = "Company.detail";
+    int STREAM_FETCH_SIZE = 500;
+
+    @Override
+    @EntityGraph(DETAIL)
+    List<Company> findAll();
+
+    @Override
+    @EntityGraph(DETAIL)
+    Optional<Company> findById(UUID id);
+
+    @EntityGraph(DETAIL)
     List<Company> findByIndustryId(UUID industryId);
+
+    @EntityGraph(DETAIL)
     Company findByName(String name);
+
     boolean existsByName(String name);
-}
\ No newline at end of file
+
+    boolean existsByNameAndIdNot(String name, UUID id);
+
+    @Query("select c.name from Company c where c.name in :names")
+    Set<String> findExistingNames(@Param("names") Collection<String> names);
+
+    @Query("select c.id from Company c where c.id in :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @EntityGraph(DETAIL)
+    List<Company> findAllByOrderByIdAsc(Pageable pageable);
+
+    @EntityGraph(DETAIL)
+    List<Company> findByIdGreaterThanOrderByIdAsc(UUID after, Pageable pageable);
+
+    @EntityGraph(DETAIL)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Company> streamAllBy();
+}
@@ -1,13 +1,38 @@
 package kolab.dao;
 
 import kolab.domain.Contact;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ContactRepository extends JpaRepository<Contact, UUID> {
+    String DETAIL = "Contact.detail";
+    int STREAM_FETCH_SIZE = 500;
+
+    @Override
+    @EntityGraph(DETAIL)
+    List<Contact> findAll();
+
+    @Override
+    @EntityGraph(DETAIL)
+    Optional<Contact> findById(UUID id);
+
+    @EntityGraph(DETAIL)
     List<Contact> findByCompanyId(UUID companyId);
+
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Contact> streamAllBy();
+}
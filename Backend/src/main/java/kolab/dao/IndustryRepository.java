@@ -1,9 +1,13 @@
 package kolab.dao;
 
+import kolab.config.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import kolab.domain.Industry;
 import java.util.UUID;
 
 public interface IndustryRepository extends JpaRepository<Industry, UUID> {
+    // Cached here rather than in the service, whose create/update call it internally.
+    @Cacheable(CacheConfig.INDUSTRY_NAME_EXISTS)
     boolean existsByName(String name);
-}
\ No newline at end of file
+}
@@ -1,14 +1,44 @@
 package kolab.dao;
 
+import jakarta.persistence.LockModeType;
 import kolab.domain.Project;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
+    String DETAIL = "Project.detail";
+
+    @Override
+    @EntityGraph(DETAIL)
+    List<Project> findAll();
+
+    @Override
+    @EntityGraph(DETAIL)
+    Optional<Project> findById(UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Project> findForUpdateById(UUID id);
+
+    @EntityGraph(DETAIL)
     List<Project> findByCategoryId(UUID categoryId);
+
+    @EntityGraph(DETAIL)
     List<Project> findByResponsibleId(UUID responsibleId);
+
     boolean existsByName(String name);
-}
\ No newline at end of file
+
+    boolean existsByNameAndIdNot(String name, UUID id);
+
+    @EntityGraph(DETAIL)
+    List<Project> findAllByOrderByIdAsc(Pageable pageable);
+
+    @EntityGraph(DETAIL)
+    List<Project> findByIdGreaterThanOrderByIdAsc(UUID after, Pageable pageable);
+}
@@ -0,0 +1,35 @@
+package kolab.dao;
+
+import kolab.domain.ProjectRollup;
+import kolab.domain.ProjectRollupId;
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import kolab.dto.ProgressBucketDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.util.UUID;
+import java.util.List;
+
+@Repository
+public interface ProjectRollupRepository extends JpaRepository<ProjectRollup, ProjectRollupId> {
+    @Query("select new kolab.dto.ProgressBucketDTO(r.status, r.category, r.collaborationCount, r.achievedValue) "
+        + "from ProjectRollup r where r.projectId = :projectId and r.collaborationCount > 0")
+    List<ProgressBucketDTO> findBucketsByProjectId(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @Query("update ProjectRollup r set r.collaborationCount = r.collaborationCount + :count, "
+        + "r.achievedValue = r.achievedValue + :value "
+        + "where r.projectId = :projectId and r.status = :status and r.category = :category")
+    int increment(@Param("projectId") UUID projectId,
+                  @Param("status") CollaborationStatus status,
+                  @Param("category") CollaborationCategory category,
+                  @Param("count") long count,
+                  @Param("value") double value);
+
+    @Modifying
+    @Query("delete from ProjectRollup r where r.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") UUID projectId);
+}
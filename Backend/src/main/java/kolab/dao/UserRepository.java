@@ -1,12 +1,22 @@
 package kolab.dao;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import kolab.domain.User;
 import java.util.UUID;
+import java.util.List;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+    // Looked up on every login; the result is invalidated whenever appUser changes.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     User findByEmail(String email);
-}
-
+    boolean existsByEmail(String email);
+    boolean existsByEmailAndIdNot(String email, UUID id);
+    List<User> findAllByOrderByIdAsc(Pageable pageable);
+    List<User> findByIdGreaterThanOrderByIdAsc(UUID after, Pageable pageable);
+}
\ No newline at end of file
@@ -2,8 +2,11 @@ package kolab.domain;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.UUID;
 
@@ -11,7 +14,24 @@ import kolab.domain.enums.CollaborationCategory;
 import kolab.domain.enums.CollaborationStatus;
 
 @Entity
+@DynamicUpdate
+@NamedEntityGraph(name = "Collaboration.detail",
+    attributeNodes = {
+        @NamedAttributeNode(value = "project", subgraph = "project"),
+        @NamedAttributeNode(value = "company", subgraph = "company"),
+        @NamedAttributeNode(value = "contact", subgraph = "contact"),
+        @NamedAttributeNode("responsible")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "project", attributeNodes = {
+            @NamedAttributeNode("category"),
+            @NamedAttributeNode("responsible")
+        }),
+        @NamedSubgraph(name = "company", attributeNodes = @NamedAttributeNode("industry")),
+        @NamedSubgraph(name = "contact", attributeNodes = @NamedAttributeNode(value = "company", subgraph = "company"))
+    })
 @Table(name = "collaboration")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Getter
 @Setter
 public class Collaboration {
@@ -19,19 +39,24 @@ public class Collaboration {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @ManyToOne
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "projectId", nullable = false)
     private Project project;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "companyId", nullable = false)
     private Company company;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "contactId")
     private Contact contact;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "responsibleId")
     private User responsible;
 
@@ -0,0 +1,72 @@
+package kolab.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import kolab.domain.enums.CollaborationEventKind;
+import kolab.domain.enums.CollaborationStatus;
+
+/**
+ * One entry of the append-only collaboration history: the full state of a
+ * collaboration right after it was created, changed or deleted. Rows are
+ * only ever inserted, in batches, so ids come from a pooled sequence and
+ * {@code occurredAt} is the commit time of the change.
+ */
+@Entity
+@Immutable
+@Table(name = "collaboration_event")
+@Getter
+@Setter
+public class CollaborationEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "collaboration_event_seq")
+    @SequenceGenerator(name = "collaboration_event_seq", sequenceName = "collaboration_event_seq", allocationSize = 500)
+    private Long id;
+
+    @Column(name = "collaborationId", nullable = false)
+    private UUID collaborationId;
+
+    @Column(name = "projectId")
+    private UUID projectId;
+
+    @Column(name = "companyId")
+    private UUID companyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CollaborationEventKind kind;
+
+    @Enumerated(EnumType.STRING)
+    private CollaborationStatus status;
+
+    @Column(name = "achievedValue")
+    private Double achievedValue;
+
+    @Column(name = "occurredAt", nullable = false)
+    private Instant occurredAt;
+
+    public static CollaborationEvent of(CollaborationEventKind kind, Collaboration collaboration) {
+        CollaborationEvent event = new CollaborationEvent();
+        event.setCollaborationId(collaboration.getId());
+        event.setProjectId(collaboration.getProject() != null ? collaboration.getProject().getId() : null);
+        event.setCompanyId(collaboration.getCompany() != null ? collaboration.getCompany().getId() : null);
+        event.setKind(kind);
+        event.setStatus(collaboration.getStatus());
+        event.setAchievedValue(collaboration.getAchievedValue());
+        return event;
+    }
+
+    /** Whether both events describe the same project, company, status and achieved value. */
+    public boolean sameStateAs(CollaborationEvent other) {
+        return Objects.equals(projectId, other.projectId)
+            && Objects.equals(companyId, other.companyId)
+            && status == other.status
+            && Objects.equals(achievedValue, other.achievedValue);
+    }
+}
@@ -0,0 +1,32 @@
+package kolab.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Header of a materialized collaboration state: its rows in
+ * {@code collaboration_snapshot_row} hold every live collaboration as of
+ * {@code asOf}, built from the previous snapshot plus the events since.
+ */
+@Entity
+@Table(name = "collaboration_snapshot")
+@Getter
+@Setter
+public class CollaborationSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "asOf", nullable = false)
+    private Instant asOf;
+
+    @Column(name = "collaborationCount", nullable = false)
+    private long collaborationCount;
+
+    @Column(name = "createdAt", nullable = false)
+    private Instant createdAt;
+}
@@ -3,13 +3,18 @@ package kolab.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Email;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.UUID;
 
 @Entity
+@NamedEntityGraph(name = "Contact.detail",
+    attributeNodes = @NamedAttributeNode(value = "company", subgraph = "company"),
+    subgraphs = @NamedSubgraph(name = "company", attributeNodes = @NamedAttributeNode("industry")))
 @Table(name = "company_contact")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Getter
 @Setter
 public class Contact {
@@ -17,7 +22,7 @@ public class Contact {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "companyId", nullable = false)
     private Company company;
 
@@ -2,12 +2,14 @@ package kolab.domain;
 
 import jakarta.persistence.*;
 import javax.validation.constraints.*;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Getter;
 import lombok.Setter;
 import java.util.UUID;
 
 @Entity
 @Table(name = "industry")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Getter
 @Setter
 public class Industry {
@@ -3,8 +3,13 @@ package kolab.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.ZonedDateTime;
 import java.util.UUID;
@@ -12,7 +17,15 @@ import java.util.UUID;
 import kolab.domain.enums.ProjectType;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "kolab.project")
+@NamedEntityGraph(name = "Project.detail", attributeNodes = {
+    @NamedAttributeNode("category"),
+    @NamedAttributeNode("responsible")
+})
 @Table(name = "project")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Getter
 @Setter
 public class Project {
@@ -20,7 +33,12 @@ public class Project {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @ManyToOne
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "categoryId", nullable = false)
     private Category category;
 
@@ -43,7 +61,7 @@ public class Project {
     @Column
     private Long goal;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "responsibleId", nullable = false)
     private User responsible;
 }
\ No newline at end of file
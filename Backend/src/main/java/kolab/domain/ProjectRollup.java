@@ -0,0 +1,41 @@
+package kolab.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+
+/**
+ * Read model holding the collaboration count and achieved value of one
+ * project per status and category. Rows are maintained incrementally by
+ * the collaboration write paths, so dashboards read them by primary key
+ * instead of aggregating the collaboration table.
+ */
+@Entity
+@Table(name = "project_rollup")
+@IdClass(ProjectRollupId.class)
+@Getter
+@Setter
+public class ProjectRollup {
+    @Id
+    @Column(name = "projectId")
+    private UUID projectId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private CollaborationStatus status;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private CollaborationCategory category;
+
+    @Column(name = "collaborationCount", nullable = false)
+    private long collaborationCount;
+
+    @Column(name = "achievedValue", nullable = false)
+    private double achievedValue;
+}
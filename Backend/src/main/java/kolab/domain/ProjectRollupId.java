@@ -0,0 +1,23 @@
+package kolab.domain;
+
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ProjectRollupId implements Serializable {
+    private UUID projectId;
+    private CollaborationStatus status;
+    private CollaborationCategory category;
+}
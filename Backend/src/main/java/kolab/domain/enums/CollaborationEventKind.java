@@ -0,0 +1,7 @@
+package kolab.domain.enums;
+
+public enum CollaborationEventKind {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,21 @@
+package kolab.dto;
+
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class BatchCollaborationDTO {
+    public static final int MAX_COMPANIES = 5000;
+
+    private UUID projectId;
+    private List<UUID> companyIds;
+    private CollaborationCategory category;
+    private CollaborationStatus status = CollaborationStatus.TODO;
+    private UUID responsibleId;
+}
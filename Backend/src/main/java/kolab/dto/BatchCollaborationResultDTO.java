@@ -0,0 +1,18 @@
+package kolab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCollaborationResultDTO {
+    private int created;
+    private List<UUID> skippedCompanyIds;
+}
@@ -11,6 +11,7 @@ import java.util.UUID;
 @Setter
 public class CollaborationDTO {
     private UUID id;
+    private Long version;
     private UUID projectId;
     private UUID companyId;
     private UUID contactId;
@@ -0,0 +1,23 @@
+package kolab.dto;
+
+import kolab.domain.enums.CollaborationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollaborationStateDTO {
+    private UUID collaborationId;
+    private UUID projectId;
+    private UUID companyId;
+    private CollaborationStatus status;
+    private Double achievedValue;
+    private Instant changedAt;
+}
@@ -11,6 +11,7 @@ import java.util.UUID;
 @Setter
 public class CompanyDTO {
     private UUID id;
+    private Long version;
     private UUID industryId;
     private String name;
     private CompanyCategorization categorization;
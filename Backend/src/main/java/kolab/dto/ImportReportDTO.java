@@ -0,0 +1,30 @@
+package kolab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class ImportReportDTO {
+    private int totalRows;
+    private int imported;
+    private List<RowError> errors = new ArrayList<>();
+
+    public void reject(int line, String message) {
+        errors.add(new RowError(line, message));
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int line;
+        private String message;
+    }
+}
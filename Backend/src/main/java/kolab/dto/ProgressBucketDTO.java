@@ -0,0 +1,19 @@
+package kolab.dto;
+
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressBucketDTO {
+    private CollaborationStatus status;
+    private CollaborationCategory category;
+    private long count;
+    private double achievedValue;
+}
@@ -11,6 +11,7 @@ import java.util.UUID;
 @Setter
 public class ProjectDTO {
     private UUID id;
+    private Long version;
     private UUID categoryId;
     private String name;
     private ProjectType type;
@@ -0,0 +1,20 @@
+package kolab.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class ProjectProgressDTO {
+    private UUID projectId;
+    private Long goal;
+    private long collaborationCount;
+    private double achievedValue;
+    private Double percentageOfGoal;
+    private List<ProgressBucketDTO> byStatus;
+    private List<ProgressBucketDTO> byCategory;
+    private List<ProgressBucketDTO> buckets;
+}
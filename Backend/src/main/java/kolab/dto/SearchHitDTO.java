@@ -0,0 +1,20 @@
+package kolab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDTO {
+    private String type;
+    private UUID id;
+    private String title;
+    private String subtitle;
+    private double score;
+}
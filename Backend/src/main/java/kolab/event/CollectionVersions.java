@@ -0,0 +1,121 @@
+package kolab.event;
+
+import kolab.domain.*;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic change counters per entity collection and per changed row,
+ * bumped by the services' {@link EntityChangedEvent}s after commit. ETags
+ * are derived from them alone, so answering a conditional GET needs neither
+ * the database nor serialization.
+ *
+ * <p>Counters live in memory and restart from zero, so every tag carries a
+ * random per-process epoch. A tag also folds in the counters of the
+ * collections whose data is embedded in the JSON (a company carries its
+ * industry), so renaming an industry invalidates cached companies.
+ *
+ * <p>Only the last {@value #MAX_ROW_VERSIONS} changed rows of each type keep
+ * their own counter. Every other row shares the type's floor, the newest
+ * counter that was dropped, so memory stays bounded and a row can never get
+ * back a tag that an older state of it was served under.
+ *
+ * <p>The counters only see writes made by this process. With more than one
+ * instance, one that missed a write would keep answering 304 to its old
+ * tag, so {@code kolab.conditional-get.enabled} must be turned off there.
+ */
+@Component
+public class CollectionVersions {
+    static final int MAX_ROW_VERSIONS = 10_000;
+    private static final Map<Class<?>, List<Class<?>>> EMBEDS = Map.of(
+        Company.class, List.of(Industry.class),
+        Project.class, List.of(Category.class, User.class),
+        Contact.class, List.of(Company.class, Industry.class));
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final Map<Class<?>, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, RowVersions> rowVersions = new ConcurrentHashMap<>();
+
+    // Deleted rows keep their entry too: falling back to the floor could hand
+    // out the tag the row had before it was ever changed.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        long version = counter(event.type()).incrementAndGet();
+        if (event.kind() != EntityChangedEvent.Kind.CREATED) {
+            rows(event.type()).put(event.id(), version);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesImported(EntitiesImportedEvent event) {
+        counter(event.type()).incrementAndGet();
+    }
+
+    public long version(Class<?> type) {
+        return counter(type).get();
+    }
+
+    public String collectionTag(Class<?> type) {
+        StringBuilder tag = new StringBuilder("\"").append(epoch).append('-').append(version(type));
+        return appendEmbedded(tag, type).append('"').toString();
+    }
+
+    public String rowTag(Class<?> type, UUID id) {
+        RowVersions rows = rowVersions.get(type);
+        StringBuilder tag = new StringBuilder("\"").append(epoch).append("-r").append(rows != null ? rows.get(id) : 0);
+        return appendEmbedded(tag, type).append('"').toString();
+    }
+
+    private StringBuilder appendEmbedded(StringBuilder tag, Class<?> type) {
+        for (Class<?> embedded : EMBEDS.getOrDefault(type, List.of())) {
+            tag.append('.').append(version(embedded));
+        }
+        return tag;
+    }
+
+    int trackedRows(Class<?> type) {
+        RowVersions rows = rowVersions.get(type);
+        return rows != null ? rows.size() : 0;
+    }
+
+    private AtomicLong counter(Class<?> type) {
+        return versions.computeIfAbsent(type, t -> new AtomicLong());
+    }
+
+    private RowVersions rows(Class<?> type) {
+        return rowVersions.computeIfAbsent(type, t -> new RowVersions());
+    }
+
+    private static final class RowVersions {
+        private final LinkedHashMap<UUID, Long> latest = new LinkedHashMap<>();
+        private long floor;
+
+        synchronized void put(UUID id, long version) {
+            // Re-inserted so the map stays ordered by last change
+            latest.remove(id);
+            latest.put(id, version);
+            if (latest.size() > MAX_ROW_VERSIONS) {
+                Iterator<Map.Entry<UUID, Long>> oldest = latest.entrySet().iterator();
+                floor = Math.max(floor, oldest.next().getValue());
+                oldest.remove();
+            }
+        }
+
+        synchronized long get(UUID id) {
+            return latest.getOrDefault(id, floor);
+        }
+
+        synchronized int size() {
+            return latest.size();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package kolab.event;
+
+/**
+ * Published once by a bulk import in place of one {@link EntityChangedEvent}
+ * per row, which would hold every imported entity in memory until commit.
+ * Listeners treat it as "many rows of {@code type} were created" and refresh
+ * their derived state in one go.
+ */
+public record EntitiesImportedEvent(Class<?> type, int count) {
+}
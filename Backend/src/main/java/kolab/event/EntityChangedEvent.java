@@ -0,0 +1,28 @@
+package kolab.event;
+
+import java.util.UUID;
+
+/**
+ * Published by the services after a create, update or delete so that
+ * derived in-memory structures can follow the change. {@code entity} is the
+ * saved state, or null for deletes.
+ */
+public record EntityChangedEvent(Class<?> type, UUID id, Object entity, Kind kind) {
+    public enum Kind {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static EntityChangedEvent created(Class<?> type, UUID id, Object entity) {
+        return new EntityChangedEvent(type, id, entity, Kind.CREATED);
+    }
+
+    public static EntityChangedEvent updated(Class<?> type, UUID id, Object entity) {
+        return new EntityChangedEvent(type, id, entity, Kind.UPDATED);
+    }
+
+    public static EntityChangedEvent deleted(Class<?> type, UUID id) {
+        return new EntityChangedEvent(type, id, null, Kind.DELETED);
+    }
+}
@@ -0,0 +1,48 @@
+package kolab.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps an in-memory structure that is rebuilt from the database in sync
+ * with {@link EntityChangedEvent}s arriving during the rebuild. Changes are
+ * always applied to the live structure; while a rebuild runs they are also
+ * recorded and replayed onto the rebuilt structure right after it is swapped
+ * in, so a change that missed the rebuild's read is not lost. Replaying a
+ * change the read already saw is harmless because applying one is
+ * idempotent.
+ */
+public class RebuildBuffer {
+    private final Object rebuilding = new Object();
+    private List<EntityChangedEvent> pending;
+
+    public synchronized void apply(EntityChangedEvent event, Consumer<EntityChangedEvent> live) {
+        live.accept(event);
+        if (pending != null) {
+            pending.add(event);
+        }
+    }
+
+    public <T> T rebuild(Supplier<T> build, Consumer<T> swap, BiConsumer<T, EntityChangedEvent> replay) {
+        synchronized (rebuilding) {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            try {
+                T rebuilt = build.get();
+                synchronized (this) {
+                    swap.accept(rebuilt);
+                    pending.forEach(event -> replay.accept(rebuilt, event));
+                }
+                return rebuilt;
+            } finally {
+                synchronized (this) {
+                    pending = null;
+                }
+            }
+        }
+    }
+}
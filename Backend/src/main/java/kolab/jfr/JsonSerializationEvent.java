@@ -0,0 +1,27 @@
+package kolab.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("kolab.JsonSerialization")
+@Label("JSON Serialization")
+@Category({"Kolab", "Web"})
+@Description("Jackson writing a response body")
+@StackTrace(false)
+public class JsonSerializationEvent extends Event {
+    @Label("Type")
+    public String type;
+
+    @Label("Rows")
+    @Description("Elements when the body is a collection, otherwise 1")
+    public int rows;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
@@ -0,0 +1,78 @@
+package kolab.jfr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * The JSON message converter, emitting a {@link JsonSerializationEvent}
+ * per response body. The output is only wrapped to count bytes while a
+ * recording has the event enabled.
+ */
+public class RecordingJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    public RecordingJacksonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        JsonSerializationEvent event = new JsonSerializationEvent();
+        if (!event.isEnabled()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        CountingOutputMessage counting = new CountingOutputMessage(outputMessage);
+        event.begin();
+        try {
+            super.writeInternal(object, type, counting);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.type = object.getClass().getSimpleName();
+                event.rows = Rows.of(object);
+                event.bytes = counting.bytes;
+                event.commit();
+            }
+        }
+    }
+
+    private static class CountingOutputMessage implements HttpOutputMessage {
+        private final HttpOutputMessage target;
+        private long bytes;
+
+        CountingOutputMessage(HttpOutputMessage target) {
+            this.target = target;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return new FilterOutputStream(target.getBody()) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    bytes++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    bytes += len;
+                }
+            };
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return target.getHeaders();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package kolab.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Emits a {@link RepositoryQueryEvent} for every call on one Spring Data
+ * repository proxy, derived queries and inherited CRUD methods alike.
+ */
+public class RepositoryEventInterceptor implements MethodInterceptor {
+    private final String repository;
+
+    public RepositoryEventInterceptor(Class<?> repositoryInterface) {
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryQueryEvent event = new RepositoryQueryEvent();
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repository;
+                event.method = invocation.getMethod().getName();
+                event.rows = failed ? 0 : Rows.of(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package kolab.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("kolab.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Kolab", "Repository"})
+@Description("A call to a Spring Data repository method")
+@StackTrace(false)
+public class RepositoryQueryEvent extends Event {
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Rows")
+    @Description("Entities returned")
+    public int rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
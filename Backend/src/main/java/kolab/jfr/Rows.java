@@ -0,0 +1,54 @@
+package kolab.jfr;
+
+import kolab.dto.CursorPage;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.BaseStream;
+
+/**
+ * How many rows a call returned or was asked about, for the event fields.
+ * Streams count as none, since they are consumed after the call returns.
+ */
+final class Rows {
+
+    private Rows() {
+    }
+
+    static int of(Object result) {
+        if (result == null || result instanceof BaseStream<?, ?>) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof CursorPage<?> page) {
+            return page.getItems().size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Object[] array) {
+            return array.length;
+        }
+        return 1;
+    }
+
+    static int ids(Object[] args) {
+        int ids = 0;
+        for (Object arg : args) {
+            if (arg instanceof UUID) {
+                ids++;
+            } else if (arg instanceof Collection<?> collection && !collection.isEmpty()
+                    && collection.iterator().next() instanceof UUID) {
+                ids += collection.size();
+            }
+        }
+        return ids;
+    }
+}
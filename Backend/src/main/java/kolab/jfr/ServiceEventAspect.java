@@ -0,0 +1,39 @@
+package kolab.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Emits a {@link ServiceOperationEvent} around every public
+ * {@code *ServiceJpa} method. While no recording enables the event,
+ * {@code shouldCommit} is false and the fields are never filled.
+ */
+@Aspect
+public class ServiceEventAspect {
+    private static final String SUFFIX = "ServiceJpa";
+
+    @Around("execution(public * kolab.service.impl.*ServiceJpa.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.entityType = service.endsWith(SUFFIX) ? service.substring(0, service.length() - SUFFIX.length()) : service;
+                event.operation = joinPoint.getSignature().getName();
+                event.ids = Rows.ids(joinPoint.getArgs());
+                event.rows = failed ? 0 : Rows.of(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+}
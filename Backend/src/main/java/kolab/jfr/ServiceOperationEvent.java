@@ -0,0 +1,32 @@
+package kolab.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("kolab.ServiceOperation")
+@Label("Service Operation")
+@Category({"Kolab", "Service"})
+@Description("A call to a *ServiceJpa method")
+@StackTrace(false)
+public class ServiceOperationEvent extends Event {
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Ids")
+    @Description("Entity ids passed in")
+    public int ids;
+
+    @Label("Rows")
+    @Description("Entities returned")
+    public int rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
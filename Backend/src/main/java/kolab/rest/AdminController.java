@@ -0,0 +1,176 @@
+package kolab.rest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import kolab.domain.CollaborationSnapshot;
+import kolab.service.CollaborationHistoryService;
+import kolab.service.FlightRecorderService;
+import kolab.service.ProjectRollupService;
+import kolab.service.SearchService;
+import kolab.service.SuggestService;
+import kolab.exception.ConflictException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    @Autowired
+    private ProjectRollupService projectRollupService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private SuggestService suggestService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired(required = false)
+    private SqlStatsFilter sqlStatsFilter;
+
+    @Autowired
+    private FlightRecorderService flightRecorderService;
+
+    @Autowired
+    private CollaborationHistoryService collaborationHistoryService;
+
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<?> rebuildRollups() {
+        int rows = projectRollupService.rebuild();
+        return ResponseEntity.ok(Map.of("rows", rows));
+    }
+
+    @PostMapping("/rollups/rebuild/{projectId}")
+    public ResponseEntity<?> rebuildProjectRollup(@PathVariable UUID projectId) {
+        int rows = projectRollupService.rebuild(projectId);
+        return ResponseEntity.ok(Map.of("rows", rows));
+    }
+
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<?> rebuildSearchIndex() {
+        searchService.rebuild();
+        return ResponseEntity.ok(searchService.getIndexSizes());
+    }
+
+    @PostMapping("/suggest/rebuild")
+    public ResponseEntity<?> rebuildSuggestions() {
+        suggestService.rebuild();
+        return ResponseEntity.ok(suggestService.getSizes());
+    }
+
+    @GetMapping("/caches")
+    public ResponseEntity<?> getCacheStats() {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            // The caches are wrapped for transaction-aware eviction, the native one is underneath
+            if (cacheManager.getCache(name).getNativeCache() instanceof Cache<?, ?> cache) {
+                CacheStats stats = cache.stats();
+                caches.put(name, Map.of(
+                    "size", cache.estimatedSize(),
+                    "hits", stats.hitCount(),
+                    "misses", stats.missCount(),
+                    "hitRate", stats.hitRate(),
+                    "evictions", stats.evictionCount()));
+            }
+        }
+        return ResponseEntity.ok(caches);
+    }
+
+    @GetMapping("/caches/regions")
+    public ResponseEntity<?> getCacheRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region == null) {
+                continue;
+            }
+            regions.put(name, Map.of(
+                "hits", region.getHitCount(),
+                "misses", region.getMissCount(),
+                "puts", region.getPutCount()));
+        }
+        regions.put("queryCache", Map.of(
+            "hits", statistics.getQueryCacheHitCount(),
+            "misses", statistics.getQueryCacheMissCount(),
+            "puts", statistics.getQueryCachePutCount()));
+        return ResponseEntity.ok(regions);
+    }
+
+    @GetMapping("/sql")
+    public ResponseEntity<?> getSqlStats() {
+        if (sqlStatsFilter == null) {
+            return ResponseEntity.notFound().build();
+        }
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        sqlStatsFilter.getEndpoints().forEach((name, endpoint) -> {
+            long requests = Math.max(1, endpoint.getRequests());
+            endpoints.put(name, Map.of(
+                "requests", endpoint.getRequests(),
+                "statements", endpoint.getStatements(),
+                "statementsPerRequest", (double) endpoint.getStatements() / requests,
+                "maxStatements", endpoint.getMaxStatements(),
+                "rowsPerRequest", (double) endpoint.getRows() / requests,
+                "jdbcMillisPerRequest", endpoint.getJdbcNanos() / 1e6 / requests));
+        });
+        return ResponseEntity.ok(endpoints);
+    }
+
+    @GetMapping("/jfr")
+    public ResponseEntity<?> getRecording() {
+        return ResponseEntity.ok(flightRecorderService.getStatus());
+    }
+
+    @PostMapping("/jfr/start")
+    public ResponseEntity<?> startRecording() {
+        try {
+            return ResponseEntity.ok(flightRecorderService.start());
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/jfr/stop")
+    public ResponseEntity<?> stopRecording() {
+        return ResponseEntity.ok(flightRecorderService.stop());
+    }
+
+    @PostMapping("/jfr/dump")
+    public ResponseEntity<?> dumpRecording() {
+        try {
+            return ResponseEntity.ok(Map.of("file", flightRecorderService.dump().toString()));
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/history/snapshots")
+    public ResponseEntity<List<CollaborationSnapshot>> getHistorySnapshots() {
+        return ResponseEntity.ok(collaborationHistoryService.getSnapshots());
+    }
+
+    @PostMapping("/history/snapshot")
+    public ResponseEntity<CollaborationSnapshot> takeHistorySnapshot() {
+        return ResponseEntity.ok(collaborationHistoryService.takeSnapshot());
+    }
+}
@@ -3,6 +3,7 @@ package kolab.rest;
 import kolab.domain.User;
 import kolab.service.UserService;
 import kolab.service.JwtService;
+import kolab.service.SessionTokenService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +18,9 @@ public class AuthController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
     @PostMapping("/login")
     public ResponseEntity<?> loginUser(@RequestHeader("Authorization") String authHeader) {
         try {
@@ -34,7 +38,10 @@ public class AuthController {
                     .body("User not found");
             }
 
-            return ResponseEntity.ok(user);
+            // Later requests authenticate with this instead of the Google token
+            return ResponseEntity.ok()
+                .header(SessionTokenService.HEADER, sessionTokenService.issue(user))
+                .body(user);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body("Invalid token format");
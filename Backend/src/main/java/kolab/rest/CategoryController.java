@@ -25,11 +25,13 @@ public class CategoryController {
     private ProjectService projectService;
 
     @GetMapping
+    @ConditionalGet(Category.class)
     public ResponseEntity<List<Category>> getAllCategories() {
         return ResponseEntity.ok(categoryService.getAllCategories());
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet(Category.class)
     public ResponseEntity<Category> getCategoryById(@PathVariable UUID id) {
         try {
             return ResponseEntity.ok(categoryService.getCategoryById(id));
@@ -1,10 +1,20 @@
 package kolab.rest;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.domain.Collaboration;
+import kolab.domain.CollaborationEvent;
+import kolab.dto.BatchCollaborationDTO;
+import kolab.dto.BatchCollaborationResultDTO;
+import kolab.dto.CursorPage;
+import kolab.service.CollaborationHistoryService;
 import kolab.service.CollaborationService;
+import kolab.exception.ConflictException;
 import kolab.exception.NotFoundException;
+import kolab.util.MergePatch;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
@@ -28,6 +38,9 @@ public class CollaborationController {
     @Autowired
     private CollaborationService collaborationService;
     
+    @Autowired
+    private CollaborationHistoryService collaborationHistoryService;
+
     @Autowired
     private ProjectService projectService;
     
@@ -41,9 +54,18 @@ public class CollaborationController {
     private UserService userService;
 
     @GetMapping("")
-    public ResponseEntity<List<Collaboration>> getCollaborations() {
-        List<Collaboration> collaborations = collaborationService.getCollaborations();
-        return ResponseEntity.ok(collaborations);
+    public ResponseEntity<?> getCollaborations(@RequestParam(required = false) String after,
+                                               @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            List<Collaboration> collaborations = collaborationService.getCollaborations();
+            return ResponseEntity.ok(collaborations);
+        }
+        try {
+            CursorPage<Collaboration> page = collaborationService.getCollaborations(after, CursorPage.clampLimit(limit));
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
@@ -56,6 +78,11 @@ public class CollaborationController {
         }
     }
 
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<CollaborationEvent>> getCollaborationHistory(@PathVariable UUID id) {
+        return ResponseEntity.ok(collaborationHistoryService.getCollaborationTimeline(id));
+    }
+
     @PostMapping("")
     public ResponseEntity<?> createCollaboration(@Valid @RequestBody CollaborationDTO collaborationDTO) {
         try {
@@ -101,15 +128,7 @@ public class CollaborationController {
                 }
             }
 
-            Collaboration collaboration = new Collaboration();
-            collaboration.setProject(project);
-            collaboration.setCompany(company);
-            collaboration.setContact(contact);
-            collaboration.setResponsible(responsible);
-            collaboration.setCategory(collaborationDTO.getCategory());
-            collaboration.setStatus(collaborationDTO.getStatus());
-            collaboration.setComment(collaborationDTO.getComment());
-            collaboration.setAchievedValue(collaborationDTO.getAchievedValue());
+            Collaboration collaboration = toCollaboration(collaborationDTO, project, company, contact, responsible);
 
             Collaboration createdCollaboration = collaborationService.createCollaboration(collaboration);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdCollaboration);
@@ -118,6 +137,16 @@ public class CollaborationController {
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<?> createCollaborations(@RequestBody BatchCollaborationDTO batchDTO) {
+        try {
+            BatchCollaborationResultDTO result = collaborationService.createCollaborations(batchDTO);
+            return ResponseEntity.status(HttpStatus.CREATED).body(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateCollaboration(@PathVariable UUID id, @Valid @RequestBody CollaborationDTO collaborationDTO) {
         try {
@@ -128,21 +157,29 @@ public class CollaborationController {
             User responsible = collaborationDTO.getResponsibleId() != null ? 
                 userService.getUserById(collaborationDTO.getResponsibleId()) : null;
 
-            Collaboration collaboration = new Collaboration();
-            collaboration.setProject(project);
-            collaboration.setCompany(company);
-            collaboration.setContact(contact);
-            collaboration.setResponsible(responsible);
-            collaboration.setCategory(collaborationDTO.getCategory());
-            collaboration.setStatus(collaborationDTO.getStatus());
-            collaboration.setComment(collaborationDTO.getComment());
-            collaboration.setAchievedValue(collaborationDTO.getAchievedValue());
+            Collaboration collaboration = toCollaboration(collaborationDTO, project, company, contact, responsible);
+            collaboration.setVersion(collaborationDTO.getVersion());
 
             Collaboration updatedCollaboration = collaborationService.updateCollaboration(id, collaboration);
             return ResponseEntity.ok(updatedCollaboration);
         } catch (NotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body("Collaboration or one of the referenced entities not found");
+        } catch (ConflictException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> patchCollaboration(@PathVariable UUID id, @RequestBody JsonNode patch) {
+        try {
+            return ResponseEntity.ok(collaborationService.patchCollaboration(id, patch));
+        } catch (NotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (ConflictException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
@@ -153,4 +190,18 @@ public class CollaborationController {
         collaborationService.deleteCollaboration(collaborationId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    static Collaboration toCollaboration(CollaborationDTO collaborationDTO, Project project, Company company,
+                                         Contact contact, User responsible) {
+        Collaboration collaboration = new Collaboration();
+        collaboration.setProject(project);
+        collaboration.setCompany(company);
+        collaboration.setContact(contact);
+        collaboration.setResponsible(responsible);
+        collaboration.setCategory(collaborationDTO.getCategory());
+        collaboration.setStatus(collaborationDTO.getStatus());
+        collaboration.setComment(collaborationDTO.getComment());
+        collaboration.setAchievedValue(collaborationDTO.getAchievedValue());
+        return collaboration;
+    }
+}
@@ -1,14 +1,22 @@
 package kolab.rest;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.domain.Company;
+import kolab.dto.CursorPage;
 import kolab.service.CompanyService;
+import kolab.exception.ConflictException;
 import kolab.exception.NotFoundException;
+import kolab.util.MergePatch;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.time.Instant;
 import java.util.UUID;
 import kolab.service.IndustryService;
 import kolab.service.ContactService;
@@ -17,7 +25,15 @@ import kolab.domain.Contact;
 import kolab.dto.CompanyDTO;
 import kolab.domain.Industry;
 import kolab.service.CollaborationService;
+import kolab.service.CollaborationHistoryService;
+import kolab.dto.CollaborationStateDTO;
 import kolab.domain.Collaboration;
+import kolab.dto.ImportReportDTO;
+import kolab.service.ImportService;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequestMapping("/api/companies")
@@ -35,13 +51,30 @@ public class CompanyController {
     @Autowired
     private CollaborationService collaborationService;
 
+    @Autowired
+    private CollaborationHistoryService collaborationHistoryService;
+
+    @Autowired
+    private ImportService importService;
+
     @GetMapping("")
-    public ResponseEntity<List<Company>> getCompanies() {
-        List<Company> companies = companyService.getCompanies();
-        return ResponseEntity.ok(companies);
+    @ConditionalGet(Company.class)
+    public ResponseEntity<?> getCompanies(@RequestParam(required = false) String after,
+                                          @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            List<Company> companies = companyService.getCompanies();
+            return ResponseEntity.ok(companies);
+        }
+        try {
+            CursorPage<Company> page = companyService.getCompanies(after, CursorPage.clampLimit(limit));
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet(Company.class)
     public ResponseEntity<?> getCompanyById(@PathVariable UUID id) {
         try {
             Company company = companyService.getCompanyById(id);
@@ -66,18 +99,7 @@ public class CompanyController {
                     .body("Invalid industry ID: " + companyDTO.getIndustryId());
             }
 
-            Company company = new Company();
-            company.setIndustry(industry);
-            company.setName(companyDTO.getName());
-            company.setCategorization(companyDTO.getCategorization());
-            company.setBudgetPlanningMonth(companyDTO.getBudgetPlanningMonth());
-            company.setCountry(companyDTO.getCountry());
-            company.setZip(companyDTO.getZip());
-            company.setCity(companyDTO.getCity());
-            company.setAddress(companyDTO.getAddress());
-            company.setWebLink(companyDTO.getWebLink());
-            company.setDescription(companyDTO.getDescription());
-            company.setContactInFuture(companyDTO.isContactInFuture());
+            Company company = toCompany(companyDTO, industry);
 
             Company createdCompany = companyService.createCompany(company);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdCompany);
@@ -86,28 +108,43 @@ public class CompanyController {
         }
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importCompanies(@RequestParam("file") MultipartFile file) {
+        try (Reader csv = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            ImportReportDTO report = importService.importCompanies(csv);
+            return ResponseEntity.ok(report);
+        } catch (IllegalArgumentException | IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateCompany(@PathVariable UUID id, @Valid @RequestBody CompanyDTO companyDTO) {
         try {
             Industry industry = industryService.getIndustryById(companyDTO.getIndustryId());
 
-            Company company = new Company();
-            company.setIndustry(industry);
-            company.setName(companyDTO.getName());
-            company.setCategorization(companyDTO.getCategorization());
-            company.setBudgetPlanningMonth(companyDTO.getBudgetPlanningMonth());
-            company.setCountry(companyDTO.getCountry());
-            company.setZip(companyDTO.getZip());
-            company.setCity(companyDTO.getCity());
-            company.setAddress(companyDTO.getAddress());
-            company.setWebLink(companyDTO.getWebLink());
-            company.setDescription(companyDTO.getDescription());
-            company.setContactInFuture(companyDTO.isContactInFuture());
+            Company company = toCompany(companyDTO, industry);
+            company.setVersion(companyDTO.getVersion());
 
             Company updatedCompany = companyService.updateCompany(id, company);
             return ResponseEntity.ok(updatedCompany);
         } catch (NotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Company or Industry not found");
+        } catch (ConflictException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> patchCompany(@PathVariable UUID id, @RequestBody JsonNode patch) {
+        try {
+            return ResponseEntity.ok(companyService.patchCompany(id, patch));
+        } catch (NotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (ConflictException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
@@ -199,4 +236,37 @@ public class CompanyController {
         List<Collaboration> collaborations = collaborationService.getCollaborationsByCompanyId(companyId);
         return ResponseEntity.ok(collaborations);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{companyId}/collaborations/history")
+    public ResponseEntity<?> getCollaborationHistoryByCompanyId(@PathVariable UUID companyId,
+                                                           @RequestParam(required = false) Instant from,
+                                                           @RequestParam(required = false) Instant to) {
+        try {
+            return ResponseEntity.ok(collaborationHistoryService.getCompanyTimeline(companyId, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{companyId}/collaborations/as-of")
+    public ResponseEntity<List<CollaborationStateDTO>> getCollaborationsAsOfByCompanyId(@PathVariable UUID companyId,
+                                                                                 @RequestParam Instant date) {
+        return ResponseEntity.ok(collaborationHistoryService.getCompanyStateAsOf(companyId, date));
+    }
+
+    static Company toCompany(CompanyDTO companyDTO, Industry industry) {
+        Company company = new Company();
+        company.setIndustry(industry);
+        company.setName(companyDTO.getName());
+        company.setCategorization(companyDTO.getCategorization());
+        company.setBudgetPlanningMonth(companyDTO.getBudgetPlanningMonth());
+        company.setCountry(companyDTO.getCountry());
+        company.setZip(companyDTO.getZip());
+        company.setCity(companyDTO.getCity());
+        company.setAddress(companyDTO.getAddress());
+        company.setWebLink(companyDTO.getWebLink());
+        company.setDescription(companyDTO.getDescription());
+        company.setContactInFuture(companyDTO.isContactInFuture());
+        return company;
+    }
+}
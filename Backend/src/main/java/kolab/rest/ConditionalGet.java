@@ -0,0 +1,19 @@
+package kolab.rest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET handler whose response is fully determined by the version
+ * counters of {@link #value()}; {@link ConditionalGetInterceptor} answers
+ * matching {@code If-None-Match} requests with 304 before it runs. Handlers
+ * with an {@code {id}} path variable are tagged per row, others per
+ * collection.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+    Class<?> value();
+}
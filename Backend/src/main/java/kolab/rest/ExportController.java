@@ -0,0 +1,131 @@
+package kolab.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import kolab.domain.Collaboration;
+import kolab.domain.Company;
+import kolab.service.ExportService;
+import kolab.util.Csv;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private static final int FLUSH_EVERY = 500;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @GetMapping("/collaborations")
+    public ResponseEntity<?> exportCollaborations(@RequestParam(defaultValue = "ndjson") String format) {
+        if ("ndjson".equals(format)) {
+            return stream("collaborations.ndjson", NDJSON, ndjson(exportService::exportCollaborations));
+        }
+        if ("csv".equals(format)) {
+            return stream("collaborations.csv", CSV, csv(exportService::exportCollaborations,
+                Csv.row("id", "projectId", "project", "companyId", "company", "contactId", "contactEmail",
+                    "responsibleId", "responsibleEmail", "category", "status", "achievedValue", "comment"),
+                ExportController::collaborationRow));
+        }
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Unsupported export format: " + format);
+    }
+
+    @GetMapping("/companies")
+    public ResponseEntity<?> exportCompanies(@RequestParam(defaultValue = "ndjson") String format) {
+        if ("ndjson".equals(format)) {
+            return stream("companies.ndjson", NDJSON, ndjson(exportService::exportCompanies));
+        }
+        if ("csv".equals(format)) {
+            return stream("companies.csv", CSV, csv(exportService::exportCompanies,
+                Csv.row("id", "name", "industry", "categorization", "budgetPlanningMonth", "country", "zip",
+                    "city", "address", "webLink", "description", "contactInFuture"),
+                ExportController::companyRow));
+        }
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Unsupported export format: " + format);
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String filename, MediaType type, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .contentType(type)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .body(body);
+    }
+
+    private <T> StreamingResponseBody ndjson(Consumer<Consumer<T>> export) {
+        // Flushing is batched below; by default writeValue would flush after every row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                int[] written = {0};
+                export.accept(row -> {
+                    try {
+                        writer.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                        if (++written[0] == 1 || written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+
+    private <T> StreamingResponseBody csv(Consumer<Consumer<T>> export, String header, Function<T, String> toRow) {
+        return out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(header);
+            writer.flush();
+            int[] written = {0};
+            export.accept(row -> {
+                try {
+                    writer.write(toRow.apply(row));
+                    if (++written[0] % FLUSH_EVERY == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+    }
+
+    static String collaborationRow(Collaboration c) {
+        return Csv.row(c.getId(),
+            c.getProject().getId(), c.getProject().getName(),
+            c.getCompany().getId(), c.getCompany().getName(),
+            c.getContact() != null ? c.getContact().getId() : null,
+            c.getContact() != null ? c.getContact().getEmail() : null,
+            c.getResponsible() != null ? c.getResponsible().getId() : null,
+            c.getResponsible() != null ? c.getResponsible().getEmail() : null,
+            c.getCategory(), c.getStatus(), c.getAchievedValue(), c.getComment());
+    }
+
+    static String companyRow(Company c) {
+        return Csv.row(c.getId(), c.getName(), c.getIndustry() != null ? c.getIndustry().getName() : null,
+            c.getCategorization(), c.getBudgetPlanningMonth(), c.getCountry(), c.getZip(), c.getCity(),
+            c.getAddress(), c.getWebLink(), c.getDescription(), c.isContactInFuture());
+    }
+}
@@ -23,11 +23,13 @@ public class IndustryController {
     private CompanyService companyService;
 
     @GetMapping
+    @ConditionalGet(Industry.class)
     public ResponseEntity<List<Industry>> getAllIndustries() {
         return ResponseEntity.ok(industryService.getAllIndustries());
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet(Industry.class)
     public ResponseEntity<Industry> getIndustryById(@PathVariable UUID id) {
         try {
             return ResponseEntity.ok(industryService.getIndustryById(id));
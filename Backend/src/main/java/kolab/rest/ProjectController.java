@@ -1,21 +1,30 @@
 package kolab.rest;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.domain.Project;
+import kolab.dto.CursorPage;
 import kolab.domain.Category;
 import kolab.domain.User;
 import kolab.dto.ProjectDTO;
 import kolab.service.ProjectService;
 import kolab.service.CategoryService;
 import kolab.service.UserService;
+import kolab.exception.ConflictException;
 import kolab.exception.NotFoundException;
+import kolab.util.MergePatch;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.time.Instant;
 import java.util.UUID;
 import kolab.service.CollaborationService;
+import kolab.service.CollaborationHistoryService;
+import kolab.dto.CollaborationStateDTO;
 import kolab.domain.Collaboration;
 
 @RestController
@@ -34,13 +43,27 @@ public class ProjectController {
     @Autowired
     private CollaborationService collaborationService;
 
+    @Autowired
+    private CollaborationHistoryService collaborationHistoryService;
+
     @GetMapping("")
-    public ResponseEntity<List<Project>> getProjects() {
-        List<Project> projects = projectService.getProjects();
-        return ResponseEntity.ok(projects);
+    @ConditionalGet(Project.class)
+    public ResponseEntity<?> getProjects(@RequestParam(required = false) String after,
+                                         @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            List<Project> projects = projectService.getProjects();
+            return ResponseEntity.ok(projects);
+        }
+        try {
+            CursorPage<Project> page = projectService.getProjects(after, CursorPage.clampLimit(limit));
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet(Project.class)
     public ResponseEntity<?> getProjectById(@PathVariable UUID id) {
         try {
             Project project = projectService.getProjectById(id);
@@ -75,14 +98,7 @@ public class ProjectController {
                     .body("Invalid responsible user ID: " + projectDTO.getResponsibleId());
             }
 
-            Project project = new Project();
-            project.setCategory(category);
-            project.setResponsible(responsible);
-            project.setName(projectDTO.getName());
-            project.setType(projectDTO.getType());
-            project.setStartDate(projectDTO.getStartDate());
-            project.setEndDate(projectDTO.getEndDate());
-            project.setGoal(projectDTO.getGoal());
+            Project project = toProject(projectDTO, category, responsible);
 
             Project createdProject = projectService.createProject(project);
             return ResponseEntity.status(HttpStatus.CREATED).body(createdProject);
@@ -116,19 +132,28 @@ public class ProjectController {
                     .body("Invalid responsible user ID: " + projectDTO.getResponsibleId());
             }
 
-            Project project = new Project();
-            project.setCategory(category);
-            project.setResponsible(responsible);
-            project.setName(projectDTO.getName());
-            project.setType(projectDTO.getType());
-            project.setStartDate(projectDTO.getStartDate());
-            project.setEndDate(projectDTO.getEndDate());
-            project.setGoal(projectDTO.getGoal());
+            Project project = toProject(projectDTO, category, responsible);
+            project.setVersion(projectDTO.getVersion());
 
             Project updatedProject = projectService.updateProject(id, project);
             return ResponseEntity.ok(updatedProject);
         } catch (NotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Project not found");
+        } catch (ConflictException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> patchProject(@PathVariable UUID id, @RequestBody JsonNode patch) {
+        try {
+            return ResponseEntity.ok(projectService.patchProject(id, patch));
+        } catch (NotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Project not found");
+        } catch (ConflictException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
@@ -140,9 +165,48 @@ public class ProjectController {
         return ResponseEntity.ok(collaborations);
     }
 
+    @GetMapping("/{projectId}/collaborations/history")
+    public ResponseEntity<?> getCollaborationHistoryByProjectId(@PathVariable UUID projectId,
+                                                           @RequestParam(required = false) Instant from,
+                                                           @RequestParam(required = false) Instant to) {
+        try {
+            return ResponseEntity.ok(collaborationHistoryService.getProjectTimeline(projectId, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{projectId}/collaborations/as-of")
+    public ResponseEntity<List<CollaborationStateDTO>> getCollaborationsAsOfByProjectId(@PathVariable UUID projectId,
+                                                                                 @RequestParam Instant date) {
+        return ResponseEntity.ok(collaborationHistoryService.getProjectStateAsOf(projectId, date));
+    }
+
+    @GetMapping("/{projectId}/progress")
+    public ResponseEntity<?> getProjectProgress(@PathVariable UUID projectId) {
+        try {
+            Project project = projectService.getProjectById(projectId);
+            return ResponseEntity.ok(collaborationService.getProjectProgress(project));
+        } catch (NotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
     @DeleteMapping("/{projectId}")
     public ResponseEntity<Void> deleteProject(@PathVariable UUID projectId) {
         projectService.deleteProject(projectId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    static Project toProject(ProjectDTO projectDTO, Category category, User responsible) {
+        Project project = new Project();
+        project.setCategory(category);
+        project.setResponsible(responsible);
+        project.setName(projectDTO.getName());
+        project.setType(projectDTO.getType());
+        project.setStartDate(projectDTO.getStartDate());
+        project.setEndDate(projectDTO.getEndDate());
+        project.setGoal(projectDTO.getGoal());
+        return project;
+    }
+}
@@ -0,0 +1,208 @@
+package kolab.rest;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import kolab.util.SqlStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the SQL each API request issues and aggregates it per endpoint
+ * ({@code GET /api/projects/{projectId}}). With headers on, every response
+ * also carries its own counts, stamped just before the body is written.
+ * Requests over the statement threshold are logged; that is usually an
+ * N+1 query. As a {@link MeterBinder} it also publishes the per-endpoint
+ * totals as {@code kolab.sql.*} meters that read the same counters.
+ */
+public class SqlStatsFilter extends OncePerRequestFilter implements MeterBinder {
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    private final boolean headers;
+    private final int warnStatements;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public SqlStatsFilter(boolean headers, int warnStatements) {
+        this.headers = headers;
+        this.warnStatements = warnStatements;
+    }
+
+    /** Totals for one endpoint since startup. */
+    public static class Endpoint {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder jdbcNanos = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+
+        void add(SqlStats stats) {
+            requests.increment();
+            statements.add(stats.getStatements());
+            rows.add(stats.getRows());
+            jdbcNanos.add(stats.getJdbcNanos());
+            maxStatements.accumulate(stats.getStatements());
+        }
+
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        public long getStatements() {
+            return statements.sum();
+        }
+
+        public long getRows() {
+            return rows.sum();
+        }
+
+        public long getJdbcNanos() {
+            return jdbcNanos.sum();
+        }
+
+        public long getMaxStatements() {
+            return maxStatements.get();
+        }
+    }
+
+    public Map<String, Endpoint> getEndpoints() {
+        return new TreeMap<>(endpoints);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        endpoints.forEach((name, endpoint) -> register(registry, name, endpoint));
+    }
+
+    private static void register(MeterRegistry registry, String name, Endpoint endpoint) {
+        int space = name.indexOf(' ');
+        Tags tags = Tags.of("method", name.substring(0, space), "uri", name.substring(space + 1));
+        FunctionCounter.builder("kolab.sql.statements", endpoint, Endpoint::getStatements)
+            .tags(tags).description("SQL statements issued by requests").register(registry);
+        FunctionCounter.builder("kolab.sql.rows", endpoint, Endpoint::getRows)
+            .tags(tags).description("Rows read by requests").register(registry);
+        FunctionTimer.builder("kolab.sql.jdbc", endpoint, Endpoint::getRequests, Endpoint::getJdbcNanos, TimeUnit.NANOSECONDS)
+            .tags(tags).description("Time requests spent in JDBC calls").register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStats stats = SqlStats.start();
+        StampingResponse stamping = headers ? new StampingResponse(response, stats) : null;
+        try {
+            chain.doFilter(request, headers ? stamping : response);
+        } finally {
+            stats.stop();
+            if (stamping != null && !response.isCommitted()) {
+                stamping.stamp();
+            }
+            String endpoint = endpoint(request);
+            endpoints.computeIfAbsent(endpoint, this::newEndpoint).add(stats);
+            if (stats.getStatements() > warnStatements) {
+                log.warn("{} issued {}", endpoint, stats);
+            }
+        }
+    }
+
+    private Endpoint newEndpoint(String name) {
+        Endpoint endpoint = new Endpoint();
+        MeterRegistry registry = this.registry;
+        if (registry != null) {
+            register(registry, name, endpoint);
+        }
+        return endpoint;
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmapped");
+    }
+
+    /** Sets the headers once the handler is done and before anything commits the response. */
+    private static class StampingResponse extends HttpServletResponseWrapper {
+        private final SqlStats stats;
+        private boolean stamped;
+
+        StampingResponse(HttpServletResponse response, SqlStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void stamp() {
+            if (!stamped) {
+                stamped = true;
+                setHeader(STATEMENTS_HEADER, Long.toString(stats.getStatements()));
+                setHeader(ROWS_HEADER, Long.toString(stats.getRows()));
+                setHeader(TIME_HEADER, String.format(Locale.ROOT, "%.3f", stats.getJdbcNanos() / 1e6));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            stamp();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            stamp();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            stamp();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            stamp();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            stamp();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            stamp();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package kolab.rest;
+
+import kolab.dto.SuggestionDTO;
+import kolab.search.PrefixTrie;
+import kolab.service.SuggestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/suggest")
+public class SuggestController {
+
+    @Autowired
+    private SuggestService suggestService;
+
+    @GetMapping("")
+    public ResponseEntity<?> suggest(@RequestParam String type,
+                                     @RequestParam String q,
+                                     @RequestParam(defaultValue = "" + PrefixTrie.K) int limit) {
+        if (limit < 1 || limit > PrefixTrie.K) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Limit must be between 1 and " + PrefixTrie.K);
+        }
+        try {
+            List<SuggestionDTO> suggestions = suggestService.suggest(type, q, limit);
+            return ResponseEntity.ok(suggestions);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package kolab.rest;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.domain.User;
+import kolab.dto.CursorPage;
 import kolab.service.UserService;
+import kolab.exception.ConflictException;
 import kolab.exception.NotFoundException;
+import kolab.util.MergePatch;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
@@ -42,9 +48,18 @@ public class UserController {
     private CompanyService companyService;
 
     @GetMapping("")
-    public ResponseEntity<List<User>> getUsers() {
-        List<User> users = userService.getUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getUsers(@RequestParam(required = false) String after,
+                                      @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            List<User> users = userService.getUsers();
+            return ResponseEntity.ok(users);
+        }
+        try {
+            CursorPage<User> page = userService.getUsers(after, CursorPage.clampLimit(limit));
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
     }
 
     @PostMapping("")
@@ -93,6 +108,21 @@ public class UserController {
             return ResponseEntity.ok(user);
         } catch (NotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (ConflictException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> patchUser(@PathVariable UUID id, @RequestBody JsonNode patch) {
+        try {
+            return ResponseEntity.ok(userService.patchUser(id, patch));
+        } catch (NotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (ConflictException | OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
@@ -0,0 +1,222 @@
+package kolab.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Thread-safe in-memory inverted index with BM25 ranking. Every query term
+ * must match (AND semantics); a term matches indexed terms equal to it or,
+ * at a discount, starting with it, so partially typed words still find
+ * their documents.
+ *
+ * <p>Documents live in numbered slots and postings are primitive arrays of
+ * slots and weighted term frequencies, so scoring a term that appears in
+ * tens of thousands of documents is a tight loop without boxing.
+ */
+public class InvertedIndex {
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    static final double PREFIX_WEIGHT = 0.5;
+    static final int MIN_PREFIX_LENGTH = 2;
+    static final int MAX_PREFIX_EXPANSIONS = 200;
+
+    public record Hit(SearchDocument document, double score) {
+    }
+
+    private static final class Postings {
+        int[] slots = new int[4];
+        float[] frequencies = new float[4];
+        int size;
+
+        void add(int slot, float frequency) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            slots[size] = slot;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    size--;
+                    slots[i] = slots[size];
+                    frequencies[i] = frequencies[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slotsById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private SearchDocument[] documents = new SearchDocument[64];
+    private float[] lengths = new float[64];
+    private int slotCount;
+    private double totalLength;
+
+    public void put(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.getId());
+            Integer slot = freeSlots.poll();
+            if (slot == null) {
+                if (slotCount == documents.length) {
+                    documents = Arrays.copyOf(documents, slotCount * 2);
+                    lengths = Arrays.copyOf(lengths, slotCount * 2);
+                }
+                slot = slotCount++;
+            }
+            documents[slot] = document;
+            lengths[slot] = document.getLength();
+            slotsById.put(document.getId(), slot);
+            for (Map.Entry<String, Float> term : document.getTerms().entrySet()) {
+                postings.computeIfAbsent(term.getKey(), t -> new Postings()).add(slot, term.getValue());
+            }
+            totalLength += document.getLength();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Hit> search(List<String> queryTerms, int limit) {
+        if (queryTerms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (slotsById.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = totalLength / slotsById.size();
+            double[] totals = new double[slotCount];
+            int[] matchedTerms = new int[slotCount];
+            double[] best = new double[slotCount];
+            int[] touched = new int[slotCount];
+            for (int q = 0; q < queryTerms.size(); q++) {
+                int touchedCount = score(queryTerms.get(q), averageLength, best, touched);
+                boolean any = false;
+                for (int i = 0; i < touchedCount; i++) {
+                    int slot = touched[i];
+                    if (matchedTerms[slot] == q) {
+                        totals[slot] += best[slot];
+                        matchedTerms[slot] = q + 1;
+                        any = true;
+                    }
+                    best[slot] = 0;
+                }
+                if (!any) {
+                    return List.of();
+                }
+            }
+            return top(totals, matchedTerms, queryTerms.size(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Records the best contribution of one query term per document, across
+    // the exact term and its prefix expansions; returns how many slots were hit.
+    private int score(String queryTerm, double averageLength, double[] best, int[] touched) {
+        int touchedCount = addScores(postings.get(queryTerm), 1.0, averageLength, best, touched, 0);
+        if (queryTerm.length() >= MIN_PREFIX_LENGTH) {
+            int expansions = 0;
+            for (Postings expansion
+                    : postings.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false).values()) {
+                if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                touchedCount = addScores(expansion, PREFIX_WEIGHT, averageLength, best, touched, touchedCount);
+            }
+        }
+        return touchedCount;
+    }
+
+    private int addScores(Postings termPostings, double weight, double averageLength,
+                          double[] best, int[] touched, int touchedCount) {
+        if (termPostings == null) {
+            return touchedCount;
+        }
+        int n = slotsById.size();
+        int df = termPostings.size;
+        double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+        double lengthNorm = K1 * B / averageLength;
+        double constantNorm = K1 * (1 - B);
+        for (int i = 0; i < df; i++) {
+            int slot = termPostings.slots[i];
+            double tf = termPostings.frequencies[i];
+            double score = weight * idf * tf * (K1 + 1) / (tf + constantNorm + lengthNorm * lengths[slot]);
+            if (best[slot] == 0) {
+                touched[touchedCount++] = slot;
+            }
+            if (score > best[slot]) {
+                best[slot] = score;
+            }
+        }
+        return touchedCount;
+    }
+
+    private List<Hit> top(double[] totals, int[] matchedTerms, int required, int limit) {
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit, Comparator.comparingDouble(slot -> totals[slot]));
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (matchedTerms[slot] != required) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(slot);
+            } else if (totals[slot] > totals[best.peek()]) {
+                best.poll();
+                best.add(slot);
+            }
+        }
+        List<Hit> hits = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            int slot = best.poll();
+            hits.add(new Hit(documents[slot], totals[slot]));
+        }
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    private void removeLocked(UUID id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        SearchDocument document = documents[slot];
+        for (String term : document.getTerms().keySet()) {
+            Postings termPostings = postings.get(term);
+            termPostings.remove(slot);
+            if (termPostings.size == 0) {
+                postings.remove(term);
+            }
+        }
+        documents[slot] = null;
+        lengths[slot] = 0;
+        totalLength -= document.getLength();
+        freeSlots.push(slot);
+    }
+}
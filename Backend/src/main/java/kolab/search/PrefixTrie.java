@@ -0,0 +1,168 @@
+package kolab.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Character trie for typeahead. Each label is inserted under every word
+ * start ("ana horvat" and "horvat"), and every node keeps the first
+ * {@link #K} entries of its subtree in label order, so a lookup costs one
+ * walk down the prefix no matter how many entries match.
+ */
+public class PrefixTrie {
+    public static final int K = 10;
+
+    public record Entry(UUID id, String label, String key) {
+    }
+
+    private static final Comparator<Entry> ORDER =
+        Comparator.comparing(Entry::key).thenComparing(Entry::id);
+
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        final Set<Entry> terminals = new HashSet<>();
+        List<Entry> top = List.of();
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+
+    public void put(UUID id, String label) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (label == null || label.isBlank()) {
+                return;
+            }
+            Entry entry = new Entry(id, label, String.join(" ", Tokenizer.tokenize(label)));
+            entries.put(id, entry);
+            for (String key : keys(entry)) {
+                List<Node> path = walk(key, true);
+                path.get(path.size() - 1).terminals.add(entry);
+                for (Node node : path) {
+                    node.top = offer(node.top, entry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Entry> suggest(String prefix, int limit) {
+        String key = String.join(" ", Tokenizer.tokenize(prefix));
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return node.top.subList(0, Math.min(limit, node.top.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(UUID id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String key : keys(entry)) {
+            List<Node> path = walk(key, false);
+            path.get(path.size() - 1).terminals.remove(entry);
+            // Refill bottom-up: a node's top list is derived from its own
+            // terminals and its children's (already refilled) top lists.
+            for (int depth = path.size() - 1; depth >= 0; depth--) {
+                Node node = path.get(depth);
+                if (node.top.contains(entry)) {
+                    node.top = recompute(node);
+                }
+                if (depth > 0 && node.top.isEmpty() && node.children.isEmpty()) {
+                    path.get(depth - 1).children.remove(key.charAt(depth - 1));
+                }
+            }
+        }
+    }
+
+    private static List<String> keys(Entry entry) {
+        List<String> keys = new ArrayList<>();
+        String key = entry.key();
+        keys.add(key);
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            keys.add(key.substring(i + 1));
+        }
+        return keys;
+    }
+
+    private List<Node> walk(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = create
+                ? node.children.computeIfAbsent(key.charAt(i), c -> new Node())
+                : node.children.get(key.charAt(i));
+            path.add(node);
+        }
+        return path;
+    }
+
+    private static List<Entry> offer(List<Entry> top, Entry entry) {
+        if (top.contains(entry)) {
+            return top;
+        }
+        if (top.size() == K && ORDER.compare(entry, top.get(K - 1)) >= 0) {
+            return top;
+        }
+        List<Entry> updated = new ArrayList<>(top.size() + 1);
+        updated.addAll(top);
+        int at = Collections.binarySearch(updated, entry, ORDER);
+        updated.add(-at - 1, entry);
+        if (updated.size() > K) {
+            updated.remove(K);
+        }
+        return List.copyOf(updated);
+    }
+
+    private static List<Entry> recompute(Node node) {
+        TreeSet<Entry> candidates = new TreeSet<>(ORDER);
+        candidates.addAll(node.terminals);
+        for (Node child : node.children.values()) {
+            candidates.addAll(child.top);
+        }
+        List<Entry> top = new ArrayList<>(K);
+        for (Entry entry : candidates) {
+            if (top.size() == K) {
+                break;
+            }
+            top.add(entry);
+        }
+        return List.copyOf(top);
+    }
+}
@@ -0,0 +1,36 @@
+package kolab.search;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A searchable snapshot of an entity: what to show in a hit, plus the
+ * boosted term frequencies that the index scores against.
+ */
+@Getter
+public class SearchDocument {
+    private final String type;
+    private final UUID id;
+    private final String title;
+    private final String subtitle;
+    private final Map<String, Float> terms = new HashMap<>();
+    private float length;
+
+    public SearchDocument(String type, UUID id, String title, String subtitle) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.subtitle = subtitle;
+    }
+
+    public SearchDocument field(String text, float boost) {
+        for (String token : Tokenizer.tokenize(text)) {
+            terms.merge(token, boost, Float::sum);
+            length += boost;
+        }
+        return this;
+    }
+}
@@ -0,0 +1,45 @@
+package kolab.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into lowercase, diacritic-free terms. Both đ and its usual
+ * ASCII spelling "dj" fold to "d", so "Đurđević", "Djurdjević",
+ * "Djurdjevic" and "Durdevic" all become "durdevic". Other words with
+ * "dj" ("adjust") fold the same way in documents and queries, so they
+ * still find each other.
+ */
+public final class Tokenizer {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of("http", "https", "www");
+
+    private Tokenizer() {
+    }
+
+    public static String fold(String text) {
+        // đ has no canonical decomposition, so NFD alone would keep it
+        String replaced = text.replace('đ', 'd').replace('Đ', 'D');
+        return MARKS.matcher(Normalizer.normalize(replaced, Normalizer.Form.NFD)).replaceAll("")
+            .toLowerCase(Locale.ROOT)
+            .replace("dj", "d");
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
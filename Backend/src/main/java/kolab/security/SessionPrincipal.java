@@ -0,0 +1,19 @@
+package kolab.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import kolab.domain.enums.UserAuthorization;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The user a request was authenticated as, decoded from a session token by
+ * {@link SessionTokenFilter} without touching the database.
+ */
+public record SessionPrincipal(UUID userId, String email, UserAuthorization authorization, Instant expiresAt) {
+    public static final String ATTRIBUTE = SessionPrincipal.class.getName();
+
+    public static SessionPrincipal of(HttpServletRequest request) {
+        return (SessionPrincipal) request.getAttribute(ATTRIBUTE);
+    }
+}
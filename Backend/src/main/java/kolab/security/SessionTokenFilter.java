@@ -0,0 +1,81 @@
+package kolab.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kolab.domain.enums.UserAuthorization;
+import kolab.service.SessionTokenService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates API requests that carry {@code Authorization: Bearer
+ * <session token>} and exposes the result as a {@link SessionPrincipal}
+ * request attribute. A session token that is invalid or expired is rejected
+ * with 401. The admin endpoints under {@code /api/admin/} additionally
+ * require a session of an {@link UserAuthorization#ADMINISTRATOR} (401
+ * without one, 403 for other users). Elsewhere, requests without a session
+ * token, including other bearer formats such as a three-part Google JWT,
+ * pass through unchanged. The login endpoints are skipped entirely.
+ */
+@Component
+public class SessionTokenFilter extends OncePerRequestFilter {
+    private static final String BEARER = "Bearer ";
+    private static final String ADMIN_PATH = "/api/admin/";
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = path(request);
+        return !path.startsWith("/api/") || path.equals("/api/login") || path.equals("/api/login-email");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        String token = header != null && header.startsWith(BEARER) ? header.substring(BEARER.length()) : null;
+        SessionPrincipal principal = null;
+        if (isSessionToken(token)) {
+            try {
+                principal = sessionTokenService.verify(token);
+                request.setAttribute(SessionPrincipal.ATTRIBUTE, principal);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, e.getMessage());
+                return;
+            }
+        }
+        if (path(request).startsWith(ADMIN_PATH)) {
+            if (principal == null) {
+                response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Session token required");
+                return;
+            }
+            if (principal.authorization() != UserAuthorization.ADMINISTRATOR) {
+                response.sendError(HttpServletResponse.SC_FORBIDDEN, "Administrator access required");
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    static boolean isSessionToken(String token) {
+        if (token == null) {
+            return false;
+        }
+        int dot = token.indexOf('.');
+        return dot > 0 && dot < token.length() - 1 && dot == token.lastIndexOf('.');
+    }
+}
@@ -0,0 +1,21 @@
+package kolab.service;
+
+import kolab.domain.CollaborationEvent;
+import kolab.domain.CollaborationSnapshot;
+import kolab.dto.CollaborationStateDTO;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface CollaborationHistoryService {
+    void record(CollaborationEvent event);
+    void recordChange(CollaborationEvent before, CollaborationEvent after);
+    List<CollaborationEvent> getCollaborationTimeline(UUID collaborationId);
+    List<CollaborationEvent> getProjectTimeline(UUID projectId, Instant from, Instant to);
+    List<CollaborationEvent> getCompanyTimeline(UUID companyId, Instant from, Instant to);
+    List<CollaborationStateDTO> getProjectStateAsOf(UUID projectId, Instant asOf);
+    List<CollaborationStateDTO> getCompanyStateAsOf(UUID companyId, Instant asOf);
+    List<CollaborationSnapshot> getSnapshots();
+    int flush();
+    CollaborationSnapshot takeSnapshot();
+}
@@ -1,17 +1,27 @@
 package kolab.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.domain.Collaboration;
+import kolab.domain.Project;
+import kolab.dto.BatchCollaborationDTO;
+import kolab.dto.BatchCollaborationResultDTO;
+import kolab.dto.CursorPage;
+import kolab.dto.ProjectProgressDTO;
 import java.util.List;
 import java.util.UUID;
 
 public interface CollaborationService {
     List<Collaboration> getCollaborations();
+    CursorPage<Collaboration> getCollaborations(String after, int limit);
     Collaboration getCollaborationById(UUID id);
     List<Collaboration> getCollaborationsByProjectId(UUID projectId);
     List<Collaboration> getCollaborationsByCompanyId(UUID companyId);
     List<Collaboration> getCollaborationsByContactId(UUID contactId);
     List<Collaboration> getCollaborationsByResponsibleId(UUID responsibleId);
     Collaboration createCollaboration(Collaboration collaboration);
+    BatchCollaborationResultDTO createCollaborations(BatchCollaborationDTO batch);
     Collaboration updateCollaboration(UUID id, Collaboration collaboration);
+    Collaboration patchCollaboration(UUID id, JsonNode patch);
     void deleteCollaboration(UUID id);
+    ProjectProgressDTO getProjectProgress(Project project);
 }
\ No newline at end of file
@@ -1,14 +1,18 @@
 package kolab.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.domain.Company;
+import kolab.dto.CursorPage;
 import java.util.List;
 import java.util.UUID;
 
 public interface CompanyService {
     List<Company> getCompanies();
+    CursorPage<Company> getCompanies(String after, int limit);
     Company getCompanyById(UUID id);
     List<Company> getCompaniesByIndustryId(UUID industryId);
     Company createCompany(Company company);
     Company updateCompany(UUID id, Company company);
+    Company patchCompany(UUID id, JsonNode patch);
     void deleteCompany(UUID id);
 }
\ No newline at end of file
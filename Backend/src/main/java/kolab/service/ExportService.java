@@ -0,0 +1,10 @@
+package kolab.service;
+
+import kolab.domain.Collaboration;
+import kolab.domain.Company;
+import java.util.function.Consumer;
+
+public interface ExportService {
+    void exportCollaborations(Consumer<Collaboration> sink);
+    void exportCompanies(Consumer<Company> sink);
+}
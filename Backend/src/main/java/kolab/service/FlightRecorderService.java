@@ -0,0 +1,11 @@
+package kolab.service;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+public interface FlightRecorderService {
+    Map<String, Object> start();
+    Map<String, Object> stop();
+    Path dump();
+    Map<String, Object> getStatus();
+}
@@ -0,0 +1,15 @@
+package kolab.service;
+
+import kolab.dto.ImportReportDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+
+public interface ImportService {
+    /**
+     * Imports companies from CSV with a header row. Rows that fail validation
+     * or duplicate an existing name are skipped and listed in the report;
+     * all other rows are inserted.
+     */
+    ImportReportDTO importCompanies(Reader csv) throws IOException;
+}
@@ -0,0 +1,33 @@
+package kolab.service;
+
+import kolab.domain.Collaboration;
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import kolab.dto.ProgressBucketDTO;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectRollupService {
+    List<ProgressBucketDTO> getBuckets(UUID projectId);
+    void add(Contribution contribution, long count);
+    void remove(Contribution contribution);
+    void replace(Contribution before, Contribution after);
+    int rebuild();
+    int rebuild(UUID projectId);
+
+    /**
+     * What a single collaboration adds to its project's rollup.
+     */
+    record Contribution(UUID projectId, CollaborationStatus status, CollaborationCategory category,
+                        double achievedValue) {
+        public static Contribution of(Collaboration collaboration) {
+            if (collaboration.getProject() == null || collaboration.getStatus() == null
+                || collaboration.getCategory() == null) {
+                return null;
+            }
+            Double value = collaboration.getAchievedValue();
+            return new Contribution(collaboration.getProject().getId(), collaboration.getStatus(),
+                collaboration.getCategory(), value != null ? value : 0.0);
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package kolab.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.domain.Project;
+import kolab.dto.CursorPage;
 import java.util.List;
 import java.util.UUID;
 
 public interface ProjectService {
     List<Project> getProjects();
+    CursorPage<Project> getProjects(String after, int limit);
     Project getProjectById(UUID id);
     List<Project> getProjectsByCategoryId(UUID categoryId);
     List<Project> getProjectsByResponsibleId(UUID responsibleId);
     Project createProject(Project project);
     Project updateProject(UUID id, Project project);
+    Project patchProject(UUID id, JsonNode patch);
     void deleteProject(UUID id);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package kolab.service;
+
+import kolab.dto.SearchHitDTO;
+import java.util.List;
+import java.util.Map;
+
+public interface SearchService {
+    String COMPANY = "company";
+    String CONTACT = "contact";
+
+    /** Searches one entity type, or all of them when {@code type} is null. */
+    List<SearchHitDTO> search(String query, String type, int limit);
+
+    void rebuild();
+
+    Map<String, Integer> getIndexSizes();
+}
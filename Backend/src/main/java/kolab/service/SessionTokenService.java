@@ -0,0 +1,11 @@
+package kolab.service;
+
+import kolab.domain.User;
+import kolab.security.SessionPrincipal;
+
+public interface SessionTokenService {
+    String HEADER = "X-Session-Token";
+
+    String issue(User user);
+    SessionPrincipal verify(String token);
+}
@@ -0,0 +1,19 @@
+package kolab.service;
+
+import kolab.dto.SuggestionDTO;
+import java.util.List;
+import java.util.Map;
+
+public interface SuggestService {
+    String COMPANY = "company";
+    String CONTACT = "contact";
+    String USER = "user";
+    String INDUSTRY = "industry";
+    String CATEGORY = "category";
+
+    List<SuggestionDTO> suggest(String type, String prefix, int limit);
+
+    void rebuild();
+
+    Map<String, Integer> getSizes();
+}
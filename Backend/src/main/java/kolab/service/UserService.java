@@ -1,15 +1,19 @@
 package kolab.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.domain.User;
+import kolab.dto.CursorPage;
 import java.util.List;
 import java.util.UUID;
 
 public interface UserService {
     List<User> getUsers();
+    CursorPage<User> getUsers(String after, int limit);
     User getUserById(UUID id);
     User findByEmail(String email);
     User createUser(User user);
     User updateUser(UUID id, User updatedUser);
+    User patchUser(UUID id, JsonNode patch);
     void deleteUser(UUID id);
     Long countUsers();
 }
@@ -4,8 +4,15 @@ import kolab.dao.CategoryRepository;
 import kolab.domain.Category;
 import kolab.service.CategoryService;
 import kolab.exception.NotFoundException;
+import kolab.config.CacheConfig;
+import kolab.event.EntityChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
 
@@ -13,31 +20,50 @@ import java.util.List;
 import java.util.UUID;
 
 @Service
+@Transactional(readOnly = true)
 public class CategoryServiceJpa implements CategoryService {
 
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
+    @Cacheable(CacheConfig.CATEGORIES)
     public List<Category> getAllCategories() {
         return categoryRepository.findAll();
     }
 
     @Override
+    @Cacheable(CacheConfig.CATEGORY_BY_ID)
     public Category getCategoryById(UUID id) {
         return categoryRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Category not found with id: " + id));
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.CATEGORY_NAME_EXISTS, allEntries = true)
+    })
     public Category createCategory(Category category) {
         if (categoryRepository.existsByName(category.getName())) {
             throw new IllegalArgumentException("Category with name " + category.getName() + " already exists");
         }
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(EntityChangedEvent.created(Category.class, saved.getId(), saved));
+        return saved;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.CATEGORY_BY_ID, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.CATEGORY_NAME_EXISTS, allEntries = true)
+    })
     public Category updateCategory(UUID id, Category category) {
         Category existingCategory = getCategoryById(id);
         
@@ -47,14 +73,23 @@ public class CategoryServiceJpa implements CategoryService {
         }
         
         existingCategory.setName(category.getName());
-        return categoryRepository.save(existingCategory);
+        Category saved = categoryRepository.save(existingCategory);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(Category.class, saved.getId(), saved));
+        return saved;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.CATEGORY_BY_ID, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.CATEGORY_NAME_EXISTS, allEntries = true)
+    })
     public void deleteCategory(UUID id) {
         if (!categoryRepository.existsById(id)) {
             throw new NotFoundException("Category not found with id: " + id);
         }
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(Category.class, id));
     }
 }
\ No newline at end of file
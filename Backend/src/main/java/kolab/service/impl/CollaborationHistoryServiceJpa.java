@@ -0,0 +1,336 @@
+package kolab.service.impl;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import kolab.dao.CollaborationEventRepository;
+import kolab.dao.CollaborationSnapshotRepository;
+import kolab.domain.CollaborationEvent;
+import kolab.domain.CollaborationSnapshot;
+import kolab.domain.enums.CollaborationStatus;
+import kolab.dto.CollaborationStateDTO;
+import kolab.service.CollaborationHistoryService;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes the collaboration history and answers queries over it.
+ * <p>
+ * Changes are published by the collaboration service and queued in memory
+ * once their transaction commits, so a rolled-back change leaves no trace
+ * and the write path never waits on the log. A background thread drains the
+ * queue every {@code kolab.history.flush-interval}, or as soon as a batch is
+ * full, and inserts each batch in one transaction through Hibernate's JDBC
+ * batching. A full queue is drained by the committing thread itself.
+ * <p>
+ * A snapshot is taken once the newest one is older than
+ * {@code kolab.history.snapshot-interval}, checked every
+ * {@code kolab.history.snapshot-check-interval}, so restarts do not reset
+ * the schedule. Snapshots bound the cost of an as-of query to the snapshot
+ * rows in scope plus the events since that snapshot, however long the log
+ * grows.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CollaborationHistoryServiceJpa implements CollaborationHistoryService {
+    private static final Logger log = LoggerFactory.getLogger(CollaborationHistoryServiceJpa.class);
+
+    private static final UUID NO_SNAPSHOT = new UUID(0, 0);
+    private static final Duration FIRST_SNAPSHOT_CHECK = Duration.ofMinutes(1);
+
+    // Newest event per collaboration in (from, to]; %s narrows the events ranked
+    private static final String LATEST_EVENTS =
+        "select e.collaboration_id, e.project_id, e.company_id, e.status, e.achieved_value, e.kind, e.occurred_at, "
+        + "row_number() over (partition by e.collaboration_id order by e.occurred_at desc, e.id desc) as rn "
+        + "from collaboration_event e where e.occurred_at > :from and e.occurred_at <= :to%s";
+
+    private static final String UNCHANGED_SINCE_SNAPSHOT =
+        "not exists (select 1 from collaboration_event x where x.collaboration_id = s.collaboration_id "
+        + "and x.occurred_at > :from and x.occurred_at <= :to)";
+
+    // Native because HQL cannot select from a windowed subquery. %1$s is project_id or company_id.
+    private static final String STATE_AS_OF =
+        "select r.collaboration_id, r.project_id, r.company_id, r.status, r.achieved_value, r.occurred_at as changed_at "
+        + "from (" + String.format(LATEST_EVENTS, " and e.collaboration_id in (select c.collaboration_id "
+            + "from collaboration_event c where c.%1$s = :scope and c.occurred_at > :from and c.occurred_at <= :to)")
+        + ") r where r.rn = 1 and r.kind <> 'DELETED' and r.%1$s = :scope "
+        + "union all "
+        + "select s.collaboration_id, s.project_id, s.company_id, s.status, s.achieved_value, s.changed_at "
+        + "from collaboration_snapshot_row s where s.snapshot_id = :snapshot and s.%1$s = :scope and "
+        + UNCHANGED_SINCE_SNAPSHOT + " "
+        + "order by changed_at";
+
+    private static final String SNAPSHOT_ROWS =
+        "insert into collaboration_snapshot_row "
+        + "(snapshot_id, collaboration_id, project_id, company_id, status, achieved_value, changed_at) "
+        + "select cast(:snapshot as uuid), r.collaboration_id, r.project_id, r.company_id, r.status, "
+        + "r.achieved_value, r.occurred_at "
+        + "from (" + String.format(LATEST_EVENTS, "") + ") r where r.rn = 1 and r.kind <> 'DELETED' "
+        + "union all "
+        + "select cast(:snapshot as uuid), s.collaboration_id, s.project_id, s.company_id, s.status, "
+        + "s.achieved_value, s.changed_at "
+        + "from collaboration_snapshot_row s where s.snapshot_id = :previous and " + UNCHANGED_SINCE_SNAPSHOT;
+
+    @Autowired
+    private CollaborationEventRepository eventRepo;
+
+    @Autowired
+    private CollaborationSnapshotRepository snapshotRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${kolab.history.queue-capacity:100000}")
+    private int queueCapacity;
+
+    @Value("${kolab.history.batch-size:500}")
+    private int batchSize;
+
+    @Value("${kolab.history.flush-interval:PT1S}")
+    private Duration flushInterval;
+
+    @Value("${kolab.history.snapshot-interval:P7D}")
+    private Duration snapshotInterval;
+
+    @Value("${kolab.history.snapshot-check-interval:PT1H}")
+    private Duration snapshotCheckInterval;
+
+    @Value("${kolab.history.snapshot-lag:PT5S}")
+    private Duration snapshotLag;
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private BlockingDeque<CollaborationEvent> queue;
+    private TransactionTemplate writes;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingDeque<>(queueCapacity);
+        // Own transaction: flushes also run from after-commit callbacks, where REQUIRED would join the finished one
+        writes = new TransactionTemplate(transactionManager);
+        writes.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("collaboration-history").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::flushQuietly,
+            flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::snapshotIfDue,
+            FIRST_SNAPSHOT_CHECK.toMillis(), snapshotCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        flushQuietly();
+    }
+
+    @Override
+    public void record(CollaborationEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+
+    @Override
+    public void recordChange(CollaborationEvent before, CollaborationEvent after) {
+        if (before == null || !after.sameStateAs(before)) {
+            record(after);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onCollaborationEvent(CollaborationEvent event) {
+        event.setOccurredAt(Instant.now());
+        if (!queue.offer(event)) {
+            flushQuietly();
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Interrupted while queueing, collaboration {} history event lost", event.getCollaborationId());
+                return;
+            }
+        }
+        if (queue.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flushQuietly);
+        }
+    }
+
+    @Override
+    public List<CollaborationEvent> getCollaborationTimeline(UUID collaborationId) {
+        return eventRepo.findByCollaborationIdOrderByOccurredAtAscIdAsc(collaborationId);
+    }
+
+    @Override
+    public List<CollaborationEvent> getProjectTimeline(UUID projectId, Instant from, Instant to) {
+        return eventRepo.findProjectTimeline(projectId, since(from), until(from, to));
+    }
+
+    @Override
+    public List<CollaborationEvent> getCompanyTimeline(UUID companyId, Instant from, Instant to) {
+        return eventRepo.findCompanyTimeline(companyId, since(from), until(from, to));
+    }
+
+    private static Instant since(Instant from) {
+        return from != null ? from : Instant.EPOCH;
+    }
+
+    private static Instant until(Instant from, Instant to) {
+        Instant until = to != null ? to : Instant.now().plusSeconds(1);
+        if (from != null && !from.isBefore(until)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        return until;
+    }
+
+    @Override
+    public List<CollaborationStateDTO> getProjectStateAsOf(UUID projectId, Instant asOf) {
+        return stateAsOf("project_id", projectId, asOf);
+    }
+
+    @Override
+    public List<CollaborationStateDTO> getCompanyStateAsOf(UUID companyId, Instant asOf) {
+        return stateAsOf("company_id", companyId, asOf);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CollaborationStateDTO> stateAsOf(String scopeColumn, UUID scope, Instant asOf) {
+        if (asOf == null) {
+            throw new IllegalArgumentException("'asOf' is required");
+        }
+        Optional<CollaborationSnapshot> snapshot = snapshotRepo.findFirstByAsOfLessThanEqualOrderByAsOfDesc(asOf);
+        List<Object[]> rows = entityManager.createNativeQuery(String.format(STATE_AS_OF, scopeColumn))
+            .unwrap(NativeQuery.class)
+            .addScalar("collaboration_id", UUID.class)
+            .addScalar("project_id", UUID.class)
+            .addScalar("company_id", UUID.class)
+            .addScalar("status", String.class)
+            .addScalar("achieved_value", Double.class)
+            .addScalar("changed_at", Instant.class)
+            .setParameter("scope", scope)
+            .setParameter("snapshot", snapshot.map(CollaborationSnapshot::getId).orElse(NO_SNAPSHOT))
+            .setParameter("from", snapshot.map(CollaborationSnapshot::getAsOf).orElse(Instant.EPOCH))
+            .setParameter("to", asOf)
+            .getResultList();
+        List<CollaborationStateDTO> states = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            states.add(new CollaborationStateDTO((UUID) row[0], (UUID) row[1], (UUID) row[2],
+                row[3] != null ? CollaborationStatus.valueOf((String) row[3]) : null,
+                (Double) row[4], (Instant) row[5]));
+        }
+        return states;
+    }
+
+    @Override
+    public List<CollaborationSnapshot> getSnapshots() {
+        return snapshotRepo.findAllByOrderByAsOfDesc();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int flush() {
+        synchronized (flushLock) {
+            flushScheduled.set(false);
+            int written = 0;
+            List<CollaborationEvent> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                try {
+                    writes.executeWithoutResult(status -> eventRepo.saveAll(batch));
+                } catch (RuntimeException e) {
+                    // Back to the head of the queue, in order, for the next flush
+                    for (int i = batch.size() - 1; i >= 0; i--) {
+                        batch.get(i).setId(null);
+                        if (!queue.offerFirst(batch.get(i))) {
+                            log.error("History queue full, collaboration {} history event lost",
+                                batch.get(i).getCollaborationId());
+                        }
+                    }
+                    throw e;
+                }
+                written += batch.size();
+                batch.clear();
+            }
+            return written;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Could not write collaboration history, retrying on the next flush", e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CollaborationSnapshot takeSnapshot() {
+        // Changes committed before asOf have been queued by now; the flush makes them visible
+        Instant asOf = Instant.now().minus(snapshotLag);
+        flush();
+        return writes.execute(status -> {
+            Optional<CollaborationSnapshot> previous = snapshotRepo.findFirstByOrderByAsOfDesc();
+            if (previous.isPresent() && !previous.get().getAsOf().isBefore(asOf)) {
+                return previous.get();
+            }
+            CollaborationSnapshot snapshot = new CollaborationSnapshot();
+            snapshot.setAsOf(asOf);
+            snapshot.setCreatedAt(Instant.now());
+            snapshotRepo.saveAndFlush(snapshot);
+            // The declared space keeps Hibernate from clearing every second-level cache region on commit
+            int rows = entityManager.createNativeQuery(SNAPSHOT_ROWS)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("collaboration_snapshot_row")
+                .setParameter("snapshot", snapshot.getId())
+                .setParameter("previous", previous.map(CollaborationSnapshot::getId).orElse(NO_SNAPSHOT))
+                .setParameter("from", previous.map(CollaborationSnapshot::getAsOf).orElse(Instant.EPOCH))
+                .setParameter("to", asOf)
+                .executeUpdate();
+            snapshot.setCollaborationCount(rows);
+            return snapshot;
+        });
+    }
+
+    void snapshotIfDue() {
+        try {
+            Optional<CollaborationSnapshot> newest = snapshotRepo.findFirstByOrderByAsOfDesc();
+            if (newest.isPresent() && newest.get().getAsOf().plus(snapshotInterval).isAfter(Instant.now())) {
+                return;
+            }
+            CollaborationSnapshot snapshot = takeSnapshot();
+            log.info("Collaboration snapshot as of {}: {} collaborations", snapshot.getAsOf(),
+                snapshot.getCollaborationCount());
+        } catch (RuntimeException e) {
+            log.warn("Could not take a collaboration snapshot", e);
+        }
+    }
+}
@@ -1,25 +1,81 @@
 package kolab.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.dao.CollaborationRepository;
+import kolab.dao.CompanyRepository;
+import kolab.dao.ContactRepository;
+import kolab.dao.ProjectRepository;
+import kolab.dao.UserRepository;
 import kolab.domain.Collaboration;
+import kolab.domain.CollaborationEvent;
+import kolab.domain.Project;
+import kolab.domain.User;
+import kolab.dto.BatchCollaborationDTO;
+import kolab.dto.BatchCollaborationResultDTO;
+import kolab.dto.CursorPage;
+import kolab.dto.ProgressBucketDTO;
+import kolab.dto.ProjectProgressDTO;
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationEventKind;
+import kolab.domain.enums.CollaborationStatus;
+import kolab.service.CollaborationHistoryService;
 import kolab.service.CollaborationService;
+import kolab.service.ProjectRollupService;
+import kolab.service.ProjectRollupService.Contribution;
 import kolab.exception.NotFoundException;
+import kolab.util.MergePatch;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
+@Transactional(readOnly = true)
 public class CollaborationServiceJpa implements CollaborationService {
     @Autowired
     private CollaborationRepository collaborationRepo;
 
+    @Autowired
+    private ProjectRollupService projectRollupService;
+
+    @Autowired
+    private CollaborationHistoryService collaborationHistoryService;
+
+    @Autowired
+    private ProjectRepository projectRepo;
+
+    @Autowired
+    private CompanyRepository companyRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private ContactRepository contactRepo;
+
     @Override
     public List<Collaboration> getCollaborations() {
         return collaborationRepo.findAll();
     }
 
+    @Override
+    public CursorPage<Collaboration> getCollaborations(String after, int limit) {
+        UUID afterId = CursorPage.decodeCursor(after);
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<Collaboration> rows = afterId == null
+            ? collaborationRepo.findAllByOrderByIdAsc(page)
+            : collaborationRepo.findByIdGreaterThanOrderByIdAsc(afterId, page);
+        return CursorPage.of(rows, limit, Collaboration::getId);
+    }
+
     @Override
     public Collaboration getCollaborationById(UUID id) {
         return collaborationRepo.findById(id)
@@ -47,16 +103,88 @@ public class CollaborationServiceJpa implements CollaborationService {
     }
 
     @Override
+    @Transactional
     public Collaboration createCollaboration(Collaboration collaboration) {
         Assert.notNull(collaboration, "Collaboration object must be given");
         validateCollaboration(collaboration);
-        return collaborationRepo.save(collaboration);
+        Collaboration created = collaborationRepo.save(collaboration);
+        projectRollupService.add(Contribution.of(created), 1);
+        collaborationHistoryService.record(CollaborationEvent.of(CollaborationEventKind.CREATED, created));
+        return created;
     }
 
     @Override
+    @Transactional
+    public BatchCollaborationResultDTO createCollaborations(BatchCollaborationDTO batch) {
+        Assert.notNull(batch, "Batch object must be given");
+        if (batch.getProjectId() == null) {
+            throw new IllegalArgumentException("Project ID is required");
+        }
+        if (batch.getCompanyIds() == null || batch.getCompanyIds().isEmpty()) {
+            throw new IllegalArgumentException("At least one company ID is required");
+        }
+        if (batch.getCompanyIds().size() > BatchCollaborationDTO.MAX_COMPANIES) {
+            throw new IllegalArgumentException("At most " + BatchCollaborationDTO.MAX_COMPANIES
+                + " companies can be assigned at once");
+        }
+        if (batch.getCategory() == null) {
+            throw new IllegalArgumentException("Category is required");
+        }
+        if (batch.getStatus() == null) {
+            throw new IllegalArgumentException("Status is required");
+        }
+
+        // Holding the project row until commit serialises concurrent batches, so the existing-pairs
+        // check below cannot miss a pair another batch is inserting
+        Project project = projectRepo.findForUpdateById(batch.getProjectId())
+            .orElseThrow(() -> new IllegalArgumentException("Invalid project ID: " + batch.getProjectId()));
+        User responsible = null;
+        if (batch.getResponsibleId() != null) {
+            responsible = userRepo.findById(batch.getResponsibleId())
+                .orElseThrow(() -> new IllegalArgumentException("Invalid responsible ID: " + batch.getResponsibleId()));
+        }
+
+        Set<UUID> companyIds = new LinkedHashSet<>(batch.getCompanyIds());
+        Set<UUID> known = companyRepo.findExistingIds(companyIds);
+        List<UUID> unknown = companyIds.stream().filter(id -> !known.contains(id)).toList();
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Invalid company IDs: " + unknown);
+        }
+        Set<UUID> assigned = collaborationRepo.findCompanyIdsByProjectId(project.getId(), companyIds);
+
+        List<Collaboration> collaborations = new ArrayList<>();
+        for (UUID companyId : companyIds) {
+            if (assigned.contains(companyId)) {
+                continue;
+            }
+            Collaboration collaboration = new Collaboration();
+            collaboration.setProject(project);
+            collaboration.setCompany(companyRepo.getReferenceById(companyId));
+            collaboration.setResponsible(responsible);
+            collaboration.setCategory(batch.getCategory());
+            collaboration.setStatus(batch.getStatus());
+            collaborations.add(collaboration);
+        }
+        if (!collaborations.isEmpty()) {
+            collaborationRepo.saveAll(collaborations);
+            projectRollupService.add(
+                new Contribution(project.getId(), batch.getStatus(), batch.getCategory(), 0.0), collaborations.size());
+            for (Collaboration collaboration : collaborations) {
+                collaborationHistoryService.record(CollaborationEvent.of(CollaborationEventKind.CREATED, collaboration));
+            }
+        }
+        return new BatchCollaborationResultDTO(collaborations.size(),
+            companyIds.stream().filter(assigned::contains).toList());
+    }
+
+    @Override
+    @Transactional
     public Collaboration updateCollaboration(UUID id, Collaboration updatedCollaboration) {
         Collaboration collaboration = getCollaborationById(id);
+        MergePatch.checkVersion(updatedCollaboration.getVersion(), collaboration.getVersion());
         validateCollaboration(updatedCollaboration);
+        Contribution before = Contribution.of(collaboration);
+        CollaborationEvent previous = CollaborationEvent.of(CollaborationEventKind.UPDATED, collaboration);
 
         collaboration.setProject(updatedCollaboration.getProject());
         collaboration.setCompany(updatedCollaboration.getCompany());
@@ -67,19 +195,93 @@ public class CollaborationServiceJpa implements CollaborationService {
         collaboration.setComment(updatedCollaboration.getComment());
         collaboration.setAchievedValue(updatedCollaboration.getAchievedValue());
 
-        return collaborationRepo.save(collaboration);
+        Collaboration saved = collaborationRepo.save(collaboration);
+        projectRollupService.replace(before, Contribution.of(saved));
+        collaborationHistoryService.recordChange(previous, CollaborationEvent.of(CollaborationEventKind.UPDATED, saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Collaboration patchCollaboration(UUID id, JsonNode patch) {
+        Collaboration collaboration = getCollaborationById(id);
+        Contribution before = Contribution.of(collaboration);
+        CollaborationEvent previous = CollaborationEvent.of(CollaborationEventKind.UPDATED, collaboration);
+
+        MergePatch.of(patch)
+            .checkVersion(collaboration.getVersion())
+            .field("projectId", UUID.class, projectId -> collaboration.setProject(projectId == null ? null
+                : projectRepo.findById(projectId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid project ID: " + projectId))))
+            .field("companyId", UUID.class, companyId -> collaboration.setCompany(companyId == null ? null
+                : companyRepo.findById(companyId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid company ID: " + companyId))))
+            .field("contactId", UUID.class, contactId -> collaboration.setContact(contactId == null ? null
+                : contactRepo.findById(contactId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid contact ID: " + contactId))))
+            .field("responsibleId", UUID.class, responsibleId -> collaboration.setResponsible(responsibleId == null ? null
+                : userRepo.findById(responsibleId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid responsible ID: " + responsibleId))))
+            .field("category", CollaborationCategory.class, collaboration::setCategory)
+            .field("status", CollaborationStatus.class, collaboration::setStatus)
+            .field("comment", String.class, collaboration::setComment)
+            .field("achievedValue", Double.class, collaboration::setAchievedValue)
+            .finish();
+        validateCollaboration(collaboration);
+
+        projectRollupService.replace(before, Contribution.of(collaboration));
+        collaborationHistoryService.recordChange(previous,
+            CollaborationEvent.of(CollaborationEventKind.UPDATED, collaboration));
+        return collaboration;
     }
 
     @Override
+    @Transactional
     public void deleteCollaboration(UUID id) {
-        if (collaborationRepo.existsById(id)) {
-            collaborationRepo.deleteById(id);
-        } else {
-            throw new NotFoundException("Collaboration with id " + id + " not found");
+        Collaboration collaboration = collaborationRepo.findById(id)
+            .orElseThrow(() -> new NotFoundException("Collaboration with id " + id + " not found"));
+        projectRollupService.remove(Contribution.of(collaboration));
+        collaborationRepo.delete(collaboration);
+        collaborationHistoryService.record(CollaborationEvent.of(CollaborationEventKind.DELETED, collaboration));
+    }
+
+    @Override
+    public ProjectProgressDTO getProjectProgress(Project project) {
+        return summarize(project, projectRollupService.getBuckets(project.getId()));
+    }
+
+    static ProjectProgressDTO summarize(Project project, List<ProgressBucketDTO> buckets) {
+        Map<CollaborationStatus, ProgressBucketDTO> byStatus = new EnumMap<>(CollaborationStatus.class);
+        Map<CollaborationCategory, ProgressBucketDTO> byCategory = new EnumMap<>(CollaborationCategory.class);
+        long count = 0;
+        double achieved = 0;
+        for (ProgressBucketDTO bucket : buckets) {
+            count += bucket.getCount();
+            achieved += bucket.getAchievedValue();
+            add(byStatus.computeIfAbsent(bucket.getStatus(), s -> new ProgressBucketDTO(s, null, 0, 0)), bucket);
+            add(byCategory.computeIfAbsent(bucket.getCategory(), c -> new ProgressBucketDTO(null, c, 0, 0)), bucket);
+        }
+
+        ProjectProgressDTO progress = new ProjectProgressDTO();
+        progress.setProjectId(project.getId());
+        progress.setGoal(project.getGoal());
+        progress.setCollaborationCount(count);
+        progress.setAchievedValue(achieved);
+        if (project.getGoal() != null && project.getGoal() > 0) {
+            progress.setPercentageOfGoal(achieved * 100.0 / project.getGoal());
         }
+        progress.setByStatus(new ArrayList<>(byStatus.values()));
+        progress.setByCategory(new ArrayList<>(byCategory.values()));
+        progress.setBuckets(buckets);
+        return progress;
+    }
+
+    private static void add(ProgressBucketDTO total, ProgressBucketDTO bucket) {
+        total.setCount(total.getCount() + bucket.getCount());
+        total.setAchievedValue(total.getAchievedValue() + bucket.getAchievedValue());
     }
 
-    private void validateCollaboration(Collaboration collaboration) {
+    static void validateCollaboration(Collaboration collaboration) {
         if (collaboration.getProject() == null) {
             throw new IllegalArgumentException("Project is required");
         }
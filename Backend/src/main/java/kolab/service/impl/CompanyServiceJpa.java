@@ -1,29 +1,60 @@
 package kolab.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.dao.CompanyRepository;
+import kolab.dao.IndustryRepository;
 import kolab.domain.Company;
+import kolab.domain.enums.CompanyCategorization;
+import kolab.domain.enums.Month;
+import kolab.dto.CursorPage;
 import kolab.service.CompanyService;
 import kolab.exception.NotFoundException;
+import kolab.event.EntityChangedEvent;
+import kolab.util.MergePatch;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import java.util.List;
 import java.util.UUID;
 
 @Service
+@Transactional(readOnly = true)
 public class CompanyServiceJpa implements CompanyService {
     @Autowired
     private CompanyRepository companyRepo;
 
+    @Autowired
+    private IndustryRepository industryRepo;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<Company> getCompanies() {
         return companyRepo.findAll();
     }
 
+    @Override
+    public CursorPage<Company> getCompanies(String after, int limit) {
+        UUID afterId = CursorPage.decodeCursor(after);
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<Company> rows = afterId == null
+            ? companyRepo.findAllByOrderByIdAsc(page)
+            : companyRepo.findByIdGreaterThanOrderByIdAsc(afterId, page);
+        return CursorPage.of(rows, limit, Company::getId);
+    }
+
     @Override
     public Company getCompanyById(UUID id) {
-        return companyRepo.findById(id)
+        Company company = companyRepo.findById(id)
             .orElseThrow(() -> new NotFoundException("Company with id " + id + " not found"));
+        // A second-level cache hit bypasses the entity graph and leaves a proxy
+        Hibernate.initialize(company.getIndustry());
+        return company;
     }
 
     @Override
@@ -32,18 +63,23 @@ public class CompanyServiceJpa implements CompanyService {
     }
 
     @Override
+    @Transactional
     public Company createCompany(Company company) {
         Assert.notNull(company, "Company object must be given");
         if (companyRepo.existsByName(company.getName())) {
             throw new IllegalArgumentException("Company with name " + company.getName() + " already exists");
         }
         validateCompany(company);
-        return companyRepo.save(company);
+        Company saved = companyRepo.save(company);
+        eventPublisher.publishEvent(EntityChangedEvent.created(Company.class, saved.getId(), saved));
+        return saved;
     }
 
     @Override
+    @Transactional
     public Company updateCompany(UUID id, Company updatedCompany) {
         Company company = getCompanyById(id);
+        MergePatch.checkVersion(updatedCompany.getVersion(), company.getVersion());
         validateCompany(updatedCompany);
 
         if (!company.getName().equals(updatedCompany.getName()) && 
@@ -63,19 +99,55 @@ public class CompanyServiceJpa implements CompanyService {
         company.setDescription(updatedCompany.getDescription());
         company.setContactInFuture(updatedCompany.isContactInFuture());
 
-        return companyRepo.save(company);
+        Company saved = companyRepo.save(company);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(Company.class, saved.getId(), saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Company patchCompany(UUID id, JsonNode patch) {
+        Company company = getCompanyById(id);
+        // Checked before anything is set: the query would otherwise auto-flush the new name and find itself
+        JsonNode name = patch != null ? patch.get("name") : null;
+        if (name != null && name.isTextual() && companyRepo.existsByNameAndIdNot(name.asText(), id)) {
+            throw new IllegalArgumentException("Company with name " + name.asText() + " already exists");
+        }
+
+        MergePatch.of(patch)
+            .checkVersion(company.getVersion())
+            .field("industryId", UUID.class, industryId -> company.setIndustry(industryId == null ? null
+                : industryRepo.findById(industryId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid industry ID: " + industryId))))
+            .field("name", String.class, company::setName)
+            .field("categorization", CompanyCategorization.class, company::setCategorization)
+            .field("budgetPlanningMonth", Month.class, company::setBudgetPlanningMonth)
+            .field("country", String.class, company::setCountry)
+            .field("zip", Long.class, company::setZip)
+            .field("city", String.class, company::setCity)
+            .field("address", String.class, company::setAddress)
+            .field("webLink", String.class, company::setWebLink)
+            .field("description", String.class, company::setDescription)
+            .field("contactInFuture", Boolean.class, value -> company.setContactInFuture(Boolean.TRUE.equals(value)))
+            .finish();
+        validateCompany(company);
+
+        eventPublisher.publishEvent(EntityChangedEvent.updated(Company.class, company.getId(), company));
+        return company;
     }
 
     @Override
+    @Transactional
     public void deleteCompany(UUID id) {
         if (companyRepo.existsById(id)) {
             companyRepo.deleteById(id);
+            eventPublisher.publishEvent(EntityChangedEvent.deleted(Company.class, id));
         } else {
             throw new NotFoundException("Company with id " + id + " not found");
         }
     }
 
-    private void validateCompany(Company company) {
+    static void validateCompany(Company company) {
         if (company.getName() == null || company.getName().trim().isEmpty()) {
             throw new IllegalArgumentException("Name is required");
         }
@@ -4,17 +4,24 @@ import kolab.dao.ContactRepository;
 import kolab.domain.Contact;
 import kolab.service.ContactService;
 import kolab.exception.NotFoundException;
+import kolab.event.EntityChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import java.util.List;
 import java.util.UUID;
 
 @Service
+@Transactional(readOnly = true)
 public class ContactServiceJpa implements ContactService {
     @Autowired
     private ContactRepository contactRepo;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<Contact> getCompanyContacts() {
         return contactRepo.findAll();
@@ -32,16 +39,20 @@ public class ContactServiceJpa implements ContactService {
     }
 
     @Override
+    @Transactional
     public Contact createCompanyContact(Contact contact) {
         Assert.notNull(contact, "Contact object must be given");
         if (contactRepo.existsByEmail(contact.getEmail())) {
             throw new IllegalArgumentException("Contact with email " + contact.getEmail() + " already exists");
         }
         validateContact(contact);
-        return contactRepo.save(contact);
+        Contact saved = contactRepo.save(contact);
+        eventPublisher.publishEvent(EntityChangedEvent.created(Contact.class, saved.getId(), saved));
+        return saved;
     }
 
     @Override
+    @Transactional
     public Contact updateCompanyContact(UUID id, Contact updatedContact) {
         Contact contact = getCompanyContactById(id);
         validateContact(updatedContact);
@@ -58,19 +69,23 @@ public class ContactServiceJpa implements ContactService {
         contact.setEmail(updatedContact.getEmail());
         contact.setPhone(updatedContact.getPhone());
 
-        return contactRepo.save(contact);
+        Contact saved = contactRepo.save(contact);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(Contact.class, saved.getId(), saved));
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteCompanyContact(UUID id) {
         if (contactRepo.existsById(id)) {
             contactRepo.deleteById(id);
+            eventPublisher.publishEvent(EntityChangedEvent.deleted(Contact.class, id));
         } else {
             throw new NotFoundException("Company contact with id " + id + " not found");
         }
     }
 
-    private void validateContact(Contact contact) {
+    static void validateContact(Contact contact) {
         if (contact.getFirstName() == null || contact.getFirstName().trim().isEmpty()) {
             throw new IllegalArgumentException("First name is required");
         }
@@ -0,0 +1,55 @@
+package kolab.service.impl;
+
+import jakarta.persistence.EntityManager;
+import kolab.dao.CollaborationRepository;
+import kolab.dao.CompanyRepository;
+import kolab.domain.Collaboration;
+import kolab.domain.Company;
+import kolab.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+public class ExportServiceJpa implements ExportService {
+    @Autowired
+    private CollaborationRepository collaborationRepo;
+
+    @Autowired
+    private CompanyRepository companyRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCollaborations(Consumer<Collaboration> sink) {
+        try (Stream<Collaboration> rows = collaborationRepo.streamAllBy()) {
+            drain(rows, sink, CollaborationRepository.STREAM_FETCH_SIZE);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCompanies(Consumer<Company> sink) {
+        try (Stream<Company> rows = companyRepo.streamAllBy()) {
+            drain(rows, sink, CompanyRepository.STREAM_FETCH_SIZE);
+        }
+    }
+
+    // Each row is detached once written; the join-fetched associations it
+    // pulled in are dropped together with the persistence context after
+    // every fetch-size batch, so the session never grows with the export.
+    private <T> void drain(Stream<T> rows, Consumer<T> sink, int batchSize) {
+        int[] count = {0};
+        rows.forEach(row -> {
+            sink.accept(row);
+            entityManager.detach(row);
+            if (++count[0] % batchSize == 0) {
+                entityManager.clear();
+            }
+        });
+    }
+}
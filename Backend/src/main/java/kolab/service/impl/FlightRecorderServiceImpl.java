@@ -0,0 +1,171 @@
+package kolab.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import kolab.exception.ConflictException;
+import kolab.jfr.JsonSerializationEvent;
+import kolab.jfr.RepositoryQueryEvent;
+import kolab.jfr.ServiceOperationEvent;
+import kolab.service.FlightRecorderService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * One continuous JDK Flight Recorder recording, kept on disk and capped by
+ * size and age so it can run indefinitely. A dump writes what the
+ * recording currently holds to a timestamped file in the configured
+ * directory, for correlating a slow request with GC, lock contention and
+ * the application's own events after the fact. Only the newest
+ * {@code kolab.jfr.max-dumps} dump files are kept.
+ */
+@Service
+public class FlightRecorderServiceImpl implements FlightRecorderService {
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+    private static final String DUMP_PREFIX = "kolab-";
+    private static final String DUMP_SUFFIX = ".jfr";
+    private static final List<Class<?>> EVENTS = List.of(
+        ServiceOperationEvent.class, RepositoryQueryEvent.class, JsonSerializationEvent.class);
+
+    private final Path directory;
+    private final String settings;
+    private final DataSize maxSize;
+    private final Duration maxAge;
+    private final Duration threshold;
+    private final boolean startOnStartup;
+    private final int maxDumps;
+    private Recording recording;
+
+    public FlightRecorderServiceImpl(@Value("${kolab.jfr.directory:jfr}") Path directory,
+                                     @Value("${kolab.jfr.settings:default}") String settings,
+                                     @Value("${kolab.jfr.max-size:250MB}") DataSize maxSize,
+                                     @Value("${kolab.jfr.max-age:PT6H}") Duration maxAge,
+                                     @Value("${kolab.jfr.threshold:PT0.001S}") Duration threshold,
+                                     @Value("${kolab.jfr.start-on-startup:false}") boolean startOnStartup,
+                                     @Value("${kolab.jfr.max-dumps:5}") int maxDumps) {
+        if (maxDumps < 1) {
+            throw new IllegalArgumentException("kolab.jfr.max-dumps must be at least 1");
+        }
+        this.directory = directory;
+        this.settings = settings;
+        this.maxSize = maxSize;
+        this.maxAge = maxAge;
+        this.threshold = threshold;
+        this.startOnStartup = startOnStartup;
+        this.maxDumps = maxDumps;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnStartup() {
+        if (startOnStartup) {
+            start();
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Object> start() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new ConflictException("A recording is already running");
+        }
+        Recording started;
+        try {
+            started = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, e);
+        }
+        started.setName("kolab");
+        started.setToDisk(true);
+        started.setMaxSize(maxSize.toBytes());
+        started.setMaxAge(maxAge);
+        for (Class<?> event : EVENTS) {
+            started.enable(event.getName()).withThreshold(threshold);
+        }
+        started.start();
+        if (recording != null) {
+            recording.close();
+        }
+        recording = started;
+        return getStatus();
+    }
+
+    @Override
+    @PreDestroy
+    public synchronized Map<String, Object> stop() {
+        if (recording == null) {
+            return getStatus();
+        }
+        Map<String, Object> status = getStatus();
+        recording.close();
+        recording = null;
+        status.put("state", RecordingState.CLOSED.name());
+        return status;
+    }
+
+    @Override
+    public synchronized Path dump() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new ConflictException("No recording is running");
+        }
+        try {
+            Files.createDirectories(directory);
+            // The random part keeps two dumps within the same millisecond apart
+            String name = DUMP_PREFIX + FILE_TIME.format(Instant.now()) + "-"
+                + UUID.randomUUID().toString().substring(0, 8) + DUMP_SUFFIX;
+            Path file = directory.resolve(name).toAbsolutePath();
+            recording.dump(file);
+            deleteOldDumps();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteOldDumps() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            dumps = files
+                .filter(f -> f.getFileName().toString().startsWith(DUMP_PREFIX) && f.getFileName().toString().endsWith(DUMP_SUFFIX))
+                .sorted(Comparator.comparing((Path f) -> f.getFileName().toString()).reversed())
+                .toList();
+        }
+        for (Path old : dumps.subList(Math.min(maxDumps, dumps.size()), dumps.size())) {
+            Files.deleteIfExists(old);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording == null ? RecordingState.CLOSED.name() : recording.getState().name());
+        status.put("settings", settings);
+        status.put("maxSize", maxSize.toString());
+        status.put("maxAge", maxAge.toString());
+        status.put("directory", directory.toAbsolutePath().toString());
+        status.put("maxDumps", maxDumps);
+        if (recording != null) {
+            status.put("startTime", String.valueOf(recording.getStartTime()));
+            status.put("size", recording.getSize());
+        }
+        return status;
+    }
+}
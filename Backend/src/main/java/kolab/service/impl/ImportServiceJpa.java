@@ -0,0 +1,177 @@
+package kolab.service.impl;
+
+import kolab.dao.CompanyRepository;
+import kolab.dao.IndustryRepository;
+import kolab.domain.Company;
+import kolab.domain.Industry;
+import kolab.domain.enums.CompanyCategorization;
+import kolab.domain.enums.Month;
+import kolab.dto.ImportReportDTO;
+import kolab.event.EntitiesImportedEvent;
+import kolab.service.ImportService;
+import kolab.util.Csv;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+@Service
+public class ImportServiceJpa implements ImportService {
+    // Rows are validated, deduplicated and inserted in chunks of this size;
+    // keep it a multiple of hibernate.jdbc.batch_size.
+    static final int CHUNK_SIZE = 1000;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "industry", "country", "zip", "city");
+
+    @Autowired
+    private CompanyRepository companyRepo;
+
+    @Autowired
+    private IndustryRepository industryRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private record PendingRow(int line, Company company) {
+    }
+
+    @Override
+    @Transactional(rollbackFor = IOException.class)
+    public ImportReportDTO importCompanies(Reader csv) throws IOException {
+        Csv.RecordReader reader = new Csv.RecordReader(csv);
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Missing required columns: " + String.join(", ", missing));
+        }
+
+        Map<String, Industry> industries = new HashMap<>();
+        for (Industry industry : industryRepo.findAll()) {
+            industries.put(industry.getId().toString(), industry);
+            industries.put(industry.getName().toLowerCase(Locale.ROOT), industry);
+        }
+
+        ImportReportDTO report = new ImportReportDTO();
+        Set<String> namesInFile = new HashSet<>();
+        List<PendingRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            report.setTotalRows(report.getTotalRows() + 1);
+            try {
+                Company company = toCompany(record, columns, industries);
+                if (!namesInFile.add(company.getName())) {
+                    throw new IllegalArgumentException("Company with name " + company.getName()
+                        + " appears more than once in the file");
+                }
+                chunk.add(new PendingRow(reader.getLine(), company));
+            } catch (IllegalArgumentException e) {
+                report.reject(reader.getLine(), e.getMessage());
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                insert(chunk, report);
+            }
+        }
+        insert(chunk, report);
+        if (report.getImported() > 0) {
+            eventPublisher.publishEvent(new EntitiesImportedEvent(Company.class, report.getImported()));
+        }
+        report.getErrors().sort(Comparator.comparingInt(ImportReportDTO.RowError::getLine));
+        return report;
+    }
+
+    // One set-based name check per chunk, then batched inserts; clearing the
+    // persistence context keeps memory flat regardless of file size. No event
+    // is published per row, the whole import is announced once at the end.
+    private void insert(List<PendingRow> chunk, ImportReportDTO report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Set<String> existing = companyRepo.findExistingNames(
+            chunk.stream().map(row -> row.company().getName()).toList());
+        for (PendingRow row : chunk) {
+            if (existing.contains(row.company().getName())) {
+                report.reject(row.line(), "Company with name " + row.company().getName() + " already exists");
+            } else {
+                entityManager.persist(row.company());
+                report.setImported(report.getImported() + 1);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    private static Company toCompany(List<String> record, Map<String, Integer> columns,
+                                     Map<String, Industry> industries) {
+        Company company = new Company();
+        company.setName(field(record, columns, "name"));
+        String industry = field(record, columns, "industry");
+        if (industry != null) {
+            company.setIndustry(industries.get(industry.toLowerCase(Locale.ROOT)));
+            if (company.getIndustry() == null) {
+                throw new IllegalArgumentException("Unknown industry: " + industry);
+            }
+        }
+        String categorization = field(record, columns, "categorization");
+        if (categorization != null) {
+            company.setCategorization(parseEnum(CompanyCategorization.class, "categorization", categorization));
+        }
+        String month = field(record, columns, "budgetplanningmonth");
+        if (month != null) {
+            company.setBudgetPlanningMonth(parseEnum(Month.class, "budget planning month", month));
+        }
+        company.setCountry(field(record, columns, "country"));
+        String zip = field(record, columns, "zip");
+        if (zip != null) {
+            try {
+                company.setZip(Long.parseLong(zip));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid ZIP code: " + zip);
+            }
+        }
+        company.setCity(field(record, columns, "city"));
+        company.setAddress(field(record, columns, "address"));
+        company.setWebLink(field(record, columns, "weblink"));
+        company.setDescription(field(record, columns, "description"));
+        String contactInFuture = field(record, columns, "contactinfuture");
+        company.setContactInFuture(contactInFuture != null
+            && (contactInFuture.equalsIgnoreCase("true") || contactInFuture.equals("1")));
+        CompanyServiceJpa.validateCompany(company);
+        return company;
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String label, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + label + ": " + value);
+        }
+    }
+}
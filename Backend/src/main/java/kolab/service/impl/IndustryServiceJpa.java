@@ -4,38 +4,64 @@ import kolab.dao.IndustryRepository;
 import kolab.domain.Industry;
 import kolab.service.IndustryService;
 import kolab.exception.NotFoundException;
+import kolab.config.CacheConfig;
+import kolab.event.EntityChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 
 @Service
+@Transactional(readOnly = true)
 public class IndustryServiceJpa implements IndustryService {
 
     @Autowired
     private IndustryRepository industryRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
+    @Cacheable(CacheConfig.INDUSTRIES)
     public List<Industry> getAllIndustries() {
         return industryRepository.findAll();
     }
 
     @Override
+    @Cacheable(CacheConfig.INDUSTRY_BY_ID)
     public Industry getIndustryById(UUID id) {
         return industryRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Industry not found with id: " + id));
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.INDUSTRIES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.INDUSTRY_NAME_EXISTS, allEntries = true)
+    })
     public Industry createIndustry(Industry industry) {
         if (industryRepository.existsByName(industry.getName())) {
             throw new IllegalArgumentException("Industry with name " + industry.getName() + " already exists");
         }
-        return industryRepository.save(industry);
+        Industry saved = industryRepository.save(industry);
+        eventPublisher.publishEvent(EntityChangedEvent.created(Industry.class, saved.getId(), saved));
+        return saved;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.INDUSTRIES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.INDUSTRY_BY_ID, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.INDUSTRY_NAME_EXISTS, allEntries = true)
+    })
     public Industry updateIndustry(UUID id, Industry industry) {
         Industry existingIndustry = getIndustryById(id);
         
@@ -45,14 +71,23 @@ public class IndustryServiceJpa implements IndustryService {
         }
         
         existingIndustry.setName(industry.getName());
-        return industryRepository.save(existingIndustry);
+        Industry saved = industryRepository.save(existingIndustry);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(Industry.class, saved.getId(), saved));
+        return saved;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.INDUSTRIES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.INDUSTRY_BY_ID, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.INDUSTRY_NAME_EXISTS, allEntries = true)
+    })
     public void deleteIndustry(UUID id) {
         if (!industryRepository.existsById(id)) {
             throw new NotFoundException("Industry not found with id: " + id);
         }
         industryRepository.deleteById(id);
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(Industry.class, id));
     }
 }
\ No newline at end of file
@@ -1,23 +1,108 @@
 package kolab.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
 import kolab.service.JwtService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies Google ID tokens (signature, issuer, audience and expiry) and
+ * remembers each verified token, keyed by its SHA-256, until the token
+ * itself expires. Repeated logins with the same credential skip both the
+ * JWT parse and the RSA check.
+ */
 @Service
 public class JwtServiceImpl implements JwtService {
+    private static final Logger log = LoggerFactory.getLogger(JwtServiceImpl.class);
+
+    static final int MAX_VERIFIED_TOKENS = 10_000;
+
+    record VerifiedToken(String email, long expiresAtMillis) {
+    }
+
+    @Autowired
+    private GoogleIdTokenVerifier verifier;
+
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+        .maximumSize(MAX_VERIFIED_TOKENS)
+        .expireAfter(new Expiry<String, VerifiedToken>() {
+            @Override
+            public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.expiresAtMillis() - System.currentTimeMillis()));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, token, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        })
+        .build();
 
     @Override
     public String extractEmail(String token) {
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached.email();
+        }
+
+        if (verifier.getAudience() == null || verifier.getAudience().isEmpty()) {
+            // Without an audience any Google ID token, issued to any app, would pass
+            throw new IllegalArgumentException("Google login is not configured: kolab.auth.google.client-id is empty");
+        }
+        GoogleIdToken idToken;
         try {
-            GoogleIdToken idToken = GoogleIdToken.parse(new GsonFactory(), token);
-            GoogleIdToken.Payload payload = idToken.getPayload();
-            return payload.getEmail();
+            idToken = verifier.verify(token);
         } catch (Exception e) {
-            throw new RuntimeException("Invalid Google token", e);
+            throw new IllegalArgumentException("Invalid Google token", e);
+        }
+        if (idToken == null || idToken.getPayload().getEmail() == null) {
+            throw new IllegalArgumentException("Invalid Google token");
+        }
+        GoogleIdToken.Payload payload = idToken.getPayload();
+        verifiedTokens.put(key, new VerifiedToken(payload.getEmail(), payload.getExpirationTimeSeconds() * 1000));
+        return payload.getEmail();
+    }
+
+    @Scheduled(initialDelayString = "${kolab.auth.google.key-refresh:PT1H}",
+               fixedDelayString = "${kolab.auth.google.key-refresh:PT1H}")
+    public void refreshKeys() {
+        try {
+            verifier.getPublicKeysManager().refresh();
+        } catch (Exception e) {
+            log.warn("Could not refresh Google signing keys, keeping the cached set", e);
+        }
+    }
+
+    long cachedTokenCount() {
+        verifiedTokens.cleanUp();
+        return verifiedTokens.estimatedSize();
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+package kolab.service.impl;
+
+import jakarta.persistence.EntityManager;
+import kolab.dao.CollaborationRepository;
+import kolab.dao.ProjectRollupRepository;
+import kolab.domain.ProjectRollup;
+import kolab.dto.ProgressBucketDTO;
+import kolab.service.ProjectRollupService;
+import org.hibernate.Session;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+@Transactional(readOnly = true)
+public class ProjectRollupServiceJpa implements ProjectRollupService {
+    // Issued through the EntityManager because Spring Data's query parser
+    // does not accept insert-select statements.
+    private static final String REBUILD_ALL =
+        "insert into ProjectRollup (projectId, status, category, collaborationCount, achievedValue) "
+        + "select c.project.id, c.status, c.category, count(c), coalesce(sum(c.achievedValue), 0.0) "
+        + "from Collaboration c group by c.project.id, c.status, c.category";
+
+    // Adding to a bucket must not race with another transaction creating it,
+    // so it is a single upsert: ON CONFLICT on PostgreSQL, MERGE elsewhere (H2).
+    private static final String UPSERT_POSTGRESQL =
+        "insert into project_rollup (project_id, status, category, collaboration_count, achieved_value) "
+        + "values (:projectId, :status, :category, :count, :value) "
+        + "on conflict (project_id, category, status) do update set "
+        + "collaboration_count = project_rollup.collaboration_count + excluded.collaboration_count, "
+        + "achieved_value = project_rollup.achieved_value + excluded.achieved_value";
+    private static final String UPSERT_MERGE =
+        "merge into project_rollup r using (select cast(:projectId as uuid) as project_id, "
+        + "cast(:status as varchar(255)) as status, cast(:category as varchar(255)) as category, "
+        + "cast(:count as bigint) as collaboration_count, cast(:value as float(53)) as achieved_value) v "
+        + "on r.project_id = v.project_id and r.status = v.status and r.category = v.category "
+        + "when matched then update set collaboration_count = r.collaboration_count + v.collaboration_count, "
+        + "achieved_value = r.achieved_value + v.achieved_value "
+        + "when not matched then insert (project_id, status, category, collaboration_count, achieved_value) "
+        + "values (v.project_id, v.status, v.category, v.collaboration_count, v.achieved_value)";
+
+    @Autowired
+    private ProjectRollupRepository rollupRepo;
+
+    @Autowired
+    private CollaborationRepository collaborationRepo;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private volatile String upsert;
+
+    @Override
+    public List<ProgressBucketDTO> getBuckets(UUID projectId) {
+        return rollupRepo.findBucketsByProjectId(projectId);
+    }
+
+    @Override
+    @Transactional
+    public void add(Contribution contribution, long count) {
+        adjust(contribution, count, contribution != null ? contribution.achievedValue() * count : 0);
+    }
+
+    @Override
+    @Transactional
+    public void remove(Contribution contribution) {
+        adjust(contribution, -1, contribution != null ? -contribution.achievedValue() : 0);
+    }
+
+    @Override
+    @Transactional
+    public void replace(Contribution before, Contribution after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        remove(before);
+        add(after, 1);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        rollupRepo.deleteAllInBatch();
+        return entityManager.createQuery(REBUILD_ALL).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int rebuild(UUID projectId) {
+        rollupRepo.deleteByProjectId(projectId);
+        List<ProgressBucketDTO> buckets = collaborationRepo.summarizeByProjectId(projectId);
+        for (ProgressBucketDTO bucket : buckets) {
+            ProjectRollup rollup = new ProjectRollup();
+            rollup.setProjectId(projectId);
+            rollup.setStatus(bucket.getStatus());
+            rollup.setCategory(bucket.getCategory());
+            rollup.setCollaborationCount(bucket.getCount());
+            rollup.setAchievedValue(bucket.getAchievedValue());
+            entityManager.persist(rollup);
+        }
+        return buckets.size();
+    }
+
+    // Additions upsert the bucket; removals only ever update an existing one,
+    // so a missing bucket is never created with a negative count.
+    private void adjust(Contribution contribution, long count, double value) {
+        if (contribution == null) {
+            return;
+        }
+        if (count < 0) {
+            rollupRepo.increment(contribution.projectId(), contribution.status(), contribution.category(), count, value);
+            return;
+        }
+        // Naming the table keeps Hibernate from invalidating every second-level cache region on commit
+        entityManager.createNativeQuery(upsert())
+            .unwrap(NativeQuery.class)
+            .addSynchronizedEntityClass(ProjectRollup.class)
+            .setParameter("projectId", contribution.projectId())
+            .setParameter("status", contribution.status().name())
+            .setParameter("category", contribution.category().name())
+            .setParameter("count", count)
+            .setParameter("value", value)
+            .executeUpdate();
+    }
+
+    private String upsert() {
+        String upsert = this.upsert;
+        if (upsert == null) {
+            String database = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+            upsert = this.upsert = "PostgreSQL".equals(database) ? UPSERT_POSTGRESQL : UPSERT_MERGE;
+        }
+        return upsert;
+    }
+}
@@ -1,29 +1,65 @@
 package kolab.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import kolab.dao.CategoryRepository;
 import kolab.dao.ProjectRepository;
+import kolab.dao.UserRepository;
 import kolab.domain.Project;
+import kolab.domain.enums.ProjectType;
+import kolab.dto.CursorPage;
 import kolab.service.ProjectService;
 import kolab.exception.NotFoundException;
+import kolab.event.EntityChangedEvent;
+import kolab.util.MergePatch;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Service
+@Transactional(readOnly = true)
 public class ProjectServiceJpa implements ProjectService {
     @Autowired
     private ProjectRepository projectRepo;
 
+    @Autowired
+    private CategoryRepository categoryRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<Project> getProjects() {
         return projectRepo.findAll();
     }
 
+    @Override
+    public CursorPage<Project> getProjects(String after, int limit) {
+        UUID afterId = CursorPage.decodeCursor(after);
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<Project> rows = afterId == null
+            ? projectRepo.findAllByOrderByIdAsc(page)
+            : projectRepo.findByIdGreaterThanOrderByIdAsc(afterId, page);
+        return CursorPage.of(rows, limit, Project::getId);
+    }
+
     @Override
     public Project getProjectById(UUID id) {
-        return projectRepo.findById(id)
+        Project project = projectRepo.findById(id)
             .orElseThrow(() -> new NotFoundException("Project with id " + id + " not found"));
+        // A second-level cache hit bypasses the entity graph and leaves proxies
+        Hibernate.initialize(project.getCategory());
+        Hibernate.initialize(project.getResponsible());
+        return project;
     }
 
     @Override
@@ -37,18 +73,23 @@ public class ProjectServiceJpa implements ProjectService {
     }
 
     @Override
+    @Transactional
     public Project createProject(Project project) {
         Assert.notNull(project, "Project object must be given");
         if (projectRepo.existsByName(project.getName())) {
             throw new IllegalArgumentException("Project with name " + project.getName() + " already exists");
         }
         validateProject(project);
-        return projectRepo.save(project);
+        Project saved = projectRepo.save(project);
+        eventPublisher.publishEvent(EntityChangedEvent.created(Project.class, saved.getId(), saved));
+        return saved;
     }
 
     @Override
+    @Transactional
     public Project updateProject(UUID id, Project updatedProject) {
         Project project = getProjectById(id);
+        MergePatch.checkVersion(updatedProject.getVersion(), project.getVersion());
         validateProject(updatedProject);
 
         if (!project.getName().equals(updatedProject.getName()) && 
@@ -64,19 +105,53 @@ public class ProjectServiceJpa implements ProjectService {
         project.setGoal(updatedProject.getGoal());
         project.setResponsible(updatedProject.getResponsible());
 
-        return projectRepo.save(project);
+        Project saved = projectRepo.save(project);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(Project.class, saved.getId(), saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Project patchProject(UUID id, JsonNode patch) {
+        Project project = getProjectById(id);
+        // Checked before anything is set: the query would otherwise auto-flush the new name and find itself
+        JsonNode name = patch != null ? patch.get("name") : null;
+        if (name != null && name.isTextual() && projectRepo.existsByNameAndIdNot(name.asText(), id)) {
+            throw new IllegalArgumentException("Project with name " + name.asText() + " already exists");
+        }
+
+        MergePatch.of(patch)
+            .checkVersion(project.getVersion())
+            .field("categoryId", UUID.class, categoryId -> project.setCategory(categoryId == null ? null
+                : categoryRepo.findById(categoryId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid category ID: " + categoryId))))
+            .field("name", String.class, project::setName)
+            .field("type", ProjectType.class, project::setType)
+            .field("startDate", ZonedDateTime.class, project::setStartDate)
+            .field("endDate", ZonedDateTime.class, project::setEndDate)
+            .field("goal", Long.class, project::setGoal)
+            .field("responsibleId", UUID.class, responsibleId -> project.setResponsible(responsibleId == null ? null
+                : userRepo.findById(responsibleId)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid responsible ID: " + responsibleId))))
+            .finish();
+        validateProject(project);
+
+        eventPublisher.publishEvent(EntityChangedEvent.updated(Project.class, project.getId(), project));
+        return project;
     }
 
     @Override
+    @Transactional
     public void deleteProject(UUID id) {
         if (projectRepo.existsById(id)) {
             projectRepo.deleteById(id);
+            eventPublisher.publishEvent(EntityChangedEvent.deleted(Project.class, id));
         } else {
             throw new NotFoundException("Project with id " + id + " not found");
         }
     }
 
-    private void validateProject(Project project) {
+    static void validateProject(Project project) {
         if (project.getName() == null || project.getName().trim().isEmpty()) {
             throw new IllegalArgumentException("Name is required");
         }
@@ -0,0 +1,156 @@
+package kolab.service.impl;
+
+import kolab.dao.CompanyRepository;
+import kolab.dao.ContactRepository;
+import kolab.domain.Company;
+import kolab.domain.Contact;
+import kolab.dto.SearchHitDTO;
+import kolab.event.EntitiesImportedEvent;
+import kolab.event.EntityChangedEvent;
+import kolab.event.RebuildBuffer;
+import kolab.search.InvertedIndex;
+import kolab.search.SearchDocument;
+import kolab.search.Tokenizer;
+import kolab.service.SearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+@Service
+public class SearchServiceJpa implements SearchService {
+    private static final Logger log = LoggerFactory.getLogger(SearchServiceJpa.class);
+
+    @Autowired
+    private CompanyRepository companyRepo;
+
+    @Autowired
+    private ContactRepository contactRepo;
+
+    // Swapped wholesale on rebuild so searches never see a half-built index.
+    private volatile Map<String, InvertedIndex> indexes = Map.of(
+        COMPANY, new InvertedIndex(),
+        CONTACT, new InvertedIndex());
+
+    private final RebuildBuffer changes = new RebuildBuffer();
+
+    @Override
+    public List<SearchHitDTO> search(String query, String type, int limit) {
+        if (type != null && !indexes.containsKey(type)) {
+            throw new IllegalArgumentException("Unknown search type: " + type);
+        }
+        List<String> terms = Tokenizer.tokenize(query);
+        List<InvertedIndex.Hit> hits = new ArrayList<>();
+        for (Map.Entry<String, InvertedIndex> index : indexes.entrySet()) {
+            if (type == null || type.equals(index.getKey())) {
+                hits.addAll(index.getValue().search(terms, limit));
+            }
+        }
+        return hits.stream()
+            .sorted(Comparator.comparingDouble(InvertedIndex.Hit::score).reversed())
+            .limit(limit)
+            .map(hit -> new SearchHitDTO(hit.document().getType(), hit.document().getId(),
+                hit.document().getTitle(), hit.document().getSubtitle(), hit.score()))
+            .toList();
+    }
+
+    // Runs after commit, or immediately for changes made outside a transaction,
+    // so a rolled back save never leaves a phantom hit behind.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (typeOf(event.type()) != null) {
+            changes.apply(event, change -> apply(indexes, change));
+        }
+    }
+
+    // An import creates too many rows to follow one by one, so it is re-read once it has committed
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onEntitiesImported(EntitiesImportedEvent event) {
+        if (typeOf(event.type()) != null) {
+            rebuild();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        Map<String, InvertedIndex> rebuilt = changes.rebuild(() -> {
+            InvertedIndex companies = new InvertedIndex();
+            try (Stream<Company> rows = companyRepo.streamAllBy()) {
+                rows.forEach(company -> companies.put(toDocument(company)));
+            }
+            InvertedIndex contacts = new InvertedIndex();
+            try (Stream<Contact> rows = contactRepo.streamAllBy()) {
+                rows.forEach(contact -> contacts.put(toDocument(contact)));
+            }
+            return Map.of(COMPANY, companies, CONTACT, contacts);
+        }, swapped -> indexes = swapped, SearchServiceJpa::apply);
+        log.info("Search index rebuilt with {} companies and {} contacts in {} ms",
+            rebuilt.get(COMPANY).size(), rebuilt.get(CONTACT).size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public Map<String, Integer> getIndexSizes() {
+        Map<String, Integer> sizes = new TreeMap<>();
+        indexes.forEach((type, index) -> sizes.put(type, index.size()));
+        return sizes;
+    }
+
+    private static void apply(Map<String, InvertedIndex> target, EntityChangedEvent event) {
+        InvertedIndex index = target.get(typeOf(event.type()));
+        if (event.kind() == EntityChangedEvent.Kind.DELETED) {
+            index.remove(event.id());
+        } else {
+            index.put(toDocument(event.entity()));
+        }
+    }
+
+    private static String typeOf(Class<?> type) {
+        if (type == Company.class) {
+            return COMPANY;
+        } else if (type == Contact.class) {
+            return CONTACT;
+        }
+        return null;
+    }
+
+    static SearchDocument toDocument(Object entity) {
+        if (entity instanceof Company company) {
+            return new SearchDocument(COMPANY, company.getId(), company.getName(),
+                join(company.getCity(), company.getCountry()))
+                .field(company.getName(), 3)
+                .field(company.getCity(), 1)
+                .field(company.getCountry(), 1)
+                .field(company.getDescription(), 1)
+                .field(company.getWebLink(), 1);
+        }
+        if (entity instanceof Contact contact) {
+            return new SearchDocument(CONTACT, contact.getId(),
+                join(contact.getFirstName(), contact.getLastName()),
+                join(contact.getPosition(), contact.getEmail()))
+                .field(contact.getFirstName(), 3)
+                .field(contact.getLastName(), 3)
+                .field(contact.getPosition(), 1)
+                .field(contact.getEmail(), 1);
+        }
+        return null;
+    }
+
+    private static String join(String first, String second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null ? first : first + ", " + second;
+    }
+}
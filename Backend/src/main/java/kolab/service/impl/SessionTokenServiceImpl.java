@@ -0,0 +1,111 @@
+package kolab.service.impl;
+
+import kolab.domain.User;
+import kolab.domain.enums.UserAuthorization;
+import kolab.security.SessionPrincipal;
+import kolab.service.SessionTokenService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Short-lived session tokens of the form {@code payload.signature}, where
+ * the payload carries the user id, authorization, expiry and email and the
+ * signature is an HMAC-SHA256 over it. Checking one is a single HMAC, so
+ * authenticated requests need neither the Google JWT nor the user table.
+ *
+ * <p>Without {@code kolab.auth.session.secret} a random key is generated at
+ * startup, which logs everyone out on restart and does not work across
+ * several instances.
+ */
+@Service
+public class SessionTokenServiceImpl implements SessionTokenService {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "v1";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public SessionTokenServiceImpl(@Value("${kolab.auth.session.secret:}") String secret,
+                                   @Value("${kolab.auth.session.ttl:PT15M}") Duration ttl) {
+        this(secret, ttl, Clock.systemUTC());
+    }
+
+    SessionTokenServiceImpl(String secret, Duration ttl, Clock clock) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @Override
+    public String issue(User user) {
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String payload = String.join("|", VERSION, user.getId().toString(),
+            user.getAuthorization().name(), Long.toString(expiresAt), user.getEmail());
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    @Override
+    public SessionPrincipal verify(String token) {
+        int dot = token == null ? -1 : token.indexOf('.');
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            throw new IllegalArgumentException("Malformed session token");
+        }
+        byte[] payloadBytes;
+        byte[] signature;
+        try {
+            payloadBytes = DECODER.decode(token.substring(0, dot));
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed session token");
+        }
+        if (!MessageDigest.isEqual(sign(payloadBytes), signature)) {
+            throw new IllegalArgumentException("Invalid session token signature");
+        }
+
+        String[] fields = new String(payloadBytes, StandardCharsets.UTF_8).split("\\|", 5);
+        if (fields.length != 5 || !VERSION.equals(fields[0])) {
+            throw new IllegalArgumentException("Unsupported session token");
+        }
+        Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(fields[3]));
+        if (!clock.instant().isBefore(expiresAt)) {
+            throw new IllegalArgumentException("Session token expired");
+        }
+        return new SessionPrincipal(UUID.fromString(fields[1]), fields[4],
+            UserAuthorization.valueOf(fields[2]), expiresAt);
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
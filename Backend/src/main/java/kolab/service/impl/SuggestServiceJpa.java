@@ -0,0 +1,154 @@
+package kolab.service.impl;
+
+import kolab.dao.*;
+import kolab.domain.*;
+import kolab.dto.SuggestionDTO;
+import kolab.event.EntitiesImportedEvent;
+import kolab.event.EntityChangedEvent;
+import kolab.event.RebuildBuffer;
+import kolab.search.PrefixTrie;
+import kolab.service.SuggestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+public class SuggestServiceJpa implements SuggestService {
+    @Autowired
+    private CompanyRepository companyRepo;
+
+    @Autowired
+    private ContactRepository contactRepo;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private IndustryRepository industryRepo;
+
+    @Autowired
+    private CategoryRepository categoryRepo;
+
+    private volatile Map<String, PrefixTrie> tries = emptyTries();
+
+    private final RebuildBuffer changes = new RebuildBuffer();
+
+    @Override
+    public List<SuggestionDTO> suggest(String type, String prefix, int limit) {
+        PrefixTrie trie = tries.get(type);
+        if (trie == null) {
+            throw new IllegalArgumentException("Unknown suggestion type: " + type);
+        }
+        return trie.suggest(prefix, limit).stream()
+            .map(entry -> new SuggestionDTO(entry.id(), entry.label()))
+            .toList();
+    }
+
+    // Runs after commit, or immediately for changes made outside a transaction.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (typeOf(event.type()) != null) {
+            changes.apply(event, change -> apply(tries, change));
+        }
+    }
+
+    // Bulk imports publish no per-row events; pick their rows up with one rebuild
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onEntitiesImported(EntitiesImportedEvent event) {
+        if (typeOf(event.type()) != null) {
+            rebuild();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        changes.rebuild(() -> {
+            Map<String, PrefixTrie> rebuilt = emptyTries();
+            try (Stream<Company> rows = companyRepo.streamAllBy()) {
+                rows.forEach(company -> rebuilt.get(COMPANY).put(company.getId(), label(company)));
+            }
+            try (Stream<Contact> rows = contactRepo.streamAllBy()) {
+                rows.forEach(contact -> rebuilt.get(CONTACT).put(contact.getId(), label(contact)));
+            }
+            fill(rebuilt.get(USER), userRepo.findAll(), User::getId);
+            fill(rebuilt.get(INDUSTRY), industryRepo.findAll(), Industry::getId);
+            fill(rebuilt.get(CATEGORY), categoryRepo.findAll(), Category::getId);
+            return rebuilt;
+        }, swapped -> tries = swapped, SuggestServiceJpa::apply);
+    }
+
+    @Override
+    public Map<String, Integer> getSizes() {
+        Map<String, Integer> sizes = new TreeMap<>();
+        tries.forEach((type, trie) -> sizes.put(type, trie.size()));
+        return sizes;
+    }
+
+    private static void apply(Map<String, PrefixTrie> target, EntityChangedEvent event) {
+        PrefixTrie trie = target.get(typeOf(event.type()));
+        if (event.kind() == EntityChangedEvent.Kind.DELETED) {
+            trie.remove(event.id());
+        } else {
+            trie.put(event.id(), label(event.entity()));
+        }
+    }
+
+    private static Map<String, PrefixTrie> emptyTries() {
+        return Map.of(
+            COMPANY, new PrefixTrie(),
+            CONTACT, new PrefixTrie(),
+            USER, new PrefixTrie(),
+            INDUSTRY, new PrefixTrie(),
+            CATEGORY, new PrefixTrie());
+    }
+
+    private static <T> void fill(PrefixTrie trie, List<T> rows, Function<T, UUID> idOf) {
+        for (T row : rows) {
+            trie.put(idOf.apply(row), label(row));
+        }
+    }
+
+    private static String typeOf(Class<?> type) {
+        if (type == Company.class) {
+            return COMPANY;
+        } else if (type == Contact.class) {
+            return CONTACT;
+        } else if (type == User.class) {
+            return USER;
+        } else if (type == Industry.class) {
+            return INDUSTRY;
+        } else if (type == Category.class) {
+            return CATEGORY;
+        }
+        return null;
+    }
+
+    static String label(Object entity) {
+        if (entity instanceof Company company) {
+            return company.getName();
+        } else if (entity instanceof Contact contact) {
+            return contact.getFirstName() + " " + contact.getLastName();
+        } else if (entity instanceof User user) {
+            return user.getName() + " " + user.getSurname();
+        } else if (entity instanceof Industry industry) {
+            return industry.getName();
+        } else if (entity instanceof Category category) {
+            return category.getName();
+        }
+        return null;
+    }
+}
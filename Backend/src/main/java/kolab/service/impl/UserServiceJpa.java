@@ -1,25 +1,50 @@
 package kolab.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import kolab.dao.UserRepository;
 import kolab.domain.User;
+import kolab.domain.enums.UserAuthorization;
+import kolab.dto.CursorPage;
 import kolab.service.UserService;
 import kolab.exception.NotFoundException;
+import kolab.event.EntityChangedEvent;
+import kolab.util.MergePatch;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import java.util.List;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Service
+@Transactional(readOnly = true)
 public class UserServiceJpa implements UserService {
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@(.+)$");
+
     @Autowired
     private UserRepository userRepo;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public List<User> getUsers() {
         return userRepo.findAll();
     }
 
+    @Override
+    public CursorPage<User> getUsers(String after, int limit) {
+        UUID afterId = CursorPage.decodeCursor(after);
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<User> rows = afterId == null
+            ? userRepo.findAllByOrderByIdAsc(page)
+            : userRepo.findByIdGreaterThanOrderByIdAsc(afterId, page);
+        return CursorPage.of(rows, limit, User::getId);
+    }
+
     @Override
     public User getUserById(UUID id) {
         return userRepo.findById(id)
@@ -32,16 +57,27 @@ public class UserServiceJpa implements UserService {
     }
 
     @Override
+    @Transactional
     public User createUser(User user) {
         Assert.notNull(user, "User object must be given.");
         validateUser(user);
-        return userRepo.save(user);
+        if (userRepo.existsByEmail(user.getEmail())) {
+            throw new IllegalArgumentException("User with email " + user.getEmail() + " already exists");
+        }
+        User saved = userRepo.save(user);
+        eventPublisher.publishEvent(EntityChangedEvent.created(User.class, saved.getId(), saved));
+        return saved;
     }
 
     @Override
+    @Transactional
     public User updateUser(UUID id, User updatedUser) {
         User user = getUserById(id);
+        MergePatch.checkVersion(updatedUser.getVersion(), user.getVersion());
         validateUser(updatedUser);
+        if (userRepo.existsByEmailAndIdNot(updatedUser.getEmail(), id)) {
+            throw new IllegalArgumentException("User with email " + updatedUser.getEmail() + " already exists");
+        }
         
         user.setName(updatedUser.getName());
         user.setSurname(updatedUser.getSurname());
@@ -50,13 +86,42 @@ public class UserServiceJpa implements UserService {
         user.setAuthorization(updatedUser.getAuthorization());
         user.setDescription(updatedUser.getDescription());
         
-        return userRepo.save(user);
+        User saved = userRepo.save(user);
+        eventPublisher.publishEvent(EntityChangedEvent.updated(User.class, saved.getId(), saved));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public User patchUser(UUID id, JsonNode patch) {
+        User user = getUserById(id);
+        // Checked before anything is set: the query would otherwise auto-flush the new email and find itself
+        JsonNode email = patch != null ? patch.get("email") : null;
+        if (email != null && email.isTextual() && userRepo.existsByEmailAndIdNot(email.asText(), id)) {
+            throw new IllegalArgumentException("User with email " + email.asText() + " already exists");
+        }
+
+        MergePatch.of(patch)
+            .checkVersion(user.getVersion())
+            .field("name", String.class, user::setName)
+            .field("surname", String.class, user::setSurname)
+            .field("nickname", String.class, user::setNickname)
+            .field("email", String.class, user::setEmail)
+            .field("authorization", UserAuthorization.class, user::setAuthorization)
+            .field("description", String.class, user::setDescription)
+            .finish();
+        validateUser(user);
+
+        eventPublisher.publishEvent(EntityChangedEvent.updated(User.class, user.getId(), user));
+        return user;
     }
 
     @Override
+    @Transactional
     public void deleteUser(UUID id) {
         if (userRepo.existsById(id)) {
             userRepo.deleteById(id);
+            eventPublisher.publishEvent(EntityChangedEvent.deleted(User.class, id));
         } else {
             throw new NotFoundException("User with id " + id + " not found");
         }
@@ -67,8 +132,8 @@ public class UserServiceJpa implements UserService {
         return userRepo.count();
     }
     
-    private void validateUser(User user) {
-        if (user.getEmail() == null || !user.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$")) {
+    static void validateUser(User user) {
+        if (user.getEmail() == null || !EMAIL.matcher(user.getEmail()).matches()) {
             throw new IllegalArgumentException("Invalid email format");
         }
         if (user.getName() == null || user.getName().trim().isEmpty()) {
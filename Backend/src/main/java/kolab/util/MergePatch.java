@@ -0,0 +1,101 @@
+package kolab.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import kolab.exception.ConflictException;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Applies an RFC 7396 JSON Merge Patch to a managed entity one field at a
+ * time: only members present in the patch reach their setter, and an
+ * explicit {@code null} clears the field. Entities are flat, so there is no
+ * nested merging. Because untouched properties keep their loaded values,
+ * Hibernate's dirty checking (with {@code @DynamicUpdate}) writes just the
+ * patched columns.
+ *
+ * <pre>
+ * MergePatch.of(patch)
+ *     .checkVersion(company.getVersion())
+ *     .field("name", String.class, company::setName)
+ *     .finish();
+ * </pre>
+ */
+public class MergePatch {
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+    public static final String VERSION = "version";
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+    private final JsonNode patch;
+    private final Set<String> applied = new HashSet<>();
+
+    private MergePatch(JsonNode patch) {
+        this.patch = patch;
+    }
+
+    public static MergePatch of(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+        return new MergePatch(patch);
+    }
+
+    /**
+     * Rejects the patch if it names a {@code version} other than the one
+     * currently stored; a patch without a version is applied
+     * unconditionally.
+     */
+    public MergePatch checkVersion(Long current) {
+        applied.add(VERSION);
+        JsonNode version = patch.get(VERSION);
+        if (version != null && !version.isNull()) {
+            if (!version.canConvertToLong()) {
+                throw new IllegalArgumentException("Invalid version: " + version);
+            }
+            checkVersion(version.asLong(), current);
+        }
+        return this;
+    }
+
+    public static void checkVersion(Long expected, Long current) {
+        if (expected != null && !Objects.equals(expected, current)) {
+            throw new ConflictException("Stale version " + expected + ", current version is " + current);
+        }
+    }
+
+    public boolean has(String name) {
+        return patch.has(name);
+    }
+
+    public <T> MergePatch field(String name, Class<T> type, Consumer<T> setter) {
+        applied.add(name);
+        JsonNode value = patch.get(name);
+        if (value == null) {
+            return this;
+        }
+        T converted;
+        try {
+            converted = value.isNull() ? null : MAPPER.treeToValue(value, type);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+        }
+        setter.accept(converted);
+        return this;
+    }
+
+    public void finish() {
+        for (Iterator<String> names = patch.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (!applied.contains(name)) {
+                throw new IllegalArgumentException("Unknown or read-only field: " + name);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package kolab.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Statement logging that replaces {@code show-sql} in production.
+ * Statements at or over the threshold go to the {@code kolab.sql.slow}
+ * logger at WARN; of the rest, a random {@code sampleRate} fraction goes
+ * to {@code kolab.sql.sampled} at INFO. Each line has the duration, the
+ * number of bound parameters, the endpoint the statement ran for, and
+ * the SQL text.
+ */
+public class SqlLog {
+    private static final Logger slow = LoggerFactory.getLogger("kolab.sql.slow");
+    private static final Logger sampled = LoggerFactory.getLogger("kolab.sql.sampled");
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+
+    public SqlLog(Duration threshold, double sampleRate) {
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+    }
+
+    void executed(String sql, int binds, long nanos) {
+        if (nanos >= thresholdNanos) {
+            if (slow.isWarnEnabled()) {
+                slow.warn(format(sql, binds, nanos));
+            }
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && sampled.isInfoEnabled()) {
+            sampled.info(format(sql, binds, nanos));
+        }
+    }
+
+    private static String format(String sql, int binds, long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms, %d binds, %s: %s", nanos / 1e6, binds, endpoint(), sql);
+    }
+
+    private static String endpoint() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+        }
+        return "no request";
+    }
+}
@@ -0,0 +1,71 @@
+package kolab.util;
+
+/**
+ * SQL work done by the current thread since {@link #start()}: statements
+ * executed, rows read from result sets, and time spent in JDBC calls. The
+ * counts come from {@link SqlStatsDataSource}. Scopes nest; an inner scope
+ * also adds its counts to the enclosing one.
+ */
+public final class SqlStats {
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private final SqlStats parent;
+    private long statements;
+    private long rows;
+    private long jdbcNanos;
+
+    private SqlStats(SqlStats parent) {
+        this.parent = parent;
+    }
+
+    public static SqlStats start() {
+        SqlStats stats = new SqlStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    public void stop() {
+        if (CURRENT.get() == this) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    void statement(long nanos) {
+        for (SqlStats stats = this; stats != null; stats = stats.parent) {
+            stats.statements++;
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    void fetch(boolean row, long nanos) {
+        for (SqlStats stats = this; stats != null; stats = stats.parent) {
+            stats.rows += row ? 1 : 0;
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return statements + " statements, " + rows + " rows, " + jdbcNanos / 1_000 + " us";
+    }
+}
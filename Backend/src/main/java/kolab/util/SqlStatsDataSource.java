@@ -0,0 +1,135 @@
+package kolab.util;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Counts statements, fetched rows and JDBC time into the calling thread's
+ * {@link SqlStats}, and reports each statement's timing to the
+ * {@link SqlLog} if there is one. Without a log, statements created while
+ * no scope is active are handed out unwrapped, so background work costs
+ * nothing beyond a thread-local lookup per statement.
+ */
+public class SqlStatsDataSource extends DelegatingDataSource implements AutoCloseable {
+    private final SqlLog log;
+
+    public SqlStatsDataSource(DataSource target) {
+        this(target, null);
+    }
+
+    public SqlStatsDataSource(DataSource target, SqlLog log) {
+        super(target);
+        this.log = log;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    /** Closes the pool underneath, since this wrapper is the bean the context shuts down. */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection connection(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            String name = method.getName();
+            SqlStats stats = SqlStats.current();
+            if ((stats != null || log != null)
+                    && (name.equals("createStatement") || name.equals("prepareStatement") || name.equals("prepareCall"))) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType(), new StatementHandler(result, sql, stats, log));
+            }
+            return result;
+        });
+    }
+
+    /** Times execute calls, and counts the parameters bound since the previous one for the log. */
+    private static class StatementHandler implements InvocationHandler {
+        private final Object target;
+        private final String sql;
+        private final SqlStats stats;
+        private final SqlLog log;
+        private int binds;
+
+        StatementHandler(Object target, String sql, SqlStats stats, SqlLog log) {
+            this.target = target;
+            this.sql = sql;
+            this.stats = stats;
+            this.log = log;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    binds++;
+                }
+                Object result = SqlStatsDataSource.invoke(target, method, args);
+                return stats != null && result instanceof ResultSet resultSet && name.equals("getResultSet")
+                    ? resultSet(resultSet, stats) : result;
+            }
+            long start = System.nanoTime();
+            Object result = SqlStatsDataSource.invoke(target, method, args);
+            long nanos = System.nanoTime() - start;
+            if (stats != null) {
+                stats.statement(nanos);
+            }
+            if (log != null) {
+                log.executed(sql != null ? sql : args != null && args.length > 0 ? String.valueOf(args[0]) : "", binds, nanos);
+            }
+            binds = 0;
+            return stats != null && result instanceof ResultSet resultSet ? resultSet(resultSet, stats) : result;
+        }
+    }
+
+    private static ResultSet resultSet(ResultSet target, SqlStats stats) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            if (!method.getName().equals("next")) {
+                return invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            boolean row = target.next();
+            stats.fetch(row, System.nanoTime() - start);
+            return row;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, InvocationHandler handler) {
+        // Identity semantics, so Hibernate can track the proxies in its resource registry
+        return (T) Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(), new Class<?>[]{type},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> args != null && args.length == 1 && proxy == args[0];
+                case "hashCode" -> method.getParameterCount() == 0 ? System.identityHashCode(proxy) : handler.invoke(proxy, method, args);
+                default -> handler.invoke(proxy, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
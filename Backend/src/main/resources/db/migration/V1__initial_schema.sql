@@ -0,0 +1,88 @@
+-- Schema as previously maintained by ddl-auto=update, exactly as deployed
+-- before migrations were introduced. Existing databases are baselined at
+-- version 1 (spring.flyway.baseline-on-migrate) and skip this file, so every
+-- later change belongs in V2 onwards.
+
+create table industry (
+    id uuid not null,
+    name varchar(255) not null,
+    primary key (id),
+    constraint uk_industry_name unique (name)
+);
+
+create table category (
+    id uuid not null,
+    name varchar(255) not null,
+    primary key (id)
+);
+
+create table app_user (
+    id uuid not null,
+    name varchar(255) not null,
+    surname varchar(255) not null,
+    nickname varchar(255),
+    email varchar(255) not null,
+    auth varchar(255) not null check (auth in ('ADMINISTRATOR','USER')),
+    description varchar(255),
+    primary key (id)
+);
+
+create table company (
+    id uuid not null,
+    industry_id uuid not null,
+    name varchar(255) not null,
+    categorization varchar(255) check (categorization in ('A','B','C')),
+    budget_planning_month varchar(255) check (budget_planning_month in ('JANUARY','FEBRUARY','MARCH','APRIL','MAY','JUNE','JULY','AUGUST','SEPTEMBER','OCTOBER','NOVEMBER','DECEMBER')),
+    country varchar(255) not null,
+    zip bigint not null,
+    city varchar(255) not null,
+    address varchar(255),
+    web_link varchar(255),
+    description varchar(255),
+    contact_in_future boolean,
+    primary key (id),
+    constraint fk_company_industry foreign key (industry_id) references industry
+);
+
+create table company_contact (
+    id uuid not null,
+    company_id uuid not null,
+    first_name varchar(255) not null,
+    last_name varchar(255) not null,
+    email varchar(255) not null,
+    phone varchar(255),
+    position varchar(255) not null,
+    primary key (id),
+    constraint fk_company_contact_company foreign key (company_id) references company
+);
+
+create table project (
+    id uuid not null,
+    category_id uuid not null,
+    name varchar(255) not null,
+    type varchar(255) not null check (type in ('EXTERNAL','INTERNAL')),
+    start_date timestamp(6) with time zone not null,
+    end_date timestamp(6) with time zone,
+    goal bigint,
+    responsible_id uuid not null,
+    primary key (id),
+    constraint fk_project_category foreign key (category_id) references category,
+    constraint fk_project_responsible foreign key (responsible_id) references app_user
+);
+
+create table collaboration (
+    id uuid not null,
+    project_id uuid not null,
+    company_id uuid not null,
+    contact_id uuid,
+    responsible_id uuid,
+    category varchar(255) not null check (category in ('FINANCIAL','MATERIAL','ACADEMIC')),
+    status varchar(255) not null check (status in ('TODO','CONTACTED','PING','LETTER','MEETING','SUCCESSFUL','UNSUCCESSFUL')),
+    comment varchar(255),
+    achieved_value float(53),
+    primary key (id),
+    constraint fk_collaboration_project foreign key (project_id) references project,
+    constraint fk_collaboration_company foreign key (company_id) references company,
+    constraint fk_collaboration_contact foreign key (contact_id) references company_contact,
+    constraint fk_collaboration_responsible foreign key (responsible_id) references app_user
+);
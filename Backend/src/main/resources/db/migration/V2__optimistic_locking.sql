@@ -0,0 +1,7 @@
+-- @Version columns for optimistic locking. Existing rows start at version 0.
+-- "if not exists" because databases that ran ddl-auto=update after the
+-- columns were mapped already have them.
+alter table app_user add column if not exists version bigint default 0 not null;
+alter table company add column if not exists version bigint default 0 not null;
+alter table project add column if not exists version bigint default 0 not null;
+alter table collaboration add column if not exists version bigint default 0 not null;
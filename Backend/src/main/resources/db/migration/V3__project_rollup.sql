@@ -0,0 +1,17 @@
+-- Read model of collaboration counts and achieved value per project, status
+-- and category, maintained incrementally by the collaboration write paths.
+create table if not exists project_rollup (
+    project_id uuid not null,
+    status varchar(255) not null check (status in ('TODO','CONTACTED','PING','LETTER','MEETING','SUCCESSFUL','UNSUCCESSFUL')),
+    category varchar(255) not null check (category in ('FINANCIAL','MATERIAL','ACADEMIC')),
+    collaboration_count bigint not null,
+    achieved_value float(53) not null,
+    primary key (project_id, category, status)
+);
+
+-- Seed from the existing collaborations; progress is read from this table only
+delete from project_rollup;
+insert into project_rollup (project_id, status, category, collaboration_count, achieved_value)
+select project_id, status, category, count(*), coalesce(sum(achieved_value), 0)
+from collaboration
+group by project_id, status, category;
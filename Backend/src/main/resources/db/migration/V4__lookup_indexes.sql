@@ -0,0 +1,29 @@
+-- One index per repository lookup. Unique where the services already enforce
+-- uniqueness, so a racing duplicate insert fails instead of slipping through.
+
+-- CollaborationRepository.findByProjectId / summarizeByProjectId (grouped by status)
+create index if not exists idx_collaboration_project_status on collaboration (project_id, status);
+-- CollaborationRepository.findCompanyIdsByProjectId (batch assignment)
+create index if not exists idx_collaboration_project_company on collaboration (project_id, company_id);
+create index if not exists idx_collaboration_company on collaboration (company_id);
+create index if not exists idx_collaboration_contact on collaboration (contact_id);
+create index if not exists idx_collaboration_responsible on collaboration (responsible_id);
+
+create index if not exists idx_company_industry on company (industry_id);
+create unique index if not exists ux_company_name on company (name);
+
+create index if not exists idx_project_category on project (category_id);
+create index if not exists idx_project_responsible on project (responsible_id);
+create unique index if not exists ux_project_name on project (name);
+
+create index if not exists idx_company_contact_company on company_contact (company_id);
+create unique index if not exists ux_company_contact_email on company_contact (email);
+
+create unique index if not exists ux_category_name on category (name);
+
+-- Replaces the plain index ddl-auto created for the login lookup. UserServiceJpa
+-- rejects duplicate emails, but older databases may already hold some and this
+-- statement then fails; find them before upgrading with
+--   select email, count(*) from app_user group by email having count(*) > 1;
+drop index if exists idx_app_user_email;
+create unique index if not exists ux_app_user_email on app_user (email);
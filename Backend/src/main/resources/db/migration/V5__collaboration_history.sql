@@ -0,0 +1,63 @@
+-- Append-only log of collaboration state changes. Every row is the full state
+-- after the change, so the state at any instant is the newest row before it.
+-- No foreign keys: the log outlives the collaborations, projects and
+-- companies it mentions.
+create sequence collaboration_event_seq start with 1 increment by 500;
+
+create table collaboration_event (
+    id bigint not null,
+    collaboration_id uuid not null,
+    project_id uuid,
+    company_id uuid,
+    kind varchar(255) not null check (kind in ('CREATED','UPDATED','DELETED')),
+    status varchar(255) check (status in ('TODO','CONTACTED','PING','LETTER','MEETING','SUCCESSFUL','UNSUCCESSFUL')),
+    achieved_value float(53),
+    occurred_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+-- Timelines, and the "changed since the snapshot" probes of the as-of queries
+create index idx_collaboration_event_collaboration on collaboration_event (collaboration_id, occurred_at);
+create index idx_collaboration_event_project on collaboration_event (project_id, occurred_at);
+create index idx_collaboration_event_company on collaboration_event (company_id, occurred_at);
+-- Snapshot builds scan the events of one interval
+create index idx_collaboration_event_occurred on collaboration_event (occurred_at);
+
+-- Periodic materializations of the log: the state of every live collaboration
+-- as of as_of. An as-of query starts from the newest snapshot before the
+-- requested instant and replays only the events after it.
+create table collaboration_snapshot (
+    id uuid not null,
+    as_of timestamp(6) with time zone not null,
+    collaboration_count bigint not null,
+    created_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create unique index ux_collaboration_snapshot_as_of on collaboration_snapshot (as_of);
+
+create table collaboration_snapshot_row (
+    snapshot_id uuid not null,
+    collaboration_id uuid not null,
+    project_id uuid,
+    company_id uuid,
+    status varchar(255),
+    achieved_value float(53),
+    changed_at timestamp(6) with time zone not null,
+    primary key (snapshot_id, collaboration_id),
+    constraint fk_collaboration_snapshot_row_snapshot foreign key (snapshot_id) references collaboration_snapshot
+);
+
+create index idx_collaboration_snapshot_row_project on collaboration_snapshot_row (snapshot_id, project_id);
+create index idx_collaboration_snapshot_row_company on collaboration_snapshot_row (snapshot_id, company_id);
+
+-- The log starts empty, so the collaborations that already exist enter the
+-- history as an initial snapshot; as-of queries replay from it. Their real
+-- change times are unknown, so they count as changed at migration time.
+insert into collaboration_snapshot (id, as_of, collaboration_count, created_at)
+select '00000000-0000-0000-0000-000000000001', current_timestamp, count(*), current_timestamp
+from collaboration;
+
+insert into collaboration_snapshot_row (snapshot_id, collaboration_id, project_id, company_id, status, achieved_value, changed_at)
+select s.id, c.id, c.project_id, c.company_id, c.status, c.achieved_value, s.as_of
+from collaboration c cross join collaboration_snapshot s;
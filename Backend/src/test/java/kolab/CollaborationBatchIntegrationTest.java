@@ -0,0 +1,101 @@
+package kolab;
+
+import kolab.dao.*;
+import kolab.domain.*;
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.ProjectType;
+import kolab.domain.enums.UserAuthorization;
+import kolab.dto.BatchCollaborationDTO;
+import kolab.service.CollaborationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CollaborationBatchIntegrationTest {
+
+    @Autowired private CollaborationService collaborationService;
+    @Autowired private CollaborationRepository collaborationRepository;
+    @Autowired private IndustryRepository industryRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CompanyRepository companyRepository;
+    @Autowired private ProjectRepository projectRepository;
+
+    private String random(String prefix) {
+        return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Test
+    void testConcurrentBatchesAssignEachCompanyOnce() throws Exception {
+        Industry industry = new Industry();
+        industry.setName(random("Industry"));
+        industry = industryRepository.save(industry);
+
+        Category category = new Category();
+        category.setName(random("Category"));
+        category = categoryRepository.save(category);
+
+        User user = new User();
+        user.setName("Ana");
+        user.setSurname("Anić");
+        user.setEmail(random("ana") + "@example.com");
+        user.setAuthorization(UserAuthorization.USER);
+        user = userRepository.save(user);
+
+        Project project = new Project();
+        project.setName(random("Project"));
+        project.setType(ProjectType.EXTERNAL);
+        project.setStartDate(ZonedDateTime.now());
+        project.setCategory(category);
+        project.setResponsible(user);
+        project = projectRepository.save(project);
+
+        List<UUID> companyIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Company company = new Company();
+            company.setName(random("Company"));
+            company.setIndustry(industry);
+            company.setCountry("Croatia");
+            company.setCity("Zagreb");
+            company.setZip(10000L);
+            companyIds.add(companyRepository.save(company).getId());
+        }
+
+        BatchCollaborationDTO batch = new BatchCollaborationDTO();
+        batch.setProjectId(project.getId());
+        batch.setCompanyIds(companyIds);
+        batch.setCategory(CollaborationCategory.FINANCIAL);
+
+        int batches = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(batches);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < batches; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return collaborationService.createCollaborations(batch).getCreated();
+                }));
+            }
+            start.countDown();
+
+            int created = 0;
+            for (Future<Integer> result : results) {
+                created += result.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(companyIds.size(), created);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(companyIds.size(), collaborationRepository.findByProjectId(project.getId()).size());
+    }
+}
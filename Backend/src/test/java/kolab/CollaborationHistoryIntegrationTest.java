@@ -0,0 +1,192 @@
+package kolab;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kolab.dao.*;
+import kolab.domain.*;
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import kolab.domain.enums.ProjectType;
+import kolab.domain.enums.UserAuthorization;
+import kolab.service.CollaborationHistoryService;
+import kolab.service.CollaborationService;
+import kolab.service.SessionTokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "kolab.history.snapshot-lag=PT0S")
+@AutoConfigureMockMvc
+class CollaborationHistoryIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private CollaborationService collaborationService;
+    @Autowired private CollaborationHistoryService historyService;
+    @Autowired private IndustryRepository industryRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CompanyRepository companyRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private SessionTokenService sessionTokenService;
+
+    private Project first;
+    private Project second;
+    private Company company;
+
+    private String random(String prefix) {
+        return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private String adminToken() {
+        User admin = new User();
+        admin.setName("Admin");
+        admin.setSurname("Admin");
+        admin.setEmail(random("admin") + "@example.com");
+        admin.setAuthorization(UserAuthorization.ADMINISTRATOR);
+        return "Bearer " + sessionTokenService.issue(userRepository.save(admin));
+    }
+
+    @BeforeEach
+    void setUp() {
+        Industry industry = new Industry();
+        industry.setName(random("Industry"));
+        industry = industryRepository.save(industry);
+
+        Category category = new Category();
+        category.setName(random("Category"));
+        category = categoryRepository.save(category);
+
+        User user = new User();
+        user.setName("Ana");
+        user.setSurname("Anić");
+        user.setEmail(random("ana") + "@example.com");
+        user.setAuthorization(UserAuthorization.USER);
+        user = userRepository.save(user);
+
+        first = project(category, user);
+        second = project(category, user);
+
+        company = new Company();
+        company.setName(random("Company"));
+        company.setIndustry(industry);
+        company.setCountry("Croatia");
+        company.setCity("Zagreb");
+        company.setZip(10000L);
+        company = companyRepository.save(company);
+    }
+
+    private Project project(Category category, User user) {
+        Project project = new Project();
+        project.setName(random("Project"));
+        project.setType(ProjectType.EXTERNAL);
+        project.setStartDate(ZonedDateTime.now());
+        project.setCategory(category);
+        project.setResponsible(user);
+        return projectRepository.save(project);
+    }
+
+    private UUID createCollaboration() {
+        Collaboration collaboration = new Collaboration();
+        collaboration.setProject(first);
+        collaboration.setCompany(company);
+        collaboration.setCategory(CollaborationCategory.FINANCIAL);
+        collaboration.setStatus(CollaborationStatus.CONTACTED);
+        return collaborationService.createCollaboration(collaboration).getId();
+    }
+
+    private void patch(UUID id, String json) throws Exception {
+        collaborationService.patchCollaboration(id, objectMapper.readTree(json));
+    }
+
+    private ResultActions asOf(Project project, Instant date) throws Exception {
+        return mockMvc.perform(get("/api/projects/" + project.getId() + "/collaborations/as-of")
+                .param("date", date.toString()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void testEveryStatusChangeIsKeptOnTheTimelines() throws Exception {
+        UUID id = createCollaboration();
+        patch(id, "{\"status\": \"PING\"}");
+        patch(id, "{\"comment\": \"Called twice\"}");
+        patch(id, "{\"status\": \"MEETING\", \"achievedValue\": 500.0}");
+        patch(id, "{\"projectId\": \"" + second.getId() + "\"}");
+        historyService.flush();
+
+        mockMvc.perform(get("/api/collaborations/" + id + "/history"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(4)))
+            .andExpect(jsonPath("$[*].kind").value(contains("CREATED", "UPDATED", "UPDATED", "UPDATED")))
+            .andExpect(jsonPath("$[*].status").value(contains("CONTACTED", "PING", "MEETING", "MEETING")))
+            .andExpect(jsonPath("$[2].achievedValue").value(500.0));
+        mockMvc.perform(get("/api/companies/" + company.getId() + "/collaborations/history"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(4)));
+        mockMvc.perform(get("/api/projects/" + first.getId() + "/collaborations/history"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].status").value(contains("CONTACTED", "PING", "MEETING")));
+        mockMvc.perform(get("/api/projects/" + first.getId() + "/collaborations/history")
+                .param("from", Instant.now().toString())
+                .param("to", Instant.now().minusSeconds(60).toString()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testStateAsOfIsReconstructedAcrossSnapshots() throws Exception {
+        UUID id = createCollaboration();
+        Instant contacted = Instant.now();
+        patch(id, "{\"status\": \"PING\"}");
+        historyService.flush();
+
+        mockMvc.perform(post("/api/admin/history/snapshot").header("Authorization", adminToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collaborationCount").value(greaterThanOrEqualTo(1)));
+        Instant snapshotted = Instant.now();
+
+        patch(id, "{\"status\": \"MEETING\", \"achievedValue\": 500.0}");
+        Instant meeting = Instant.now();
+        patch(id, "{\"projectId\": \"" + second.getId() + "\"}");
+        Instant moved = Instant.now();
+        collaborationService.deleteCollaboration(id);
+        historyService.flush();
+
+        asOf(first, contacted)
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].collaborationId").value(id.toString()))
+            .andExpect(jsonPath("$[0].status").value("CONTACTED"));
+        asOf(first, snapshotted)
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].status").value("PING"));
+        asOf(first, meeting)
+            .andExpect(jsonPath("$[0].status").value("MEETING"))
+            .andExpect(jsonPath("$[0].achievedValue").value(500.0));
+        asOf(first, moved).andExpect(jsonPath("$", hasSize(0)));
+        asOf(second, moved)
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].projectId").value(second.getId().toString()));
+        asOf(second, Instant.now()).andExpect(jsonPath("$", hasSize(0)));
+
+        // A later snapshot answers the same questions from its own rows
+        historyService.takeSnapshot();
+        asOf(second, Instant.now()).andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/companies/" + company.getId() + "/collaborations/as-of")
+                .param("date", moved.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].status").value("MEETING"));
+        assertFalse(historyService.getSnapshots().isEmpty());
+    }
+}
@@ -8,15 +8,22 @@ import kolab.domain.Industry;
 import kolab.domain.enums.CompanyCategorization;
 import kolab.domain.enums.Month;
 import kolab.dto.CompanyDTO;
+import kolab.service.SearchService;
+import kolab.service.SuggestService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -28,6 +35,8 @@ class CompanyControllerIntegrationTest {
     @Autowired private ObjectMapper objectMapper;
     @Autowired private IndustryRepository industryRepository;
     @Autowired private CompanyRepository companyRepository;
+    @Autowired private SearchService searchService;
+    @Autowired private SuggestService suggestService;
 
     private String random(String prefix) {
         return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
@@ -75,4 +84,73 @@ class CompanyControllerIntegrationTest {
                 .andExpect(jsonPath("$.name").value(dto.getName()))
                 .andExpect(jsonPath("$.industry.name").value(industry.getName()));
     }
+
+    @Test
+    void testConditionalGetAnswersNotModifiedUntilCollectionChanges() throws Exception {
+        Industry industry = new Industry();
+        industry.setName(random("Industry"));
+        industry = industryRepository.save(industry);
+
+        String etag = mockMvc.perform(get("/api/companies"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/api/companies").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        CompanyDTO dto = new CompanyDTO();
+        dto.setIndustryId(industry.getId());
+        dto.setName(random("Company"));
+        dto.setCountry("Croatia");
+        dto.setZip(10000L);
+        dto.setCity("Zagreb");
+        String response = mockMvc.perform(post("/api/companies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Company created = objectMapper.readValue(response, Company.class);
+
+        String changed = mockMvc.perform(get("/api/companies").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, changed);
+
+        String rowTag = mockMvc.perform(get("/api/companies/" + created.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/companies/" + created.getId()).header(HttpHeaders.IF_NONE_MATCH, "W/" + rowTag))
+                .andExpect(status().isNotModified());
+
+        dto.setCity("Split");
+        mockMvc.perform(put("/api/companies/" + created.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/companies/" + created.getId()).header(HttpHeaders.IF_NONE_MATCH, rowTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.city").value("Split"));
+    }
+
+    @Test
+    void testImportedCompaniesAreSearchableAfterCommit() throws Exception {
+        Industry industry = new Industry();
+        industry.setName(random("Industry"));
+        industry = industryRepository.save(industry);
+        String name = random("Imported");
+        String csv = "name,industry,country,zip,city\n" + name + "," + industry.getId() + ",Croatia,10000,Zagreb\n";
+
+        mockMvc.perform(multipart("/api/companies/import")
+                .file(new MockMultipartFile("file", "companies.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1));
+
+        UUID id = companyRepository.findByName(name).getId();
+        assertEquals(id, searchService.search(name, SearchService.COMPANY, 1).get(0).getId());
+        assertEquals(id, suggestService.suggest(SuggestService.COMPANY, name, 1).get(0).getId());
+    }
 }
@@ -0,0 +1,124 @@
+package kolab;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import kolab.dao.UserRepository;
+import kolab.domain.User;
+import kolab.domain.enums.UserAuthorization;
+import kolab.service.FlightRecorderService;
+import kolab.service.SessionTokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {"kolab.jfr.threshold=PT0S", "kolab.jfr.directory=target/jfr-test", "kolab.jfr.max-dumps=2"})
+@AutoConfigureMockMvc
+class FlightRecorderIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private FlightRecorderService flightRecorderService;
+    @Autowired private SessionTokenService sessionTokenService;
+    @Autowired private UserRepository userRepository;
+
+    private String admin;
+    private String member;
+
+    private String session(UserAuthorization authorization) {
+        User user = new User();
+        user.setName("Ana");
+        user.setSurname("Anić");
+        user.setEmail("ana_" + UUID.randomUUID().toString().substring(0, 8) + "@example.com");
+        user.setAuthorization(authorization);
+        return "Bearer " + sessionTokenService.issue(userRepository.save(user));
+    }
+
+    @BeforeEach
+    void setUp() {
+        admin = session(UserAuthorization.ADMINISTRATOR);
+        member = session(UserAuthorization.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRecorderService.stop();
+    }
+
+    @Test
+    void testDumpContainsServiceRepositoryAndSerializationEvents() throws Exception {
+        mockMvc.perform(post("/api/admin/jfr/start").header("Authorization", admin))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("RUNNING"));
+        mockMvc.perform(post("/api/admin/jfr/start").header("Authorization", admin)).andExpect(status().isConflict());
+
+        mockMvc.perform(get("/api/companies")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/projects/" + UUID.randomUUID())).andExpect(status().isNotFound());
+
+        String file = mockMvc.perform(post("/api/admin/jfr/dump").header("Authorization", admin))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString().replaceAll(".*\"file\":\"(.*)\".*", "$1");
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Path.of(file));
+
+        RecordedEvent list = events.stream()
+            .filter(e -> e.getEventType().getName().equals("kolab.ServiceOperation"))
+            .filter(e -> e.getString("operation").equals("getCompanies"))
+            .findFirst().orElseThrow();
+        assertEquals("Company", list.getString("entityType"));
+        assertFalse(list.getBoolean("failed"));
+        RecordedEvent missing = events.stream()
+            .filter(e -> e.getEventType().getName().equals("kolab.ServiceOperation"))
+            .filter(e -> e.getString("operation").equals("getProjectById"))
+            .findFirst().orElseThrow();
+        assertEquals(1, missing.getInt("ids"));
+        assertTrue(missing.getBoolean("failed"));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("kolab.RepositoryQuery")
+            && e.getString("repository").equals("ProjectRepository")));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("kolab.JsonSerialization")
+            && e.getLong("bytes") > 0));
+        Files.delete(Path.of(file));
+
+        mockMvc.perform(post("/api/admin/jfr/stop").header("Authorization", admin))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("CLOSED"));
+        mockMvc.perform(post("/api/admin/jfr/dump").header("Authorization", admin)).andExpect(status().isConflict());
+    }
+
+    @Test
+    void testAdminEndpointsRequireAnAdministratorSession() throws Exception {
+        mockMvc.perform(post("/api/admin/jfr/dump")).andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/admin/jfr/dump").header("Authorization", member)).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/jfr").header("Authorization", member)).andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/jfr").header("Authorization", admin)).andExpect(status().isOk());
+    }
+
+    @Test
+    void testDumpsGetUniqueNamesAndOnlyTheNewestAreKept() throws Exception {
+        flightRecorderService.start();
+        Path first = flightRecorderService.dump();
+        Path second = flightRecorderService.dump();
+        Path third = flightRecorderService.dump();
+
+        assertNotEquals(first, second);
+        assertNotEquals(second, third);
+        assertFalse(Files.exists(first));
+        assertTrue(Files.exists(second));
+        assertTrue(Files.exists(third));
+        try (Stream<Path> files = Files.list(third.getParent())) {
+            assertEquals(2, files.filter(f -> f.toString().endsWith(".jfr")).count());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package kolab;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @Test
+    void testPrometheusScrapeCoversRequestsServicesPoolHibernateCachesAndJvm() throws Exception {
+        mockMvc.perform(get("/api/industries")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/industries/" + UUID.randomUUID())).andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("http_server_requests_seconds_bucket{application=\"kolab\"")))
+            .andExpect(content().string(containsString("uri=\"/api/industries/{id}\"")))
+            .andExpect(content().string(containsString(
+                "kolab_service_seconds_count{application=\"kolab\",method=\"getAllIndustries\",service=\"IndustryServiceJpa\",}")))
+            .andExpect(content().string(containsString(
+                "kolab_service_errors_total{application=\"kolab\",exception=\"NotFoundException\",method=\"getIndustryById\",service=\"IndustryServiceJpa\",}")))
+            .andExpect(content().string(containsString("kolab_sql_statements_total{application=\"kolab\",method=\"GET\",uri=\"/api/industries\",}")))
+            .andExpect(content().string(containsString("hikaricp_connections_active")))
+            .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds")))
+            .andExpect(content().string(containsString("hibernate_sessions_open_total")))
+            .andExpect(content().string(containsString("hibernate_query_executions_total")))
+            .andExpect(content().string(containsString("cache_gets_total{application=\"kolab\",cache=\"industries\"")))
+            .andExpect(content().string(containsString("jvm_gc_memory_allocated_bytes_total")));
+    }
+}
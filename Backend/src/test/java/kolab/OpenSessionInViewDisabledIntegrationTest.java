@@ -0,0 +1,149 @@
+package kolab;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kolab.dao.*;
+import kolab.domain.*;
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import kolab.domain.enums.ProjectType;
+import kolab.domain.enums.UserAuthorization;
+import kolab.dto.CollaborationDTO;
+import kolab.util.MergePatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * With open-session-in-view off, every entity returned to a controller must
+ * already be fully loaded when its service transaction ends. Requests are
+ * repeated so the second one is served from the second-level cache, which
+ * skips the entity graphs.
+ */
+@SpringBootTest(properties = "spring.jpa.open-in-view=false")
+@AutoConfigureMockMvc
+class OpenSessionInViewDisabledIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private IndustryRepository industryRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CompanyRepository companyRepository;
+    @Autowired private ContactRepository contactRepository;
+    @Autowired private ProjectRepository projectRepository;
+
+    private Industry industry;
+    private Category category;
+    private User user;
+    private Company company;
+    private Contact contact;
+    private Project project;
+
+    private String random(String prefix) {
+        return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @BeforeEach
+    void setUp() {
+        industry = new Industry();
+        industry.setName(random("Industry"));
+        industry = industryRepository.save(industry);
+
+        category = new Category();
+        category.setName(random("Category"));
+        category = categoryRepository.save(category);
+
+        user = new User();
+        user.setName("Ana");
+        user.setSurname("Anić");
+        user.setEmail(random("ana") + "@example.com");
+        user.setAuthorization(UserAuthorization.USER);
+        user = userRepository.save(user);
+
+        company = new Company();
+        company.setName(random("Company"));
+        company.setIndustry(industry);
+        company.setCountry("Croatia");
+        company.setCity("Zagreb");
+        company.setZip(10000L);
+        company = companyRepository.save(company);
+
+        contact = new Contact();
+        contact.setCompany(company);
+        contact.setFirstName("Ivo");
+        contact.setLastName("Ivić");
+        contact.setPosition("CEO");
+        contact.setEmail(random("ivo") + "@example.com");
+        contact = contactRepository.save(contact);
+
+        project = new Project();
+        project.setName(random("Project"));
+        project.setType(ProjectType.EXTERNAL);
+        project.setStartDate(ZonedDateTime.now());
+        project.setCategory(category);
+        project.setResponsible(user);
+        project = projectRepository.save(project);
+    }
+
+    @Test
+    void testEntityEndpointsSerializeWithoutOpenSession() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/companies/" + company.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.industry.name").value(industry.getName()));
+            mockMvc.perform(get("/api/projects/" + project.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category.name").value(category.getName()))
+                .andExpect(jsonPath("$.responsible.email").value(user.getEmail()));
+        }
+        mockMvc.perform(get("/api/companies")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/projects").param("limit", "10")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/companies/" + company.getId() + "/contacts"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].company.industry.name").value(industry.getName()));
+        mockMvc.perform(get("/api/users/" + user.getId() + "/projects"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].category.name").value(category.getName()));
+
+        CollaborationDTO dto = new CollaborationDTO();
+        dto.setProjectId(project.getId());
+        dto.setCompanyId(company.getId());
+        dto.setContactId(contact.getId());
+        dto.setResponsibleId(user.getId());
+        dto.setCategory(CollaborationCategory.FINANCIAL);
+        dto.setStatus(CollaborationStatus.CONTACTED);
+        mockMvc.perform(post("/api/collaborations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.project.category.name").value(category.getName()))
+            .andExpect(jsonPath("$.company.industry.name").value(industry.getName()));
+
+        mockMvc.perform(get("/api/projects/" + project.getId() + "/collaborations"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].contact.company.name").value(company.getName()));
+        mockMvc.perform(get("/api/projects/" + project.getId() + "/progress")).andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/companies/" + company.getId())
+                .contentType(MergePatch.MEDIA_TYPE)
+                .content("{\"city\": \"Split\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.city").value("Split"))
+            .andExpect(jsonPath("$.industry.name").value(industry.getName()));
+        mockMvc.perform(patch("/api/projects/" + project.getId())
+                .contentType(MergePatch.MEDIA_TYPE)
+                .content("{\"goal\": 5000}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.responsible.email").value(user.getEmail()));
+    }
+}
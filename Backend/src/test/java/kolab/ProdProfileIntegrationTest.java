@@ -0,0 +1,73 @@
+package kolab;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The prod profile logs through a non-blocking async appender and replaces
+ * show-sql with the slow-query log.
+ */
+@SpringBootTest(properties = {
+    "management.server.port=-1",
+    "kolab.jfr.start-on-startup=false",
+    "kolab.sql-log.slow-threshold=PT0S"})
+@AutoConfigureMockMvc
+@ActiveProfiles("prod")
+class ProdProfileIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ConfigurableEnvironment environment;
+
+    @Test
+    void testLoggingIsAsyncAndSqlGoesToTheSlowQueryLog() throws Exception {
+        // Logback is configured once per JVM, by whichever test context started first
+        LoggingSystem logging = LoggingSystem.get(getClass().getClassLoader());
+        logging.cleanUp();
+        logging.initialize(new LoggingInitializationContext(environment), null, null);
+        try {
+            assertProdLogging();
+        } finally {
+            logging.cleanUp();
+        }
+    }
+
+    private void assertProdLogging() throws Exception {
+        Logger root = (Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+        AsyncAppender async = (AsyncAppender) root.getAppender("ASYNC");
+        assertNotNull(async);
+        assertTrue(async.isNeverBlock());
+        assertEquals(8192, async.getQueueSize());
+        assertNull(root.getAppender("CONSOLE"));
+        assertEquals("false", environment.getProperty("spring.jpa.show-sql"));
+
+        ListAppender<ILoggingEvent> slow = new ListAppender<>();
+        slow.start();
+        Logger slowLog = (Logger) LoggerFactory.getLogger("kolab.sql.slow");
+        slowLog.addAppender(slow);
+        try {
+            mockMvc.perform(get("/api/companies"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Sql-Statements"));
+        } finally {
+            slowLog.detachAppender(slow);
+        }
+        assertTrue(slow.list.stream().anyMatch(e -> e.getFormattedMessage().contains("GET /api/companies: select")),
+            () -> slow.list.toString());
+    }
+}
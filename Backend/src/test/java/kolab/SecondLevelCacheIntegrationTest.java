@@ -0,0 +1,113 @@
+package kolab;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import kolab.dao.*;
+import kolab.domain.*;
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import kolab.domain.enums.ProjectType;
+import kolab.domain.enums.UserAuthorization;
+import kolab.service.CollaborationHistoryService;
+import kolab.service.CollaborationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Writes that go through native SQL must declare the tables they touch,
+ * otherwise Hibernate empties every second-level cache region on commit.
+ */
+@SpringBootTest
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private CollaborationService collaborationService;
+    @Autowired private CollaborationHistoryService historyService;
+    @Autowired private IndustryRepository industryRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CompanyRepository companyRepository;
+    @Autowired private ProjectRepository projectRepository;
+
+    private User user;
+    private Company company;
+    private Project project;
+
+    private String random(String prefix) {
+        return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Industry industry = new Industry();
+        industry.setName(random("Industry"));
+        industry = industryRepository.save(industry);
+
+        Category category = new Category();
+        category.setName(random("Category"));
+        category = categoryRepository.save(category);
+
+        user = new User();
+        user.setName("Ana");
+        user.setSurname("Anić");
+        user.setEmail(random("ana") + "@example.com");
+        user.setAuthorization(UserAuthorization.USER);
+        user = userRepository.save(user);
+
+        company = new Company();
+        company.setName(random("Company"));
+        company.setIndustry(industry);
+        company.setCountry("Croatia");
+        company.setCity("Zagreb");
+        company.setZip(10000L);
+        company = companyRepository.save(company);
+
+        project = new Project();
+        project.setName(random("Project"));
+        project.setType(ProjectType.EXTERNAL);
+        project.setStartDate(ZonedDateTime.now());
+        project.setCategory(category);
+        project.setResponsible(user);
+        project = projectRepository.save(project);
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.getCache();
+    }
+
+    @Test
+    void testCollaborationWriteKeepsCachedEntities() {
+        userRepository.findById(user.getId());
+        companyRepository.findById(company.getId());
+        assertTrue(cache().contains(User.class, user.getId()));
+        assertTrue(cache().contains(Company.class, company.getId()));
+
+        Collaboration collaboration = new Collaboration();
+        collaboration.setProject(project);
+        collaboration.setCompany(company);
+        collaboration.setCategory(CollaborationCategory.FINANCIAL);
+        collaboration.setStatus(CollaborationStatus.CONTACTED);
+        collaborationService.createCollaboration(collaboration);
+
+        assertTrue(cache().contains(User.class, user.getId()));
+        assertTrue(cache().contains(Company.class, company.getId()));
+    }
+
+    @Test
+    void testSnapshotKeepsCachedEntities() {
+        userRepository.findById(user.getId());
+        companyRepository.findById(company.getId());
+
+        historyService.takeSnapshot();
+
+        assertTrue(cache().contains(User.class, user.getId()));
+        assertTrue(cache().contains(Company.class, company.getId()));
+    }
+}
@@ -0,0 +1,53 @@
+package kolab;
+
+import kolab.rest.SqlStatsFilter;
+import kolab.util.SqlStats;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Statement budgets for tests, to catch N+1 regressions before production
+ * does. MockMvc tests read the {@code X-Sql-Statements} header the
+ * {@link SqlStatsFilter} adds:
+ *
+ * <pre>mockMvc.perform(get("/api/projects/{id}/collaborations", id)).andExpect(SqlBudget.atMostStatements(2));</pre>
+ *
+ * Service and repository tests wrap the call instead. Slice tests such as
+ * {@code @DataJpaTest} need {@code @Import(SqlStatsConfig.class)} so the
+ * datasource is counted, and must flush inside the call:
+ *
+ * <pre>SqlBudget.assertAtMostStatements(3, () -> { service.save(...); entityManager.flush(); });</pre>
+ */
+public final class SqlBudget {
+
+    private SqlBudget() {
+    }
+
+    public static ResultMatcher atMostStatements(int max) {
+        return result -> {
+            String statements = result.getResponse().getHeader(SqlStatsFilter.STATEMENTS_HEADER);
+            assertNotNull(statements, "No " + SqlStatsFilter.STATEMENTS_HEADER + " header, is kolab.sql-stats.headers on?");
+            assertTrue(Long.parseLong(statements) <= max, () -> result.getRequest().getMethod() + " "
+                + result.getRequest().getRequestURI() + " issued " + statements + " statements, budget is " + max);
+        };
+    }
+
+    public static SqlStats measure(Executable action) throws Throwable {
+        SqlStats stats = SqlStats.start();
+        try {
+            action.execute();
+        } finally {
+            stats.stop();
+        }
+        return stats;
+    }
+
+    public static SqlStats assertAtMostStatements(int max, Executable action) throws Throwable {
+        SqlStats stats = measure(action);
+        assertTrue(stats.getStatements() <= max, () -> "Issued " + stats + ", budget is " + max + " statements");
+        return stats;
+    }
+}
@@ -0,0 +1,169 @@
+package kolab;
+
+import kolab.dao.*;
+import kolab.domain.*;
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import kolab.domain.enums.ProjectType;
+import kolab.domain.enums.UserAuthorization;
+import kolab.rest.SqlStatsFilter;
+import kolab.service.CollaborationService;
+import kolab.service.SessionTokenService;
+import kolab.util.SqlStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Collection endpoints must cost the same number of statements whatever
+ * the collection size; a count that grows with the rows is an N+1.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlStatementBudgetIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private CollaborationService collaborationService;
+    @Autowired private IndustryRepository industryRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private CompanyRepository companyRepository;
+    @Autowired private ContactRepository contactRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private CollaborationRepository collaborationRepository;
+    @Autowired private SessionTokenService sessionTokenService;
+
+    private Industry industry;
+    private Category category;
+    private User user;
+
+    private String random(String prefix) {
+        return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private String adminToken() {
+        User admin = new User();
+        admin.setName("Admin");
+        admin.setSurname("Admin");
+        admin.setEmail(random("admin") + "@example.com");
+        admin.setAuthorization(UserAuthorization.ADMINISTRATOR);
+        return "Bearer " + sessionTokenService.issue(userRepository.save(admin));
+    }
+
+    @BeforeEach
+    void setUp() {
+        industry = new Industry();
+        industry.setName(random("Industry"));
+        industry = industryRepository.save(industry);
+
+        category = new Category();
+        category.setName(random("Category"));
+        category = categoryRepository.save(category);
+
+        user = new User();
+        user.setName("Ana");
+        user.setSurname("Anić");
+        user.setEmail(random("ana") + "@example.com");
+        user.setAuthorization(UserAuthorization.USER);
+        user = userRepository.save(user);
+    }
+
+    private Project projectWithCollaborations(int count) {
+        Project project = new Project();
+        project.setName(random("Project"));
+        project.setType(ProjectType.EXTERNAL);
+        project.setStartDate(ZonedDateTime.now());
+        project.setCategory(category);
+        project.setResponsible(user);
+        project = projectRepository.save(project);
+
+        List<Collaboration> collaborations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Company company = new Company();
+            company.setName(random("Company"));
+            company.setIndustry(industry);
+            company.setCountry("Croatia");
+            company.setCity("Zagreb");
+            company.setZip(10000L);
+            company = companyRepository.save(company);
+
+            Contact contact = new Contact();
+            contact.setCompany(company);
+            contact.setFirstName("Ivo");
+            contact.setLastName("Ivić");
+            contact.setPosition("CEO");
+            contact.setEmail(random("ivo") + "@example.com");
+            contact = contactRepository.save(contact);
+
+            Collaboration collaboration = new Collaboration();
+            collaboration.setProject(project);
+            collaboration.setCompany(company);
+            collaboration.setContact(contact);
+            collaboration.setResponsible(user);
+            collaboration.setCategory(CollaborationCategory.FINANCIAL);
+            collaboration.setStatus(CollaborationStatus.CONTACTED);
+            collaborations.add(collaboration);
+        }
+        collaborationRepository.saveAll(collaborations);
+        return project;
+    }
+
+    private long statements(MvcResult result) {
+        return Long.parseLong(result.getResponse().getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    void testProjectCollaborationsCostTheSameForAnySize() throws Exception {
+        Project small = projectWithCollaborations(2);
+        Project large = projectWithCollaborations(25);
+
+        MvcResult smallResult = mockMvc.perform(get("/api/projects/" + small.getId() + "/collaborations"))
+            .andExpect(status().isOk())
+            .andExpect(SqlBudget.atMostStatements(2))
+            .andReturn();
+        MvcResult largeResult = mockMvc.perform(get("/api/projects/" + large.getId() + "/collaborations"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(25))
+            .andExpect(SqlBudget.atMostStatements(2))
+            .andExpect(header().string(SqlStatsFilter.ROWS_HEADER, "25"))
+            .andReturn();
+
+        assertEquals(statements(smallResult), statements(largeResult));
+        assertNotNull(largeResult.getResponse().getHeader(SqlStatsFilter.TIME_HEADER));
+    }
+
+    @Test
+    void testServiceCallsCanBeBudgetedDirectly() throws Throwable {
+        Project project = projectWithCollaborations(10);
+
+        SqlStats stats = SqlBudget.assertAtMostStatements(1,
+            () -> assertEquals(10, collaborationService.getCollaborationsByProjectId(project.getId()).size()));
+
+        assertEquals(10, stats.getRows());
+        assertTrue(stats.getJdbcNanos() > 0);
+    }
+
+    @Test
+    void testEndpointTotalsAreAggregated() throws Exception {
+        Project project = projectWithCollaborations(3);
+        mockMvc.perform(get("/api/projects/" + project.getId() + "/collaborations")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/admin/sql").header("Authorization", adminToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$['GET /api/projects/{projectId}/collaborations'].requests").isNumber())
+            .andExpect(jsonPath("$['GET /api/projects/{projectId}/collaborations'].maxStatements").isNumber());
+    }
+}
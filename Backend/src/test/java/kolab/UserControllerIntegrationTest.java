@@ -3,6 +3,7 @@ package kolab;
 import kolab.domain.User;
 import kolab.domain.enums.UserAuthorization;
 import kolab.dao.UserRepository;
+import kolab.service.SessionTokenService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -28,6 +29,9 @@ public class UserControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
     @Test
     public void testCreateAndGetUser() throws Exception {
         String email = "john.doe+" + UUID.randomUUID() + "@example.com";
@@ -55,4 +59,19 @@ public class UserControllerIntegrationTest {
                 .andExpect(jsonPath("$.name").value("John"));
     }
 
+    @Test
+    public void testSessionTokenIsValidatedByFilter() throws Exception {
+        User user = new User();
+        user.setName("Jane");
+        user.setSurname("Doe");
+        user.setEmail("jane.doe+" + UUID.randomUUID() + "@example.com");
+        user.setAuthorization(UserAuthorization.USER);
+        user = userRepository.save(user);
+        String token = sessionTokenService.issue(user);
+
+        mockMvc.perform(get("/api/users/" + user.getId()).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/" + user.getId()).header("Authorization", "Bearer " + token + "x"))
+                .andExpect(status().isUnauthorized());
+    }
 }
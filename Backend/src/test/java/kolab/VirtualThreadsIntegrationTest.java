@@ -0,0 +1,50 @@
+package kolab;
+
+import kolab.rest.ConcurrencyLimitFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "kolab.threads.virtual=true")
+class VirtualThreadsIntegrationTest {
+
+    @Autowired private ServletWebServerApplicationContext context;
+    @Autowired private TestRestTemplate restTemplate;
+    @Autowired private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void testTomcatAndAsyncWorkRunOnVirtualThreads() throws Exception {
+        Executor tomcatExecutor = ((TomcatWebServer) context.getWebServer())
+            .getTomcat().getConnector().getProtocolHandler().getExecutor();
+
+        assertTrue(((ExecutorService) tomcatExecutor).submit(() -> Thread.currentThread().isVirtual()).get());
+        assertTrue(applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get());
+    }
+
+    @Test
+    void testLimiterIsSizedToConnectionPoolAndReleasesPermits() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/industries", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(10, concurrencyLimitFilter.getLimit());
+        assertEquals(0, concurrencyLimitFilter.getInFlight());
+    }
+}
@@ -0,0 +1,60 @@
+package kolab.bench;
+
+import kolab.service.ProjectRollupService;
+import kolab.service.SearchService;
+import kolab.service.SuggestService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Loads a {@link SyntheticDataset} into a running application and keeps the
+ * ids so workloads can address rows directly. The dataset is deterministic,
+ * so when the database already holds it (a second context on the same
+ * in-memory database) it is reused rather than loaded again.
+ */
+record BenchData(List<UUID> industryIds, List<UUID> categoryIds, List<UUID> userIds, List<String> userEmails,
+                 List<UUID> companyIds,
+                 List<UUID> contactIds, List<UUID> projectIds, List<UUID> collaborationIds) {
+
+    /** The most active company, the one the skew gives the most collaborations. */
+    UUID companyId() {
+        return companyIds.get(0);
+    }
+
+    UUID projectId() {
+        return projectIds.get(0);
+    }
+
+    static BenchData seed(ApplicationContext context, int companies, int collaborations) {
+        return seed(context, SyntheticDataset.Spec.ofCompanies(companies, collaborations));
+    }
+
+    static BenchData seed(ApplicationContext context, SyntheticDataset.Spec spec) {
+        SyntheticDataset.Summary summary = SyntheticDataset.generate(spec, (table, row) -> {
+        });
+        Integer present = context.getBean(JdbcTemplate.class).queryForObject(
+            "select count(*) from industry where id = ?", Integer.class, summary.industryIds().get(0));
+        if (present == null || present == 0) {
+            try (Connection connection = context.getBean(DataSource.class).getConnection();
+                 JdbcRowSink sink = new JdbcRowSink(connection, JdbcRowSink.DEFAULT_BATCH_SIZE)) {
+                SyntheticDataset.generate(spec, sink);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Could not load the benchmark dataset", e);
+            }
+        }
+
+        // JDBC writes bypass the services, so derived state is rebuilt once here
+        context.getBean(ProjectRollupService.class).rebuild();
+        context.getBean(SearchService.class).rebuild();
+        context.getBean(SuggestService.class).rebuild();
+
+        return new BenchData(summary.industryIds(), summary.categoryIds(), summary.userIds(), summary.userEmails(),
+            summary.companyIds(), summary.contactIds(), summary.projectIds(), summary.collaborationSample());
+    }
+}
@@ -0,0 +1,137 @@
+package kolab.bench;
+
+import kolab.KolabApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Measures how long each request keeps a JDBC connection checked out, with
+ * open-session-in-view on and off, against the same seeded database. Not
+ * part of the regular suite (the class name does not match surefire's test
+ * pattern); run it with
+ *
+ * <pre>mvn test -Dtest=ConnectionHoldBenchmark</pre>
+ *
+ * and the same datasource environment as the tests.
+ */
+class ConnectionHoldBenchmark {
+    private static final int COMPANIES = 2_000;
+    private static final int WARMUP = 30;
+    private static final int ITERATIONS = 100;
+
+    /** Accumulates the time between getConnection() and close() of every borrowed connection. */
+    static final class HoldTimer implements BeanPostProcessor {
+        final AtomicLong heldNanos = new AtomicLong();
+        final AtomicLong borrowed = new AtomicLong();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || bean instanceof DelegatingDataSource) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return timed(super.getConnection());
+                }
+            };
+        }
+
+        private Connection timed(Connection connection) {
+            long start = System.nanoTime();
+            borrowed.incrementAndGet();
+            boolean[] closed = {false};
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && !closed[0]) {
+                        closed[0] = true;
+                        heldNanos.addAndGet(System.nanoTime() - start);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+    }
+
+    record Result(String label, double holdMicros, double latencyMicros, double connections) {
+    }
+
+    @Test
+    void compareOpenSessionInView() throws Exception {
+        List<Result> results = new ArrayList<>();
+        String[] paths = null;
+        for (boolean openInView : new boolean[]{true, false}) {
+            HoldTimer timer = new HoldTimer();
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(KolabApplication.class)
+                    .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(timer))
+                    .run("--spring.jpa.open-in-view=" + openInView,
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN")) {
+                if (paths == null) {
+                    paths = seed(context);
+                }
+                MockMvc mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+                for (String path : paths) {
+                    results.add(measure(mockMvc, timer, path, "open-in-view=" + openInView));
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-55s %14s %14s %12s%n", "request", "hold us/req", "latency us", "conns/req");
+        for (Result result : results) {
+            System.out.printf(Locale.ROOT, "%-55s %14.1f %14.1f %12.2f%n",
+                result.label(), result.holdMicros(), result.latencyMicros(), result.connections());
+        }
+    }
+
+    private Result measure(MockMvc mockMvc, HoldTimer timer, String path, String label) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            mockMvc.perform(get(path)).andExpect(status().isOk());
+        }
+        timer.heldNanos.set(0);
+        timer.borrowed.set(0);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mockMvc.perform(get(path)).andExpect(status().isOk());
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Result(label + " GET " + path.replaceAll("[0-9a-f-]{36}", "{id}"),
+            timer.heldNanos.get() / 1000.0 / ITERATIONS,
+            elapsed / 1000.0 / ITERATIONS,
+            (double) timer.borrowed.get() / ITERATIONS);
+    }
+
+    private String[] seed(ConfigurableApplicationContext context) {
+        BenchData data = BenchData.seed(context, COMPANIES, 0);
+        return new String[]{
+            "/api/companies",
+            "/api/companies?limit=500",
+            "/api/companies/" + data.companyId(),
+            "/api/projects/" + data.projectId(),
+        };
+    }
+}
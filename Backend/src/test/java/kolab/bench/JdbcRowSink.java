@@ -0,0 +1,81 @@
+package kolab.bench;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Bulk loads {@link SyntheticDataset} rows with one batched insert per
+ * table. A table's pending batch is flushed before rows of the next table
+ * arrive, so foreign keys always point at rows that are already written.
+ * Transactions belong to the caller: with auto-commit on, every batch
+ * commits by itself.
+ * <p>
+ * On PostgreSQL, add {@code reWriteBatchedInserts=true} to the JDBC URL so
+ * the driver folds each batch into multi-row inserts.
+ */
+final class JdbcRowSink implements SyntheticDataset.RowSink, AutoCloseable {
+    static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private final Connection connection;
+    private final int batchSize;
+    private final Map<SyntheticDataset.Table, PreparedStatement> statements = new EnumMap<>(SyntheticDataset.Table.class);
+    private SyntheticDataset.Table current;
+    private int pending;
+
+    JdbcRowSink(Connection connection, int batchSize) {
+        this.connection = connection;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void accept(SyntheticDataset.Table table, Object[] row) {
+        try {
+            if (table != current) {
+                flush();
+                current = table;
+            }
+            PreparedStatement statement = statements.computeIfAbsent(table, this::prepare);
+            for (int i = 0; i < row.length; i++) {
+                statement.setObject(i + 1, row[i]);
+            }
+            statement.addBatch();
+            if (++pending == batchSize) {
+                flush();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not insert into " + table.name, e);
+        }
+    }
+
+    void flush() throws SQLException {
+        if (pending > 0) {
+            statements.get(current).executeBatch();
+            pending = 0;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+        }
+    }
+
+    private PreparedStatement prepare(SyntheticDataset.Table table) {
+        String sql = "insert into " + table.name + " (" + String.join(", ", table.columns) + ") values ("
+            + String.join(", ", Collections.nCopies(table.columns.size(), "?")) + ")";
+        try {
+            return connection.prepareStatement(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not prepare " + sql, e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package kolab.bench;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies and status codes for one endpoint. Each load-test client owns
+ * its recorders, and they are merged once the run is over, so recording
+ * never contends. Percentiles are exact (nearest rank over every sample).
+ */
+final class LatencyRecorder {
+    private long[] nanos = new long[1024];
+    private int count;
+    private final Map<Integer, Integer> statuses = new TreeMap<>();
+    private int errors;
+
+    void record(int status, long elapsedNanos) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = elapsedNanos;
+        statuses.merge(status, 1, Integer::sum);
+        if (status >= 400) {
+            errors++;
+        }
+    }
+
+    /** A request that never got a response (connection failure, timeout). */
+    void recordFailure() {
+        statuses.merge(0, 1, Integer::sum);
+        errors++;
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > nanos.length) {
+            nanos = Arrays.copyOf(nanos, count + other.count);
+        }
+        System.arraycopy(other.nanos, 0, nanos, count, other.count);
+        count += other.count;
+        other.statuses.forEach((status, n) -> statuses.merge(status, n, Integer::sum));
+        errors += other.errors;
+    }
+
+    int count() {
+        return count;
+    }
+
+    /** Summary in milliseconds, keyed the way the JSON report names them. */
+    Map<String, Object> summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("throughput", round(count / seconds));
+        summary.put("mean", round(Arrays.stream(sorted).average().orElse(0) / 1e6));
+        summary.put("p50", percentile(sorted, 0.50));
+        summary.put("p95", percentile(sorted, 0.95));
+        summary.put("p99", percentile(sorted, 0.99));
+        summary.put("p999", percentile(sorted, 0.999));
+        summary.put("max", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1] / 1e6));
+        Map<String, Integer> byStatus = new LinkedHashMap<>();
+        statuses.forEach((status, n) -> byStatus.put(status == 0 ? "failed" : status.toString(), n));
+        summary.put("statuses", byStatus);
+        return summary;
+    }
+
+    static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return round(sorted[Math.max(0, rank - 1)] / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
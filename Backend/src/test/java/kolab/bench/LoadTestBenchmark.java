@@ -0,0 +1,195 @@
+package kolab.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import kolab.KolabApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test. Boots the application on a random port against the
+ * test datasource (H2 in memory) and seeds a synthetic dataset. Concurrent
+ * clients then replay {@link Workload#mixed()} for a fixed time. The
+ * results, with throughput and p50/p95/p99/p999 latency per endpoint, are
+ * written as JSON. Not part of the regular suite; run it with
+ *
+ * <pre>mvn test -Dtest=LoadTestBenchmark [-Dload.clients=64 -Dload.duration=PT1M ...]</pre>
+ *
+ * Settings (system properties):
+ * <ul>
+ *   <li>{@code load.clients} concurrent closed-loop clients (32)</li>
+ *   <li>{@code load.warmup}, {@code load.duration} ISO-8601 durations (PT10S, PT30S)</li>
+ *   <li>{@code load.companies}, {@code load.collaborations} dataset size (2000, 10000); reference data, users
+ *       and projects scale with the companies</li>
+ *   <li>{@code load.seed} drives the dataset and every client's request stream (42)</li>
+ *   <li>{@code load.report} output file (target/load-test/report.json)</li>
+ *   <li>{@code load.baseline} an earlier report; the run fails if any endpoint's p95 grew by more than
+ *       {@code load.tolerance} (0.25) over it</li>
+ * </ul>
+ */
+class LoadTestBenchmark {
+    private static final ObjectMapper JSON = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+
+    private final int clients = Integer.getInteger("load.clients", 32);
+    private final Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+    private final Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private final int companies = Integer.getInteger("load.companies", 2_000);
+    private final int collaborations = Integer.getInteger("load.collaborations", 10_000);
+    private final long seed = Long.getLong("load.seed", 42);
+    private final Path report = Path.of(System.getProperty("load.report", "target/load-test/report.json"));
+    private final String baseline = System.getProperty("load.baseline");
+    private final double tolerance = Double.parseDouble(System.getProperty("load.tolerance", "0.25"));
+
+    @Test
+    void runMixedWorkload() throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(KolabApplication.class)
+                .run("--server.port=0",
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.root=WARN")) {
+            BenchData data = BenchData.seed(context, SyntheticDataset.Spec.ofCompanies(companies, collaborations).withSeed(seed));
+            URI base = URI.create("http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort());
+            Workload workload = Workload.mixed();
+
+            run("warmup", workload, data, base, warmup);
+            Instant started = Instant.now();
+            Map<String, LatencyRecorder> results = run("measure", workload, data, base, duration);
+            double seconds = Duration.between(started, Instant.now()).toNanos() / 1e9;
+
+            Map<String, Object> summary = write(workload, results, seconds);
+            print(summary);
+            if (baseline != null) {
+                List<String> regressions = compare(summary, JSON.readTree(Path.of(baseline).toFile()));
+                regressions.forEach(System.out::println);
+                assertTrue(regressions.isEmpty(), regressions.size() + " endpoint(s) regressed against " + baseline);
+            }
+        }
+    }
+
+    private Map<String, LatencyRecorder> run(String phase, Workload workload, BenchData data, URI base, Duration length)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + length.toNanos();
+        List<Map<String, LatencyRecorder>> perClient = new ArrayList<>();
+        try (ExecutorService io = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(io).build();
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                Map<String, LatencyRecorder> recorders = new HashMap<>();
+                perClient.add(recorders);
+                Workload.Client client = new Workload.Client(phase, i, seed, data, base);
+                workers.submit(() -> drive(workload, client, http, recorders, deadline));
+            }
+        }
+        Map<String, LatencyRecorder> merged = new TreeMap<>();
+        for (Map<String, LatencyRecorder> recorders : perClient) {
+            recorders.forEach((name, recorder) -> merged.computeIfAbsent(name, n -> new LatencyRecorder()).merge(recorder));
+        }
+        return merged;
+    }
+
+    private static void drive(Workload workload, Workload.Client client, HttpClient http,
+                              Map<String, LatencyRecorder> recorders, long deadline) {
+        while (System.nanoTime() < deadline) {
+            Workload.Operation operation = workload.pick(client.random);
+            Workload.Call call = operation.call().apply(client);
+            if (call == null) {
+                continue;
+            }
+            LatencyRecorder recorder = recorders.computeIfAbsent(operation.name(), n -> new LatencyRecorder());
+            long start = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = http.send(call.request(), HttpResponse.BodyHandlers.ofByteArray());
+                recorder.record(response.statusCode(), System.nanoTime() - start);
+                if (call.onSuccess() != null && response.statusCode() / 100 == 2) {
+                    call.onSuccess().accept(JSON.readTree(response.body()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                recorder.recordFailure();
+            }
+        }
+    }
+
+    private Map<String, Object> write(Workload workload, Map<String, LatencyRecorder> results, double seconds)
+            throws Exception {
+        LatencyRecorder total = new LatencyRecorder();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (Workload.Operation operation : workload.operations()) {
+            LatencyRecorder recorder = results.get(operation.name());
+            if (recorder != null) {
+                endpoints.put(operation.name(), recorder.summarize(seconds));
+                total.merge(recorder);
+            }
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("clients", clients);
+        config.put("warmup", warmup.toString());
+        config.put("duration", duration.toString());
+        config.put("companies", companies);
+        config.put("collaborations", collaborations);
+        config.put("seed", seed);
+        config.put("processors", Runtime.getRuntime().availableProcessors());
+        config.put("java", Runtime.version().toString());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("timestamp", Instant.now().toString());
+        summary.put("config", config);
+        summary.put("latencyUnit", "ms");
+        summary.put("total", total.summarize(seconds));
+        summary.put("endpoints", endpoints);
+
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        JSON.writeValue(report.toFile(), summary);
+        return summary;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void print(Map<String, Object> summary) {
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-42s %8s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms");
+        Map<String, Object> rows = new LinkedHashMap<>((Map<String, Object>) summary.get("endpoints"));
+        rows.put("TOTAL", summary.get("total"));
+        rows.forEach((name, value) -> {
+            Map<String, Object> row = (Map<String, Object>) value;
+            System.out.printf(Locale.ROOT, "%-42s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name,
+                row.get("requests"), row.get("errors"), row.get("throughput"),
+                row.get("p50"), row.get("p95"), row.get("p99"), row.get("p999"));
+        });
+        System.out.println("Report written to " + report.toAbsolutePath());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> compare(Map<String, Object> summary, JsonNode previous) {
+        List<String> regressions = new ArrayList<>();
+        Map<String, Object> endpoints = (Map<String, Object>) summary.get("endpoints");
+        endpoints.forEach((name, value) -> {
+            JsonNode before = previous.path("endpoints").path(name).path("p95");
+            double now = ((Number) ((Map<String, Object>) value).get("p95")).doubleValue();
+            if (before.isNumber() && now > before.asDouble() * (1 + tolerance)) {
+                regressions.add(String.format(Locale.ROOT, "REGRESSION %s p95 %.2f ms -> %.2f ms",
+                    name, before.asDouble(), now));
+            }
+        });
+        return regressions;
+    }
+}
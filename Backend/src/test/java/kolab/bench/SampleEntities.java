@@ -0,0 +1,145 @@
+package kolab.bench;
+
+import kolab.domain.*;
+import kolab.domain.enums.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Detached entity graphs with every field populated, for benchmarks that
+ * exercise serialization and mapping without a database. Values are
+ * derived from the index so runs are repeatable.
+ */
+public final class SampleEntities {
+    private static final ZonedDateTime START = ZonedDateTime.of(2024, 3, 1, 9, 0, 0, 0, ZoneId.of("Europe/Zagreb"));
+
+    private SampleEntities() {
+    }
+
+    public static Industry industry(int i) {
+        Industry industry = new Industry();
+        industry.setId(uuid(1, i));
+        industry.setName("Industry " + i);
+        return industry;
+    }
+
+    public static Category category(int i) {
+        Category category = new Category();
+        category.setId(uuid(2, i));
+        category.setName("Category " + i);
+        return category;
+    }
+
+    public static User user(int i) {
+        User user = new User();
+        user.setId(uuid(3, i));
+        user.setVersion(0L);
+        user.setName("Name" + i);
+        user.setSurname("Surname" + i);
+        user.setNickname("nick" + i);
+        user.setEmail("user" + i + "@example.com");
+        user.setAuthorization(UserAuthorization.values()[i % UserAuthorization.values().length]);
+        user.setDescription("Member of the project team since season " + (2015 + i % 10));
+        return user;
+    }
+
+    public static Company company(int i, Industry industry) {
+        Company company = new Company();
+        company.setId(uuid(4, i));
+        company.setVersion(0L);
+        company.setIndustry(industry);
+        company.setName("Company " + i + " d.o.o.");
+        company.setCategorization(CompanyCategorization.values()[i % CompanyCategorization.values().length]);
+        company.setBudgetPlanningMonth(Month.values()[i % Month.values().length]);
+        company.setCountry("Croatia");
+        company.setZip(10000L + i % 1000);
+        company.setCity("Zagreb");
+        company.setAddress("Ilica " + (1 + i % 300));
+        company.setWebLink("https://company-" + i + ".example.com");
+        company.setDescription("Regional partner " + i + " with a long-standing interest in student projects and events.");
+        company.setContactInFuture(i % 3 != 0);
+        return company;
+    }
+
+    public static Contact contact(int i, Company company) {
+        Contact contact = new Contact();
+        contact.setId(uuid(5, i));
+        contact.setCompany(company);
+        contact.setFirstName("First" + i);
+        contact.setLastName("Last" + i);
+        contact.setPosition("Partnership manager");
+        contact.setEmail("contact" + i + "@company-" + i + ".example.com");
+        contact.setPhone("+385 1 " + (1000000 + i));
+        return contact;
+    }
+
+    public static Project project(int i, Category category, User responsible) {
+        Project project = new Project();
+        project.setId(uuid(6, i));
+        project.setVersion(0L);
+        project.setCategory(category);
+        project.setResponsible(responsible);
+        project.setName("Project " + i);
+        project.setType(ProjectType.values()[i % ProjectType.values().length]);
+        project.setStartDate(START.plusDays(i));
+        project.setEndDate(START.plusDays(i + 90));
+        project.setGoal(50_000L + i);
+        return project;
+    }
+
+    public static Collaboration collaboration(int i, Project project, Company company, Contact contact, User responsible) {
+        Collaboration collaboration = new Collaboration();
+        collaboration.setId(uuid(7, i));
+        collaboration.setVersion(0L);
+        collaboration.setProject(project);
+        collaboration.setCompany(company);
+        collaboration.setContact(contact);
+        collaboration.setResponsible(responsible);
+        collaboration.setCategory(CollaborationCategory.values()[i % CollaborationCategory.values().length]);
+        collaboration.setStatus(CollaborationStatus.values()[i % CollaborationStatus.values().length]);
+        collaboration.setComment("Followed up after the introductory meeting #" + i);
+        collaboration.setAchievedValue(i % 4 == 0 ? 1500.0 + i : null);
+        return collaboration;
+    }
+
+    public static List<Company> companies(int count) {
+        List<Industry> industries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            industries.add(industry(i));
+        }
+        List<Company> companies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            companies.add(company(i, industries.get(i % industries.size())));
+        }
+        return companies;
+    }
+
+    public static List<Project> projects(int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            projects.add(project(i, category(i % 5), user(i % 25)));
+        }
+        return projects;
+    }
+
+    /** Collaborations spread over ten projects, each with its own company and contact. */
+    public static List<Collaboration> collaborations(int count) {
+        List<Project> projects = projects(10);
+        List<Company> companies = companies(count);
+        List<Collaboration> collaborations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Company company = companies.get(i);
+            collaborations.add(collaboration(i, projects.get(i % projects.size()), company,
+                contact(i, company), user(i % 25)));
+        }
+        return collaborations;
+    }
+
+    private static UUID uuid(int type, int i) {
+        return new UUID(type, i);
+    }
+}
@@ -0,0 +1,67 @@
+package kolab.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import kolab.domain.Collaboration;
+import kolab.domain.Company;
+import kolab.domain.Project;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the list endpoints' payloads, written to a
+ * discarding stream the way the message converter writes the response.
+ * Run with {@code mvn -Pjmh test-compile exec:exec}; the profile adds
+ * {@code -prof gc} so allocation per operation is reported next to
+ * throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<Company> companies;
+    private List<Project> projects;
+    private List<Collaboration> collaborations;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the mapper Spring Boot auto-configures for the application
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+            .build();
+        writer = mapper.writer();
+        companies = SampleEntities.companies(size);
+        projects = SampleEntities.projects(size);
+        collaborations = SampleEntities.collaborations(size);
+    }
+
+    @Benchmark
+    public void companies() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), companies);
+    }
+
+    @Benchmark
+    public void projects() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), projects);
+    }
+
+    @Benchmark
+    public void collaborations() throws IOException {
+        writer.writeValue(OutputStream.nullOutputStream(), collaborations);
+    }
+}
@@ -0,0 +1,69 @@
+package kolab.bench;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Loads a {@link SyntheticDataset} into the database the application is
+ * configured for ({@code SPRING_DATASOURCE_URL}, {@code _USERNAME} and
+ * {@code _PASSWORD}). The schema must already be migrated, for example by
+ * starting the application once, and must not already hold a dataset from
+ * the same seed. Run it from the test classpath:
+ *
+ * <pre>mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=kolab.bench.SyntheticDataLoader \
+ *     -Ddataset.companies=50000 -Ddataset.collaborations=2000000</pre>
+ *
+ * Settings (system properties): {@code dataset.companies} (2000),
+ * {@code dataset.collaborations} (10000), {@code dataset.seed} (42) and
+ * {@code dataset.batch} (1000).
+ *
+ * <p>The rows bypass the services, so {@code project_rollup} is rebuilt from
+ * the loaded collaborations afterwards, the same way {@code BenchData} does
+ * it through {@code ProjectRollupService.rebuild()}.
+ */
+public final class SyntheticDataLoader {
+    static final String REBUILD_ROLLUP =
+        "insert into project_rollup (project_id, status, category, collaboration_count, achieved_value) "
+            + "select project_id, status, category, count(*), coalesce(sum(achieved_value), 0) "
+            + "from collaboration group by project_id, status, category";
+
+    private SyntheticDataLoader() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        SyntheticDataset.Spec spec = SyntheticDataset.Spec
+            .ofCompanies(Integer.getInteger("dataset.companies", 2_000), Long.getLong("dataset.collaborations", 10_000))
+            .withSeed(Long.getLong("dataset.seed", 42));
+        int batch = Integer.getInteger("dataset.batch", JdbcRowSink.DEFAULT_BATCH_SIZE);
+
+        long start = System.nanoTime();
+        SyntheticDataset.Summary summary;
+        int buckets;
+        try (Connection connection = DriverManager.getConnection(System.getenv("SPRING_DATASOURCE_URL"),
+                System.getenv("SPRING_DATASOURCE_USERNAME"), System.getenv("SPRING_DATASOURCE_PASSWORD"))) {
+            try (JdbcRowSink sink = new JdbcRowSink(connection, batch)) {
+                summary = SyntheticDataset.generate(spec, sink);
+            }
+            buckets = rebuildRollup(connection);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long rows = summary.rows().values().stream().mapToLong(Long::longValue).sum();
+        for (Map.Entry<SyntheticDataset.Table, Long> entry : summary.rows().entrySet()) {
+            System.out.printf(Locale.ROOT, "%-16s %,12d%n", entry.getKey().name, entry.getValue());
+        }
+        System.out.printf(Locale.ROOT, "Loaded %,d rows in %.1f s (%,.0f rows/s), %,d rollup buckets%n",
+            rows, seconds, rows / seconds, buckets);
+    }
+
+    static int rebuildRollup(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("delete from project_rollup");
+            return statement.executeUpdate(REBUILD_ROLLUP);
+        }
+    }
+}
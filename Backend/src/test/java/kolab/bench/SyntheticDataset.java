@@ -0,0 +1,322 @@
+package kolab.bench;
+
+import kolab.domain.enums.*;
+import kolab.domain.enums.Month;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * Generates a correlated Kolab dataset for scale testing. The same
+ * {@link Spec} always produces the same rows. Rows stream to a
+ * {@link RowSink} one table at a time in foreign-key order, and only the
+ * ids needed for references are kept in memory. Collaborations, the bulk
+ * of the data, are never held. The shape follows how the association
+ * actually works:
+ * <ul>
+ *   <li>Company activity is Zipf-distributed ({@link Spec#companySkew()}), so a few large companies
+ *       appear in most projects. They also have more contacts, better categorization and bigger
+ *       deals.</li>
+ *   <li>Projects are yearly editions of recurring series over {@link Spec#years()} years. Later
+ *       editions are larger, and some run for more than a year.</li>
+ *   <li>Collaboration statuses follow the TODO → CONTACTED → PING → LETTER → MEETING → outcome
+ *       funnel for the project's phase as of {@link Spec#asOf()}. Finished projects are mostly
+ *       decided, running ones are spread over the funnel, and upcoming ones are still at the top.
+ *       Only successful collaborations carry an achieved value.</li>
+ *   <li>A company appears at most once per project.</li>
+ * </ul>
+ * Load into an empty schema: names and ids are unique within one dataset,
+ * not across datasets generated with the same seed.
+ */
+final class SyntheticDataset {
+
+    enum Table {
+        INDUSTRY("industry", "id", "name"),
+        CATEGORY("category", "id", "name"),
+        APP_USER("app_user", "id", "version", "name", "surname", "nickname", "email", "auth", "description"),
+        COMPANY("company", "id", "version", "industry_id", "name", "categorization", "budget_planning_month",
+            "country", "zip", "city", "address", "web_link", "description", "contact_in_future"),
+        COMPANY_CONTACT("company_contact", "id", "company_id", "first_name", "last_name", "email", "phone", "position"),
+        PROJECT("project", "id", "version", "category_id", "name", "type", "start_date", "end_date", "goal",
+            "responsible_id"),
+        COLLABORATION("collaboration", "id", "version", "project_id", "company_id", "contact_id", "responsible_id",
+            "category", "status", "comment", "achieved_value");
+
+        final String name;
+        final List<String> columns;
+
+        Table(String name, String... columns) {
+            this.name = name;
+            this.columns = List.of(columns);
+        }
+    }
+
+    /** Receives rows in foreign-key order; values line up with {@link Table#columns}. */
+    interface RowSink {
+        void accept(Table table, Object[] row);
+    }
+
+    record Spec(long seed, int industries, int categories, int users, int companies, int projectSeries, int years,
+                long collaborations, double companySkew, LocalDate asOf) {
+
+        /**
+         * Reference data and users scaled off the number of companies, and enough project series
+         * for editions of about 150 collaborations each.
+         */
+        static Spec ofCompanies(int companies, long collaborations) {
+            int years = 8;
+            return new Spec(42, Math.min(INDUSTRIES.length * 4, Math.max(5, companies / 200)),
+                Math.min(CATEGORIES.length, 8), Math.max(5, companies / 100), companies,
+                (int) Math.max(5, collaborations / (years * 150L)), years, collaborations, 1.1,
+                LocalDate.of(2025, 10, 1));
+        }
+
+        Spec withSeed(long seed) {
+            return new Spec(seed, industries, categories, users, companies, projectSeries, years, collaborations,
+                companySkew, asOf);
+        }
+    }
+
+    /** What was generated: row counts and the ids a workload needs to address rows. */
+    record Summary(Map<Table, Long> rows, List<UUID> industryIds, List<UUID> categoryIds, List<UUID> userIds,
+                   List<String> userEmails, List<UUID> companyIds, List<UUID> contactIds, List<UUID> projectIds,
+                   List<UUID> collaborationSample) {
+    }
+
+    private static final String[] INDUSTRIES = {"Software", "Telecommunications", "Energy", "Banking", "Insurance",
+        "Consulting", "Automotive", "Pharmaceuticals", "Retail", "Food and beverage", "Construction", "Media",
+        "Logistics", "Electronics", "Gaming", "Public sector"};
+    private static final String[] CATEGORIES = {"Career fair", "Hackathon", "Conference", "Workshop", "Competition",
+        "Sports", "Humanitarian", "Social"};
+    private static final String[] SERIES = {"Job Fair", "Hackathon", "Tech Talks", "Summer Camp", "Case Study",
+        "Robotics Cup", "Startup Weekend", "Charity Run", "Alumni Evening", "Design Sprint"};
+    private static final String[] FIRST_NAMES = {"Ana", "Ivan", "Marija", "Luka", "Petra", "Marko", "Ivana", "Josip",
+        "Katarina", "Tomislav", "Lucija", "Filip", "Mia", "Matej", "Sara", "Nikola"};
+    private static final String[] LAST_NAMES = {"Horvat", "Kovačević", "Babić", "Marić", "Jurić", "Novak",
+        "Kovačić", "Knežević", "Vuković", "Marković", "Petrović", "Matić", "Tomić", "Pavlović"};
+    private static final String[] CITIES = {"Zagreb", "Split", "Rijeka", "Osijek", "Zadar", "Varaždin", "Pula",
+        "Ljubljana", "Graz", "Vienna", "Munich", "Belgrade"};
+    private static final String[] POSITIONS = {"HR manager", "Talent acquisition", "Marketing manager",
+        "Partnership manager", "CTO", "Office manager", "Employer branding"};
+    private static final ZoneId ZONE = ZoneId.of("Europe/Zagreb");
+    private static final CollaborationStatus[] FUNNEL = CollaborationStatus.values();
+    // Share of collaborations per status (TODO..UNSUCCESSFUL) by project phase
+    private static final double[] FINISHED = {0.02, 0.08, 0.05, 0.05, 0.05, 0.25, 0.50};
+    private static final double[] RUNNING = {0.20, 0.25, 0.15, 0.10, 0.08, 0.10, 0.12};
+    private static final double[] UPCOMING = {0.70, 0.20, 0.05, 0.03, 0.02, 0.00, 0.00};
+    private static final int COLLABORATION_SAMPLE = 10_000;
+
+    private SyntheticDataset() {
+    }
+
+    static Summary generate(Spec spec, RowSink sink) {
+        Random random = new Random(spec.seed());
+        Map<Table, Long> rows = new EnumMap<>(Table.class);
+        RowSink counting = (table, row) -> {
+            rows.merge(table, 1L, Long::sum);
+            sink.accept(table, row);
+        };
+
+        UUID[] industries = new UUID[spec.industries()];
+        for (int i = 0; i < industries.length; i++) {
+            industries[i] = uuid(random);
+            String name = INDUSTRIES[i % INDUSTRIES.length] + (i < INDUSTRIES.length ? "" : " " + (i / INDUSTRIES.length + 1));
+            counting.accept(Table.INDUSTRY, new Object[]{industries[i], name});
+        }
+
+        UUID[] categories = new UUID[spec.categories()];
+        for (int i = 0; i < categories.length; i++) {
+            categories[i] = uuid(random);
+            counting.accept(Table.CATEGORY, new Object[]{categories[i], CATEGORIES[i % CATEGORIES.length]});
+        }
+
+        UUID[] users = new UUID[spec.users()];
+        String[] emails = new String[users.length];
+        for (int i = 0; i < users.length; i++) {
+            users[i] = uuid(random);
+            String first = pick(random, FIRST_NAMES);
+            String last = pick(random, LAST_NAMES);
+            emails[i] = ascii(first + "." + last).toLowerCase(Locale.ROOT) + "." + i + "@kolab.example.com";
+            counting.accept(Table.APP_USER, new Object[]{users[i], 0L, first, last,
+                random.nextInt(3) == 0 ? ascii(first).toLowerCase(Locale.ROOT) + i : null, emails[i],
+                (i < Math.max(1, users.length / 20) ? UserAuthorization.ADMINISTRATOR : UserAuthorization.USER).name(),
+                null});
+        }
+
+        // Company i has activity weight 1 / (i + 1)^s; the cumulative form drives weighted sampling
+        int companyCount = spec.companies();
+        UUID[] companies = new UUID[companyCount];
+        double[] weight = new double[companyCount];
+        double[] cumulative = new double[companyCount];
+        double total = 0;
+        for (int i = 0; i < companyCount; i++) {
+            weight[i] = 1 / Math.pow(i + 1, spec.companySkew());
+            total += weight[i];
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < companyCount; i++) {
+            companies[i] = uuid(random);
+            double share = weight[i] / weight[0];
+            CompanyCategorization categorization = share > 0.05 ? CompanyCategorization.A
+                : share > 0.005 ? CompanyCategorization.B : CompanyCategorization.C;
+            String city = CITIES[Math.min(CITIES.length - 1, (int) Math.abs(random.nextGaussian() * 3))];
+            counting.accept(Table.COMPANY, new Object[]{companies[i], 0L, industries[random.nextInt(industries.length)],
+                "Company " + (i + 1) + " " + pick(random, LAST_NAMES), categorization.name(),
+                random.nextInt(4) == 0 ? null : Month.values()[random.nextInt(12)].name(),
+                city.equals("Ljubljana") ? "Slovenia" : city.equals("Graz") || city.equals("Vienna") ? "Austria"
+                    : city.equals("Munich") ? "Germany" : city.equals("Belgrade") ? "Serbia" : "Croatia",
+                10000L + random.nextInt(45000), city, "Street " + (1 + random.nextInt(200)),
+                "https://company-" + (i + 1) + ".example.com", null, random.nextInt(5) != 0});
+        }
+
+        // Contacts: one to six per company, more for the active ones
+        int[] firstContact = new int[companyCount + 1];
+        List<UUID> contacts = new ArrayList<>();
+        for (int i = 0; i < companyCount; i++) {
+            firstContact[i] = contacts.size();
+            int count = 1 + (int) Math.min(5, Math.round(weight[i] / weight[0] * 40)) - (random.nextInt(4) == 0 ? 1 : 0);
+            for (int c = 0; c < count; c++) {
+                UUID id = uuid(random);
+                contacts.add(id);
+                String first = pick(random, FIRST_NAMES);
+                String last = pick(random, LAST_NAMES);
+                counting.accept(Table.COMPANY_CONTACT, new Object[]{id, companies[i], first, last,
+                    ascii(first + "." + last).toLowerCase(Locale.ROOT) + "." + contacts.size() + "@company-" + (i + 1) + ".example.com",
+                    random.nextInt(3) == 0 ? null : "+385 1 " + (1_000_000 + random.nextInt(9_000_000)),
+                    pick(random, POSITIONS)});
+            }
+        }
+        firstContact[companyCount] = contacts.size();
+
+        // Projects: every series runs once a year, later editions being larger
+        int projectCount = spec.projectSeries() * spec.years();
+        UUID[] projects = new UUID[projectCount];
+        double[] projectSize = new double[projectCount];
+        CollaborationStatus[][] funnelByProject = new CollaborationStatus[projectCount][];
+        double[][] funnelShares = new double[projectCount][];
+        int[] projectResponsible = new int[projectCount];
+        int firstYear = spec.asOf().getYear() - spec.years() + 1;
+        for (int s = 0; s < spec.projectSeries(); s++) {
+            String series = SERIES[s % SERIES.length] + (s < SERIES.length ? "" : " " + (s / SERIES.length + 1));
+            UUID category = categories[random.nextInt(categories.length)];
+            ProjectType type = random.nextInt(4) == 0 ? ProjectType.INTERNAL : ProjectType.EXTERNAL;
+            double seriesSize = 0.3 + random.nextDouble() * 1.7;
+            int month = 1 + random.nextInt(12);
+            boolean multiYear = s % 5 == 4;
+            for (int y = 0; y < spec.years(); y++) {
+                int p = s * spec.years() + y;
+                projects[p] = uuid(random);
+                projectSize[p] = seriesSize * (1 + 0.15 * y);
+                projectResponsible[p] = random.nextInt(users.length);
+                ZonedDateTime start = LocalDate.of(firstYear + y, month, 1 + random.nextInt(28)).atStartOfDay(ZONE);
+                ZonedDateTime end = multiYear ? start.plusMonths(13 + random.nextInt(24)) : start.plusDays(14 + random.nextInt(150));
+                ZonedDateTime asOf = spec.asOf().atStartOfDay(ZONE);
+                funnelShares[p] = end.isBefore(asOf) ? FINISHED : start.isAfter(asOf) ? UPCOMING : RUNNING;
+                counting.accept(Table.PROJECT, new Object[]{projects[p], 0L, category, series + " " + (firstYear + y), type.name(),
+                    start.toOffsetDateTime(), end.toOffsetDateTime(),
+                    type == ProjectType.EXTERNAL ? Math.round(projectSize[p] * 20_000) : null,
+                    users[projectResponsible[p]]});
+            }
+        }
+
+        // Collaborations: split over projects by size, companies drawn by weight without repeats per project
+        long[] perProject = allocate(spec.collaborations(), projectSize, companyCount);
+        List<UUID> sample = new ArrayList<>();
+        long seen = 0;
+        BitSet taken = new BitSet(companyCount);
+        CollaborationCategory[] categoriesOfCollaboration = CollaborationCategory.values();
+        for (int p = 0; p < projectCount; p++) {
+            taken.clear();
+            for (long n = 0; n < perProject[p]; n++) {
+                int company = drawCompany(random, cumulative, total, taken);
+                taken.set(company);
+                CollaborationStatus status = FUNNEL[draw(random, funnelShares[p])];
+                int contactCount = firstContact[company + 1] - firstContact[company];
+                UUID contact = status == CollaborationStatus.TODO || contactCount == 0 ? null
+                    : contacts.get(firstContact[company] + random.nextInt(contactCount));
+                Double achieved = status == CollaborationStatus.SUCCESSFUL
+                    ? Math.round(500 * Math.exp(random.nextGaussian() * 0.8) * (1 + weight[company] / weight[0] * 20)) * 1.0
+                    : null;
+                UUID id = uuid(random);
+                counting.accept(Table.COLLABORATION, new Object[]{id, 0L, projects[p], companies[company], contact,
+                    random.nextInt(10) == 0 ? null : users[random.nextInt(4) == 0 ? random.nextInt(users.length) : projectResponsible[p]],
+                    categoriesOfCollaboration[random.nextInt(10) < 7 ? 0 : 1 + random.nextInt(2)].name(), status.name(),
+                    random.nextInt(3) == 0 ? "Followed up on " + status.name().toLowerCase(Locale.ROOT) : null, achieved});
+                // Reservoir sampling keeps a uniform sample without holding every id
+                seen++;
+                if (sample.size() < COLLABORATION_SAMPLE) {
+                    sample.add(id);
+                } else {
+                    long slot = (long) (random.nextDouble() * seen);
+                    if (slot < COLLABORATION_SAMPLE) {
+                        sample.set((int) slot, id);
+                    }
+                }
+            }
+        }
+
+        return new Summary(rows, List.of(industries), List.of(categories), List.of(users), List.of(emails),
+            List.of(companies), List.copyOf(contacts), List.of(projects), List.copyOf(sample));
+    }
+
+    /** Splits {@code total} proportionally to {@code sizes}, at most {@code cap} each; leftovers go round robin. */
+    static long[] allocate(long total, double[] sizes, int cap) {
+        long[] counts = new long[sizes.length];
+        double sum = Arrays.stream(sizes).sum();
+        long remaining = total;
+        for (int i = 0; i < sizes.length; i++) {
+            counts[i] = Math.min(cap, (long) Math.floor(total * sizes[i] / sum));
+            remaining -= counts[i];
+        }
+        boolean progressed = true;
+        while (remaining > 0 && progressed) {
+            progressed = false;
+            for (int i = 0; i < counts.length && remaining > 0; i++) {
+                if (counts[i] < cap) {
+                    counts[i]++;
+                    remaining--;
+                    progressed = true;
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static int drawCompany(Random random, double[] cumulative, double total, BitSet taken) {
+        for (int attempt = 0; attempt < 32; attempt++) {
+            int i = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            int company = i >= 0 ? i : Math.min(cumulative.length - 1, -i - 1);
+            if (!taken.get(company)) {
+                return company;
+            }
+        }
+        // The head is exhausted for this project; take the next free company in the tail
+        int company = taken.nextClearBit(random.nextInt(cumulative.length));
+        return company < cumulative.length ? company : taken.nextClearBit(0);
+    }
+
+    private static int draw(Random random, double[] shares) {
+        double target = random.nextDouble();
+        for (int i = 0; i < shares.length; i++) {
+            target -= shares[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return shares.length - 1;
+    }
+
+    private static UUID uuid(Random random) {
+        long most = random.nextLong() & 0xffffffffffff0fffL | 0x0000000000004000L;
+        long least = random.nextLong() & 0x3fffffffffffffffL | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private static <T> T pick(Random random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String ascii(String value) {
+        return value.replace('č', 'c').replace('ć', 'c').replace('ž', 'z').replace('š', 's').replace('đ', 'd');
+    }
+}
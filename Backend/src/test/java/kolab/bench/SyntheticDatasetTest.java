@@ -0,0 +1,146 @@
+package kolab.bench;
+
+import kolab.domain.enums.CollaborationStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JdbcTest
+class SyntheticDatasetTest {
+    private static final SyntheticDataset.Spec SPEC = SyntheticDataset.Spec.ofCompanies(1_000, 20_000);
+
+    @Autowired DataSource dataSource;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private static Map<SyntheticDataset.Table, List<Object[]>> generate(SyntheticDataset.Spec spec) {
+        Map<SyntheticDataset.Table, List<Object[]>> rows = new EnumMap<>(SyntheticDataset.Table.class);
+        SyntheticDataset.generate(spec, (table, row) -> rows.computeIfAbsent(table, t -> new ArrayList<>()).add(row));
+        return rows;
+    }
+
+    private static int hash(Map<SyntheticDataset.Table, List<Object[]>> rows) {
+        int hash = 0;
+        for (List<Object[]> table : rows.values()) {
+            for (Object[] row : table) {
+                hash = 31 * hash + Arrays.deepHashCode(row);
+            }
+        }
+        return hash;
+    }
+
+    @Test
+    void sameSeedProducesSameRows() {
+        assertEquals(hash(generate(SPEC)), hash(generate(SPEC)));
+        assertNotEquals(hash(generate(SPEC)), hash(generate(SPEC.withSeed(7))));
+    }
+
+    @Test
+    void emitsTablesInForeignKeyOrder() {
+        List<SyntheticDataset.Table> order = new ArrayList<>();
+        SyntheticDataset.generate(SPEC, (table, row) -> {
+            if (order.isEmpty() || order.get(order.size() - 1) != table) {
+                order.add(table);
+            }
+        });
+        assertEquals(List.of(SyntheticDataset.Table.values()), order);
+    }
+
+    @Test
+    void fewCompaniesTakePartInMostCollaborations() {
+        Map<SyntheticDataset.Table, List<Object[]>> rows = generate(SPEC);
+        List<Object[]> collaborations = rows.get(SyntheticDataset.Table.COLLABORATION);
+        assertEquals(SPEC.collaborations(), collaborations.size());
+
+        Map<Object, Integer> perCompany = new HashMap<>();
+        Set<List<Object>> pairs = new HashSet<>();
+        for (Object[] row : collaborations) {
+            perCompany.merge(row[3], 1, Integer::sum);
+            assertTrue(pairs.add(List.of(row[2], row[3])), "company repeated within a project");
+        }
+        List<Integer> counts = perCompany.values().stream().sorted(Comparator.reverseOrder()).toList();
+        int topTenth = counts.stream().limit(SPEC.companies() / 10).mapToInt(Integer::intValue).sum();
+        assertTrue(topTenth > collaborations.size() * 0.3, "top 10% of companies hold " + topTenth);
+        // The most active company shows up in every project
+        assertEquals(rows.get(SyntheticDataset.Table.PROJECT).size(), counts.get(0));
+        int median = counts.size() < SPEC.companies() / 2 ? 0 : counts.get(SPEC.companies() / 2);
+        assertTrue(median * 4 < counts.get(0), "median company has " + median + " collaborations");
+    }
+
+    @Test
+    void statusesFollowTheFunnelForTheProjectPhase() {
+        Map<SyntheticDataset.Table, List<Object[]>> rows = generate(SPEC);
+        OffsetDateTime asOf = SPEC.asOf().atStartOfDay().atOffset(ZoneOffset.UTC);
+        Map<Object, String> phase = new HashMap<>();
+        boolean multiYear = false;
+        Set<Integer> years = new TreeSet<>();
+        for (Object[] project : rows.get(SyntheticDataset.Table.PROJECT)) {
+            OffsetDateTime start = (OffsetDateTime) project[5];
+            OffsetDateTime end = (OffsetDateTime) project[6];
+            phase.put(project[0], end.isBefore(asOf) ? "finished" : start.isAfter(asOf) ? "upcoming" : "running");
+            multiYear |= Duration.between(start, end).toDays() > 365;
+            years.add(start.getYear());
+        }
+        assertTrue(multiYear, "no project runs for more than a year");
+        assertEquals(SPEC.years(), years.size());
+
+        Map<Object, Object> contactCompany = new HashMap<>();
+        for (Object[] contact : rows.get(SyntheticDataset.Table.COMPANY_CONTACT)) {
+            contactCompany.put(contact[0], contact[1]);
+        }
+        Map<String, Map<CollaborationStatus, Integer>> byPhase = new HashMap<>();
+        for (Object[] row : rows.get(SyntheticDataset.Table.COLLABORATION)) {
+            CollaborationStatus status = CollaborationStatus.valueOf((String) row[7]);
+            byPhase.computeIfAbsent(phase.get(row[2]), p -> new EnumMap<>(CollaborationStatus.class)).merge(status, 1, Integer::sum);
+            assertEquals(status == CollaborationStatus.SUCCESSFUL, row[9] != null, "achieved value on " + status);
+            if (row[4] != null) {
+                assertEquals(row[3], contactCompany.get(row[4]), "contact from another company");
+            }
+        }
+
+        Map<CollaborationStatus, Integer> finished = byPhase.get("finished");
+        int total = finished.values().stream().mapToInt(Integer::intValue).sum();
+        int decided = finished.getOrDefault(CollaborationStatus.SUCCESSFUL, 0)
+            + finished.getOrDefault(CollaborationStatus.UNSUCCESSFUL, 0);
+        assertTrue(decided > total * 0.6, "finished projects decided " + decided + " of " + total);
+        assertTrue(finished.get(CollaborationStatus.UNSUCCESSFUL) > finished.get(CollaborationStatus.SUCCESSFUL));
+        byPhase.getOrDefault("upcoming", Map.of()).forEach((status, count) ->
+            assertTrue(status != CollaborationStatus.SUCCESSFUL && status != CollaborationStatus.UNSUCCESSFUL));
+    }
+
+    @Test
+    void loadsIntoTheMigratedSchema() throws Exception {
+        SyntheticDataset.Spec spec = SyntheticDataset.Spec.ofCompanies(500, 5_000);
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        SyntheticDataset.Summary summary;
+        try {
+            try (JdbcRowSink sink = new JdbcRowSink(connection, 250)) {
+                summary = SyntheticDataset.generate(spec, sink);
+            }
+            assertTrue(SyntheticDataLoader.rebuildRollup(connection) > 0);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        for (SyntheticDataset.Table table : SyntheticDataset.Table.values()) {
+            assertEquals(summary.rows().get(table),
+                jdbcTemplate.queryForObject("select count(*) from " + table.name, Long.class), table.name);
+        }
+        assertEquals(summary.collaborationSample().size(), jdbcTemplate.queryForObject(
+            "select count(*) from collaboration where id in (" + String.join(", ",
+                Collections.nCopies(summary.collaborationSample().size(), "?")) + ")",
+            Long.class, summary.collaborationSample().toArray()).intValue());
+        assertEquals(summary.rows().get(SyntheticDataset.Table.COLLABORATION),
+            jdbcTemplate.queryForObject("select sum(collaboration_count) from project_rollup", Long.class));
+    }
+}
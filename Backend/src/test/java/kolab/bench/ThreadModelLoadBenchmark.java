@@ -0,0 +1,127 @@
+package kolab.bench;
+
+import kolab.KolabApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives the heavy list endpoints over real HTTP with many concurrent
+ * clients, once on Tomcat's platform thread pool and once in the
+ * {@code kolab.threads.virtual} mode, and prints throughput, latency
+ * percentiles, rejected requests and the peak number of platform threads.
+ * Not part of the regular suite; run it with
+ *
+ * <pre>mvn test -Dtest=ThreadModelLoadBenchmark</pre>
+ *
+ * and the same datasource environment as the tests.
+ */
+class ThreadModelLoadBenchmark {
+    private static final int COMPANIES = 1_000;
+    private static final int COLLABORATIONS = 500;
+    private static final int CLIENTS = 1_000;
+    private static final int REQUESTS_PER_CLIENT = 1;
+    private static final String[] PATHS = {"/api/companies", "/api/projects", "/api/collaborations"};
+
+    record Result(String label, double seconds, int ok, int rejected, int failed, long[] latencies, int peakThreads) {
+        Result withLabel(String label) {
+            return new Result(label, seconds, ok, rejected, failed, latencies, peakThreads);
+        }
+
+        double percentile(double p) {
+            return latencies.length == 0 ? 0 : latencies[(int) Math.min(latencies.length - 1, Math.ceil(p * latencies.length) - 1)] / 1e6;
+        }
+    }
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        List<Result> results = new ArrayList<>();
+        boolean seeded = false;
+        for (boolean virtual : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(KolabApplication.class)
+                    .run("--kolab.threads.virtual=" + virtual,
+                        "--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN")) {
+                if (!seeded) {
+                    BenchData.seed(context, COMPANIES, COLLABORATIONS);
+                    seeded = true;
+                }
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                for (String path : PATHS) {
+                    URI uri = URI.create("http://localhost:" + port + path);
+                    run(uri, 50, 4);
+                    results.add(run(uri, CLIENTS, REQUESTS_PER_CLIENT)
+                        .withLabel((virtual ? "virtual  " : "platform ") + path));
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-30s %9s %7s %7s %7s %9s %9s %9s %8s%n",
+            "threads / endpoint", "req/s", "ok", "503", "failed", "p50 ms", "p95 ms", "p99 ms", "threads");
+        for (Result r : results) {
+            System.out.printf(Locale.ROOT, "%-30s %9.1f %7d %7d %7d %9.1f %9.1f %9.1f %8d%n",
+                r.label(), (r.ok() + r.rejected()) / r.seconds(), r.ok(), r.rejected(), r.failed(),
+                r.percentile(0.50), r.percentile(0.95), r.percentile(0.99), r.peakThreads());
+        }
+    }
+
+    private Result run(URI uri, int clients, int requestsPerClient) throws InterruptedException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        long[] latencies = new long[clients * requestsPerClient];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(2)).GET().build();
+
+        long start = System.nanoTime();
+        try (ExecutorService clientIo = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clientIo).build();
+             ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                clientThreads.submit(() -> {
+                    for (int i = 0; i < requestsPerClient; i++) {
+                        long sent = System.nanoTime();
+                        try {
+                            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status == 200) {
+                                ok.incrementAndGet();
+                                latencies[next.getAndIncrement()] = System.nanoTime() - sent;
+                            } else if (status == 503) {
+                                rejected.incrementAndGet();
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long[] measured = Arrays.copyOf(latencies, next.get());
+        Arrays.sort(measured);
+        return new Result(uri.getPath(), seconds, ok.get(), rejected.get(), failed.get(), measured,
+            threads.getPeakThreadCount());
+    }
+}
@@ -0,0 +1,232 @@
+package kolab.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The mixed request stream the load test replays: lists, detail reads,
+ * creates, updates and deletes across the user, company, project,
+ * collaboration, industry, category and auth controllers, picked by weight.
+ * <p>
+ * Reads address the seeded rows. Writes only touch rows the same client
+ * created earlier, and nothing else references those rows. That keeps
+ * clients from conflicting with each other and keeps deletes from hitting
+ * foreign keys.
+ */
+final class Workload {
+    private static final ObjectMapper JSON = JsonMapper.builder().build();
+
+    /** One request plus what to remember from a 2xx response body. */
+    record Call(HttpRequest request, Consumer<JsonNode> onSuccess) {
+    }
+
+    /**
+     * An endpoint and how often it is hit relative to the others. The call
+     * factory returns null when it has nothing to act on (a delete before
+     * anything was created), and the client picks again.
+     */
+    record Operation(String name, int weight, Function<Client, Call> call) {
+    }
+
+    /** Per-client state: its own random stream and the rows it has created. */
+    static final class Client {
+        final String phase;
+        final int index;
+        final Random random;
+        final BenchData data;
+        final URI base;
+        private final Map<String, Deque<String>> created = new HashMap<>();
+        private int sequence;
+
+        Client(String phase, int index, long seed, BenchData data, URI base) {
+            this.phase = phase;
+            this.index = index;
+            this.random = new Random(Objects.hash(seed, phase, index));
+            this.data = data;
+            this.base = base;
+        }
+
+        <T> T any(List<T> values) {
+            return values.get(random.nextInt(values.size()));
+        }
+
+        String unique(String prefix) {
+            return prefix + " " + phase + "-" + index + "-" + (sequence++);
+        }
+
+        Consumer<JsonNode> remember(String type) {
+            return body -> created.computeIfAbsent(type, t -> new ArrayDeque<>()).push(body.get("id").asText());
+        }
+
+        String peek(String type) {
+            Deque<String> ids = created.get(type);
+            return ids == null ? null : ids.peek();
+        }
+
+        String pop(String type) {
+            Deque<String> ids = created.get(type);
+            return ids == null ? null : ids.poll();
+        }
+
+        HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(base.resolve(path));
+        }
+    }
+
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    Workload(List<Operation> operations) {
+        this.operations = List.copyOf(operations);
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    List<Operation> operations() {
+        return operations;
+    }
+
+    Operation pick(Random random) {
+        int target = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            target -= operation.weight();
+            if (target < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights changed while picking");
+    }
+
+    /** Mostly reads, roughly one write in five, the way the frontend uses the API. */
+    static Workload mixed() {
+        List<Operation> ops = new ArrayList<>();
+
+        ops.add(get("GET /api/companies?limit=50", 10, c -> "/api/companies?limit=50"));
+        ops.add(get("GET /api/companies/{id}", 10, c -> "/api/companies/" + c.any(c.data.companyIds())));
+        ops.add(get("GET /api/companies/{id}/contacts", 4, c -> "/api/companies/" + c.any(c.data.companyIds()) + "/contacts"));
+        ops.add(get("GET /api/companies/{id}/collaborations", 3,
+            c -> "/api/companies/" + c.any(c.data.companyIds()) + "/collaborations"));
+        ops.add(new Operation("POST /api/companies", 2, c -> new Call(post(c, "/api/companies", Map.of(
+            "industryId", c.any(c.data.industryIds()),
+            "name", c.unique("Company"),
+            "country", "Croatia",
+            "zip", 10000,
+            "city", "Zagreb",
+            "categorization", "B")), c.remember("company"))));
+        ops.add(patch("PATCH /api/companies/{id}", 2, "company", "/api/companies/",
+            c -> Map.of("city", "Split", "description", c.unique("Updated"))));
+        ops.add(delete("DELETE /api/companies/{id}", 1, "company", "/api/companies/"));
+
+        ops.add(get("GET /api/projects", 5, c -> "/api/projects"));
+        ops.add(get("GET /api/projects/{id}", 5, c -> "/api/projects/" + c.any(c.data.projectIds())));
+        ops.add(get("GET /api/projects/{id}/collaborations", 5,
+            c -> "/api/projects/" + c.any(c.data.projectIds()) + "/collaborations"));
+        ops.add(get("GET /api/projects/{id}/progress", 3, c -> "/api/projects/" + c.any(c.data.projectIds()) + "/progress"));
+        ops.add(new Operation("POST /api/projects", 1, c -> new Call(post(c, "/api/projects", Map.of(
+            "categoryId", c.any(c.data.categoryIds()),
+            "responsibleId", c.any(c.data.userIds()),
+            "name", c.unique("Project"),
+            "type", "EXTERNAL",
+            "startDate", "2025-10-01T09:00:00Z")), c.remember("project"))));
+        ops.add(patch("PATCH /api/projects/{id}", 1, "project", "/api/projects/", c -> Map.of("goal", 75_000)));
+        ops.add(delete("DELETE /api/projects/{id}", 1, "project", "/api/projects/"));
+
+        ops.add(get("GET /api/collaborations?limit=50", 5, c -> "/api/collaborations?limit=50"));
+        ops.add(get("GET /api/collaborations/{id}", 5, c -> "/api/collaborations/" + c.any(c.data.collaborationIds())));
+        ops.add(new Operation("POST /api/collaborations", 3, c -> new Call(post(c, "/api/collaborations", Map.of(
+            "projectId", c.any(c.data.projectIds()),
+            "companyId", c.any(c.data.companyIds()),
+            "responsibleId", c.any(c.data.userIds()),
+            "category", "FINANCIAL",
+            "status", "CONTACTED")), c.remember("collaboration"))));
+        ops.add(patch("PATCH /api/collaborations/{id}", 2, "collaboration", "/api/collaborations/",
+            c -> Map.of("status", "SUCCESSFUL", "achievedValue", 1000 + c.random.nextInt(9000))));
+        ops.add(delete("DELETE /api/collaborations/{id}", 1, "collaboration", "/api/collaborations/"));
+
+        ops.add(get("GET /api/industries", 3, c -> "/api/industries"));
+        ops.add(get("GET /api/industries/{id}", 2, c -> "/api/industries/" + c.any(c.data.industryIds())));
+        ops.add(new Operation("POST /api/industries", 1, c -> new Call(post(c, "/api/industries",
+            Map.of("name", c.unique("Industry"))), c.remember("industry"))));
+        ops.add(put("PUT /api/industries/{id}", 1, "industry", "/api/industries/", c -> Map.of("name", c.unique("Industry"))));
+        ops.add(delete("DELETE /api/industries/{id}", 1, "industry", "/api/industries/"));
+
+        ops.add(get("GET /api/categories", 3, c -> "/api/categories"));
+        ops.add(get("GET /api/categories/{id}", 2, c -> "/api/categories/" + c.any(c.data.categoryIds())));
+        ops.add(new Operation("POST /api/categories", 1, c -> new Call(post(c, "/api/categories",
+            Map.of("name", c.unique("Category"))), c.remember("category"))));
+        ops.add(put("PUT /api/categories/{id}", 1, "category", "/api/categories/", c -> Map.of("name", c.unique("Category"))));
+        ops.add(delete("DELETE /api/categories/{id}", 1, "category", "/api/categories/"));
+
+        ops.add(get("GET /api/users", 3, c -> "/api/users"));
+        ops.add(get("GET /api/users/{id}", 3, c -> "/api/users/" + c.any(c.data.userIds())));
+        ops.add(get("GET /api/users/{id}/projects", 2, c -> "/api/users/" + c.any(c.data.userIds()) + "/projects"));
+        ops.add(new Operation("POST /api/users", 1, c -> new Call(post(c, "/api/users", Map.of(
+            "name", "Load",
+            "surname", "User",
+            "email", c.unique("user").replace(' ', '-') + "@example.com",
+            "authorization", "USER")), c.remember("user"))));
+        ops.add(patch("PATCH /api/users/{id}", 1, "user", "/api/users/", c -> Map.of("nickname", c.unique("nick"))));
+        ops.add(delete("DELETE /api/users/{id}", 1, "user", "/api/users/"));
+
+        ops.add(new Operation("POST /api/login-email", 2, c -> new Call(c.request("/api/login-email")
+            .header("Email", c.any(c.data.userEmails()))
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build(), null)));
+
+        return new Workload(ops);
+    }
+
+    private static Operation get(String name, int weight, Function<Client, String> path) {
+        return new Operation(name, weight, c -> new Call(c.request(path.apply(c)).GET().build(), null));
+    }
+
+    private static Operation patch(String name, int weight, String type, String prefix,
+                                   Function<Client, Map<String, ?>> body) {
+        return new Operation(name, weight, c -> {
+            String id = c.peek(type);
+            return id == null ? null : new Call(c.request(prefix + id)
+                .header("Content-Type", "application/merge-patch+json")
+                .method("PATCH", json(body.apply(c)))
+                .build(), null);
+        });
+    }
+
+    private static Operation put(String name, int weight, String type, String prefix,
+                                 Function<Client, Map<String, ?>> body) {
+        return new Operation(name, weight, c -> {
+            String id = c.peek(type);
+            return id == null ? null : new Call(c.request(prefix + id)
+                .header("Content-Type", "application/json")
+                .PUT(json(body.apply(c)))
+                .build(), null);
+        });
+    }
+
+    private static Operation delete(String name, int weight, String type, String prefix) {
+        return new Operation(name, weight, c -> {
+            String id = c.pop(type);
+            return id == null ? null : new Call(c.request(prefix + id).DELETE().build(), null);
+        });
+    }
+
+    private static HttpRequest post(Client client, String path, Map<String, ?> body) {
+        return client.request(path)
+            .header("Content-Type", "application/json")
+            .POST(json(body))
+            .build();
+    }
+
+    private static HttpRequest.BodyPublisher json(Map<String, ?> body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body));
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package kolab.dao;
+
+import jakarta.persistence.EntityManager;
+import kolab.domain.*;
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import kolab.domain.enums.ProjectType;
+import kolab.domain.enums.UserAuthorization;
+import kolab.dto.ProgressBucketDTO;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CollaborationRepositoryTest {
+
+    @Autowired EntityManager entityManager;
+    @Autowired CollaborationRepository collaborationRepository;
+
+    private String randomString(String prefix) {
+        return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private Project persistProjectWithCollaborations(int count) {
+        Industry industry = new Industry();
+        industry.setName(randomString("Industry"));
+        entityManager.persist(industry);
+
+        Category category = new Category();
+        category.setName(randomString("Category"));
+        entityManager.persist(category);
+
+        User user = new User();
+        user.setName("Test");
+        user.setSurname("User");
+        user.setEmail(randomString("user") + "@example.com");
+        user.setAuthorization(UserAuthorization.USER);
+        entityManager.persist(user);
+
+        Project project = new Project();
+        project.setName(randomString("Project"));
+        project.setType(ProjectType.EXTERNAL);
+        project.setStartDate(ZonedDateTime.now());
+        project.setCategory(category);
+        project.setResponsible(user);
+        entityManager.persist(project);
+
+        for (int i = 0; i < count; i++) {
+            Company company = new Company();
+            company.setName(randomString("Company"));
+            company.setIndustry(industry);
+            company.setCity("City");
+            company.setCountry("Country");
+            company.setZip(10000L);
+            entityManager.persist(company);
+
+            Contact contact = new Contact();
+            contact.setCompany(company);
+            contact.setFirstName("First");
+            contact.setLastName("Last");
+            contact.setPosition("Position");
+            contact.setEmail(randomString("contact") + "@example.com");
+            entityManager.persist(contact);
+
+            Collaboration collaboration = new Collaboration();
+            collaboration.setProject(project);
+            collaboration.setCompany(company);
+            collaboration.setContact(contact);
+            collaboration.setResponsible(user);
+            collaboration.setCategory(CollaborationCategory.FINANCIAL);
+            collaboration.setStatus(CollaborationStatus.CONTACTED);
+            entityManager.persist(collaboration);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return project;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    void testFindByProjectIdLoadsWholeGraphInOneStatement() {
+        Project project = persistProjectWithCollaborations(10);
+        Statistics statistics = statistics();
+
+        List<Collaboration> collaborations = collaborationRepository.findByProjectId(project.getId());
+
+        assertEquals(10, collaborations.size());
+        for (Collaboration collaboration : collaborations) {
+            assertTrue(Hibernate.isInitialized(collaboration.getProject().getCategory()));
+            assertTrue(Hibernate.isInitialized(collaboration.getProject().getResponsible()));
+            assertTrue(Hibernate.isInitialized(collaboration.getCompany().getIndustry()));
+            assertTrue(Hibernate.isInitialized(collaboration.getContact().getCompany()));
+            assertTrue(Hibernate.isInitialized(collaboration.getResponsible()));
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testStreamAllByReadsEveryRowWithItsGraph() {
+        persistProjectWithCollaborations(3);
+
+        try (Stream<Collaboration> rows = collaborationRepository.streamAllBy()) {
+            List<Collaboration> collaborations = rows.toList();
+
+            assertEquals(3, collaborations.size());
+            assertTrue(collaborations.stream().allMatch(c -> Hibernate.isInitialized(c.getCompany())));
+        }
+    }
+
+    @Test
+    void testSummarizeByProjectIdGroupsByStatusAndCategory() {
+        Project project = persistProjectWithCollaborations(3);
+        Collaboration successful = collaborationRepository.findByProjectId(project.getId()).get(0);
+        successful.setStatus(CollaborationStatus.SUCCESSFUL);
+        successful.setAchievedValue(150.0);
+        entityManager.flush();
+
+        List<ProgressBucketDTO> buckets = collaborationRepository.summarizeByProjectId(project.getId());
+
+        assertEquals(2, buckets.size());
+        ProgressBucketDTO success = buckets.stream()
+            .filter(b -> b.getStatus() == CollaborationStatus.SUCCESSFUL).findFirst().orElseThrow();
+        assertEquals(1, success.getCount());
+        assertEquals(150.0, success.getAchievedValue());
+    }
+
+    @Test
+    void testFindCompanyIdsByProjectIdReturnsOnlyAssignedCompanies() {
+        Project project = persistProjectWithCollaborations(2);
+        UUID assigned = collaborationRepository.findByProjectId(project.getId()).get(0).getCompany().getId();
+        UUID other = UUID.randomUUID();
+
+        Set<UUID> companyIds = collaborationRepository.findCompanyIdsByProjectId(project.getId(), List.of(assigned, other));
+
+        assertEquals(Set.of(assigned), companyIds);
+    }
+}
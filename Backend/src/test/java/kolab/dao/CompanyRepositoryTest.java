@@ -4,10 +4,17 @@ import kolab.domain.Company;
 import kolab.domain.Industry;
 import kolab.domain.enums.CompanyCategorization;
 import kolab.domain.enums.Month;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -15,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.*;
 @DataJpaTest
 class CompanyRepositoryTest {
 
+    @Autowired EntityManager entityManager;
     @Autowired CompanyRepository companyRepository;
     @Autowired IndustryRepository industryRepository;
 
@@ -48,4 +56,58 @@ class CompanyRepositoryTest {
         assertEquals(companyName, found.getName());
         assertEquals(industryName, found.getIndustry().getName());
     }
+
+    @Test
+    void testKeysetPagingWalksAllRowsInIdOrder() {
+        Industry industry = new Industry();
+        industry.setName(randomString("Industry"));
+        industry = industryRepository.save(industry);
+
+        for (int i = 0; i < 5; i++) {
+            Company company = new Company();
+            company.setName(randomString("Company"));
+            company.setIndustry(industry);
+            company.setCity("City");
+            company.setCountry("Country");
+            company.setZip(10000L);
+            companyRepository.save(company);
+        }
+
+        List<Company> firstPage = companyRepository.findAllByOrderByIdAsc(PageRequest.of(0, 2));
+        UUID lastId = firstPage.get(firstPage.size() - 1).getId();
+        List<Company> secondPage = companyRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, 10));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(3, secondPage.size());
+        assertTrue(secondPage.stream().noneMatch(firstPage::contains));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testFindByIdIsServedFromSecondLevelCache() {
+        Industry industry = new Industry();
+        industry.setName(randomString("Industry"));
+        industry = industryRepository.save(industry);
+
+        Company company = new Company();
+        company.setName(randomString("Company"));
+        company.setIndustry(industry);
+        company.setCity("City");
+        company.setCountry("Country");
+        company.setZip(10000L);
+        UUID id = companyRepository.save(company).getId();
+        companyRepository.findById(id);
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Company cached = companyRepository.findById(id).orElseThrow();
+
+        assertEquals(company.getName(), cached.getName());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("kolab.company").getHitCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        companyRepository.deleteById(id);
+        industryRepository.delete(industry);
+    }
 }
@@ -0,0 +1,78 @@
+package kolab.dao;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A database deployed before migrations existed matches V1 exactly and is
+ * baselined there; the later migrations must bring it and its data up to
+ * the schema Hibernate validates.
+ */
+class MigrationUpgradeTest {
+    private final UUID industry = UUID.randomUUID();
+    private final UUID category = UUID.randomUUID();
+    private final UUID user = UUID.randomUUID();
+    private final UUID company = UUID.randomUUID();
+    private final UUID project = UUID.randomUUID();
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:upgrade-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        Flyway.configure().dataSource(dataSource).target(MigrationVersion.fromVersion("1")).load().migrate();
+        execute("insert into industry (id, name) values ('" + industry + "', 'IT')",
+            "insert into category (id, name) values ('" + category + "', 'Fair')",
+            "insert into app_user (id, name, surname, email, auth) values ('" + user + "', 'Ana', 'Anić', 'ana@example.com', 'USER')",
+            "insert into company (id, industry_id, name, country, zip, city) values ('" + company + "', '" + industry + "', 'Acme', 'Croatia', 10000, 'Zagreb')",
+            "insert into project (id, category_id, name, type, start_date, responsible_id) values ('" + project + "', '" + category + "', 'Fair 2024', 'EXTERNAL', current_timestamp, '" + user + "')",
+            "insert into collaboration (id, project_id, company_id, category, status, achieved_value) values ('" + UUID.randomUUID() + "', '" + project + "', '" + company + "', 'FINANCIAL', 'SUCCESSFUL', 1500)",
+            "insert into collaboration (id, project_id, company_id, category, status, achieved_value) values ('" + UUID.randomUUID() + "', '" + project + "', '" + company + "', 'FINANCIAL', 'SUCCESSFUL', 500)",
+            "insert into collaboration (id, project_id, company_id, category, status) values ('" + UUID.randomUUID() + "', '" + project + "', '" + company + "', 'MATERIAL', 'PING')");
+    }
+
+    private void execute(String... statements) throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private long count(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    @Test
+    void testBaselineDatabaseIsMigratedWithItsData() throws Exception {
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        assertEquals(3, count("select count(*) from collaboration where version = 0"));
+        assertEquals(1, count("select count(*) from company where version = 0"));
+        assertEquals(1, count("select count(*) from project where version = 0"));
+        assertEquals(1, count("select count(*) from app_user where version = 0"));
+        assertEquals(2, count("select collaboration_count from project_rollup where project_id = '" + project
+            + "' and status = 'SUCCESSFUL' and category = 'FINANCIAL'"));
+        assertEquals(2000, count("select achieved_value from project_rollup where project_id = '" + project
+            + "' and status = 'SUCCESSFUL' and category = 'FINANCIAL'"));
+        assertEquals(1, count("select collaboration_count from project_rollup where project_id = '" + project
+            + "' and status = 'PING' and category = 'MATERIAL'"));
+        assertEquals(3, count("select collaboration_count from collaboration_snapshot"));
+        assertEquals(3, count("select count(*) from collaboration_snapshot_row where project_id = '" + project + "'"));
+    }
+}
@@ -0,0 +1,158 @@
+package kolab.dao;
+
+import jakarta.persistence.EntityManager;
+import kolab.domain.*;
+import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationStatus;
+import kolab.domain.enums.ProjectType;
+import kolab.domain.enums.UserAuthorization;
+import kolab.dto.ProgressBucketDTO;
+import kolab.service.ProjectRollupService;
+import kolab.service.ProjectRollupService.Contribution;
+import kolab.service.impl.ProjectRollupServiceJpa;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ProjectRollupServiceJpa.class)
+class ProjectRollupRepositoryTest {
+
+    @Autowired EntityManager entityManager;
+    @Autowired ProjectRollupRepository rollupRepository;
+    @Autowired ProjectRollupService rollupService;
+
+    private String randomString(String prefix) {
+        return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private Project persistProject() {
+        Category category = new Category();
+        category.setName(randomString("Category"));
+        entityManager.persist(category);
+
+        User user = new User();
+        user.setName("Test");
+        user.setSurname("User");
+        user.setEmail(randomString("user") + "@example.com");
+        user.setAuthorization(UserAuthorization.USER);
+        entityManager.persist(user);
+
+        Project project = new Project();
+        project.setName(randomString("Project"));
+        project.setType(ProjectType.EXTERNAL);
+        project.setStartDate(ZonedDateTime.now());
+        project.setCategory(category);
+        project.setResponsible(user);
+        entityManager.persist(project);
+        return project;
+    }
+
+    private Collaboration persistCollaboration(Project project, CollaborationStatus status, Double value) {
+        Industry industry = new Industry();
+        industry.setName(randomString("Industry"));
+        entityManager.persist(industry);
+
+        Company company = new Company();
+        company.setName(randomString("Company"));
+        company.setIndustry(industry);
+        company.setCity("City");
+        company.setCountry("Country");
+        company.setZip(10000L);
+        entityManager.persist(company);
+
+        Collaboration collaboration = new Collaboration();
+        collaboration.setProject(project);
+        collaboration.setCompany(company);
+        collaboration.setCategory(CollaborationCategory.FINANCIAL);
+        collaboration.setStatus(status);
+        collaboration.setAchievedValue(value);
+        entityManager.persist(collaboration);
+        return collaboration;
+    }
+
+    private List<ProgressBucketDTO> sortedBuckets(UUID projectId) {
+        List<ProgressBucketDTO> buckets = rollupRepository.findBucketsByProjectId(projectId);
+        buckets.sort(Comparator.comparing(ProgressBucketDTO::getStatus));
+        return buckets;
+    }
+
+    @Test
+    void testIncrementalUpdatesMatchFullRebuild() {
+        Project project = persistProject();
+        Collaboration first = persistCollaboration(project, CollaborationStatus.CONTACTED, null);
+        Collaboration second = persistCollaboration(project, CollaborationStatus.CONTACTED, null);
+        rollupService.add(Contribution.of(first), 1);
+        rollupService.add(Contribution.of(second), 1);
+
+        Contribution before = Contribution.of(second);
+        second.setStatus(CollaborationStatus.SUCCESSFUL);
+        second.setAchievedValue(300.0);
+        rollupService.replace(before, Contribution.of(second));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ProgressBucketDTO> incremental = sortedBuckets(project.getId());
+        assertEquals(2, incremental.size());
+        assertEquals(CollaborationStatus.CONTACTED, incremental.get(0).getStatus());
+        assertEquals(1, incremental.get(0).getCount());
+        assertEquals(300.0, incremental.get(1).getAchievedValue());
+
+        assertEquals(2, rollupService.rebuild());
+        entityManager.clear();
+        List<ProgressBucketDTO> rebuilt = sortedBuckets(project.getId());
+        assertEquals(incremental.size(), rebuilt.size());
+        for (int i = 0; i < rebuilt.size(); i++) {
+            assertEquals(incremental.get(i).getCount(), rebuilt.get(i).getCount());
+            assertEquals(incremental.get(i).getAchievedValue(), rebuilt.get(i).getAchievedValue());
+        }
+    }
+
+    @Test
+    void testRebuildSingleProjectReplacesItsRows() {
+        Project project = persistProject();
+        persistCollaboration(project, CollaborationStatus.MEETING, 50.0);
+        persistCollaboration(project, CollaborationStatus.MEETING, 25.0);
+        entityManager.flush();
+
+        assertEquals(1, rollupService.rebuild(project.getId()));
+        entityManager.flush();
+
+        List<ProgressBucketDTO> buckets = sortedBuckets(project.getId());
+        assertEquals(1, buckets.size());
+        assertEquals(2, buckets.get(0).getCount());
+        assertEquals(75.0, buckets.get(0).getAchievedValue());
+    }
+
+    @Test
+    void testRemovingFromAMissingBucketCreatesNoRow() {
+        Project project = persistProject();
+        rollupService.remove(new Contribution(project.getId(), CollaborationStatus.PING, CollaborationCategory.MATERIAL, 10.0));
+        entityManager.flush();
+
+        assertEquals(0, rollupRepository.count(), "no negative bucket");
+    }
+
+    @Test
+    void testAddsToTheSameNewBucketAccumulate() {
+        Project project = persistProject();
+        Contribution contribution = new Contribution(project.getId(), CollaborationStatus.PING,
+            CollaborationCategory.MATERIAL, 10.0);
+        rollupService.add(contribution, 1);
+        rollupService.add(contribution, 2);
+        entityManager.clear();
+
+        List<ProgressBucketDTO> buckets = sortedBuckets(project.getId());
+        assertEquals(1, buckets.size());
+        assertEquals(3, buckets.get(0).getCount());
+        assertEquals(30.0, buckets.get(0).getAchievedValue());
+    }
+}
@@ -0,0 +1,81 @@
+package kolab.dao;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the schema built by the Flyway migrations (Hibernate only
+ * validates it) and checks that every repository lookup has an index whose
+ * leading columns match the lookup.
+ */
+@DataJpaTest
+class SchemaIndexTest {
+
+    @Autowired DataSource dataSource;
+
+    private Map<String, List<String>> indexes(String table) throws Exception {
+        Map<String, List<String>> columnsByIndex = new HashMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet rows = metaData.getIndexInfo(connection.getCatalog(), null,
+                    table.toUpperCase(Locale.ROOT), false, false)) {
+                while (rows.next()) {
+                    String column = rows.getString("COLUMN_NAME");
+                    if (column == null) {
+                        continue;
+                    }
+                    List<String> columns = columnsByIndex.computeIfAbsent(rows.getString("INDEX_NAME"), k -> new ArrayList<>());
+                    int position = rows.getShort("ORDINAL_POSITION");
+                    while (columns.size() < position) {
+                        columns.add(null);
+                    }
+                    columns.set(position - 1, column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return columnsByIndex;
+    }
+
+    private void assertIndexed(String table, String... leadingColumns) throws Exception {
+        List<String> expected = List.of(leadingColumns);
+        boolean found = indexes(table).values().stream()
+            .anyMatch(columns -> columns.size() >= expected.size()
+                && columns.subList(0, expected.size()).equals(expected));
+        assertTrue(found, table + " has no index starting with " + expected);
+    }
+
+    @Test
+    void testEveryRepositoryLookupIsIndexBacked() throws Exception {
+        assertIndexed("collaboration", "project_id", "status");
+        assertIndexed("collaboration", "project_id", "company_id");
+        assertIndexed("collaboration", "company_id");
+        assertIndexed("collaboration", "contact_id");
+        assertIndexed("collaboration", "responsible_id");
+        assertIndexed("company", "industry_id");
+        assertIndexed("company", "name");
+        assertIndexed("project", "category_id");
+        assertIndexed("project", "responsible_id");
+        assertIndexed("project", "name");
+        assertIndexed("company_contact", "company_id");
+        assertIndexed("company_contact", "email");
+        assertIndexed("app_user", "email");
+        assertIndexed("category", "name");
+        assertIndexed("industry", "name");
+        assertIndexed("project_rollup", "project_id");
+        assertIndexed("collaboration_event", "collaboration_id", "occurred_at");
+        assertIndexed("collaboration_event", "project_id", "occurred_at");
+        assertIndexed("collaboration_event", "company_id", "occurred_at");
+        assertIndexed("collaboration_snapshot", "as_of");
+        assertIndexed("collaboration_snapshot_row", "snapshot_id", "project_id");
+        assertIndexed("collaboration_snapshot_row", "snapshot_id", "company_id");
+    }
+}
@@ -0,0 +1,46 @@
+package kolab.event;
+
+import kolab.domain.Company;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectionVersionsTest {
+    private final CollectionVersions versions = new CollectionVersions();
+
+    private void update(UUID id) {
+        versions.onEntityChanged(EntityChangedEvent.updated(Company.class, id, null));
+    }
+
+    @Test
+    void testRowCountersAreBoundedWithoutReissuingOldTags() {
+        UUID changed = UUID.randomUUID();
+        UUID untouched = UUID.randomUUID();
+        String untouchedBefore = versions.rowTag(Company.class, untouched);
+        String initial = versions.rowTag(Company.class, changed);
+        update(changed);
+        String afterChange = versions.rowTag(Company.class, changed);
+
+        for (int i = 0; i < CollectionVersions.MAX_ROW_VERSIONS; i++) {
+            update(UUID.randomUUID());
+        }
+
+        assertEquals(CollectionVersions.MAX_ROW_VERSIONS, versions.trackedRows(Company.class));
+        // Unchanged since its last tag, so still a match, but never the pre-change tag
+        assertEquals(afterChange, versions.rowTag(Company.class, changed));
+        assertNotEquals(initial, versions.rowTag(Company.class, changed));
+        assertNotEquals(untouchedBefore, versions.rowTag(Company.class, untouched));
+    }
+
+    @Test
+    void testDeleteChangesTheRowTag() {
+        UUID id = UUID.randomUUID();
+        String before = versions.rowTag(Company.class, id);
+
+        versions.onEntityChanged(EntityChangedEvent.deleted(Company.class, id));
+
+        assertNotEquals(before, versions.rowTag(Company.class, id));
+    }
+}
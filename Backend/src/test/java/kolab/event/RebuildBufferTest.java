@@ -0,0 +1,69 @@
+package kolab.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RebuildBufferTest {
+    private final RebuildBuffer buffer = new RebuildBuffer();
+    private Map<UUID, Object> live = new HashMap<>();
+
+    private static void apply(Map<UUID, Object> target, EntityChangedEvent event) {
+        if (event.kind() == EntityChangedEvent.Kind.DELETED) {
+            target.remove(event.id());
+        } else {
+            target.put(event.id(), event.entity());
+        }
+    }
+
+    private void change(EntityChangedEvent event) {
+        buffer.apply(event, e -> apply(live, e));
+    }
+
+    @Test
+    void testChangesDuringRebuildAreReplayedOntoTheRebuiltStructure() {
+        UUID kept = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+
+        Map<UUID, Object> rebuilt = buffer.rebuild(() -> {
+            // The rebuild's read has already happened when these arrive
+            Map<UUID, Object> read = new HashMap<>(Map.of(kept, "old", deleted, "gone"));
+            change(EntityChangedEvent.updated(String.class, kept, "new"));
+            change(EntityChangedEvent.created(String.class, added, "added"));
+            change(EntityChangedEvent.deleted(String.class, deleted));
+            return read;
+        }, swapped -> live = swapped, RebuildBufferTest::apply);
+
+        assertSame(rebuilt, live);
+        assertEquals(Map.of(kept, "new", added, "added"), live);
+    }
+
+    @Test
+    void testChangesAfterRebuildAreNoLongerBuffered() {
+        buffer.rebuild(HashMap::new, swapped -> live = swapped, RebuildBufferTest::apply);
+        UUID id = UUID.randomUUID();
+        change(EntityChangedEvent.created(String.class, id, "later"));
+
+        Map<UUID, Object> next = buffer.rebuild(HashMap::new, swapped -> live = swapped, RebuildBufferTest::apply);
+
+        assertTrue(next.isEmpty());
+    }
+
+    @Test
+    void testFailedRebuildKeepsTheLiveStructure() {
+        Map<UUID, Object> before = live;
+
+        assertThrows(IllegalStateException.class, () -> buffer.rebuild(() -> {
+            throw new IllegalStateException("database down");
+        }, swapped -> live = swapped, RebuildBufferTest::apply));
+        change(EntityChangedEvent.created(String.class, UUID.randomUUID(), "after"));
+
+        assertSame(before, live);
+        assertEquals(1, live.size());
+    }
+}
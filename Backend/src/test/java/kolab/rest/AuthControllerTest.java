@@ -3,6 +3,7 @@ package kolab.rest;
 import kolab.domain.User;
 import kolab.service.UserService;
 import kolab.service.JwtService;
+import kolab.service.SessionTokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -19,6 +20,7 @@ class AuthControllerTest {
 
     @Mock private UserService userService;
     @Mock private JwtService jwtService;
+    @Mock private SessionTokenService sessionTokenService;
 
     @BeforeEach
     void setUp() {
@@ -44,11 +46,13 @@ class AuthControllerTest {
 
         when(jwtService.extractEmail(token)).thenReturn(email);
         when(userService.findByEmail(email)).thenReturn(mockUser);
+        when(sessionTokenService.issue(mockUser)).thenReturn("session.token");
 
         ResponseEntity<?> response = authController.loginUser(bearerToken);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertSame(mockUser, response.getBody());
+        assertEquals("session.token", response.getHeaders().getFirst(SessionTokenService.HEADER));
         verify(jwtService).extractEmail(token);
         verify(userService).findByEmail(email);
     }
@@ -61,7 +61,7 @@ class CollaborationControllerTest {
 
         when(collaborationService.getCollaborations()).thenReturn(collaborations);
 
-        ResponseEntity<List<Collaboration>> response = collaborationController.getCollaborations();
+        ResponseEntity<?> response = collaborationController.getCollaborations(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(collaborations, response.getBody());
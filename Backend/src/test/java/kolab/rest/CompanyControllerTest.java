@@ -1,21 +1,28 @@
 package kolab.rest;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kolab.dto.CompanyDTO;
+import kolab.dto.CursorPage;
 import kolab.dto.ContactDTO;
 import kolab.domain.*;
 import kolab.domain.enums.CompanyCategorization;
 import kolab.domain.enums.Month;
+import kolab.exception.ConflictException;
 import kolab.exception.NotFoundException;
 import kolab.service.CollaborationService;
 import kolab.service.CompanyService;
 import kolab.service.ContactService;
+import kolab.service.ImportService;
 import kolab.service.IndustryService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
 
 import java.util.*;
 
@@ -30,6 +37,7 @@ class CompanyControllerTest {
     @Mock private IndustryService industryService;
     @Mock private ContactService contactService;
     @Mock private CollaborationService collaborationService;
+    @Mock private ImportService importService;
 
     @InjectMocks private CompanyController companyController;
 
@@ -60,13 +68,33 @@ class CompanyControllerTest {
         List<Company> companies = Arrays.asList(new Company(), new Company());
         when(companyService.getCompanies()).thenReturn(companies);
 
-        ResponseEntity<List<Company>> response = companyController.getCompanies();
+        ResponseEntity<?> response = companyController.getCompanies(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(companies, response.getBody());
         verify(companyService).getCompanies();
     }
 
+    @Test
+    void testGetCompaniesWithLimitReturnsCursorPage() {
+        CursorPage<Company> page = new CursorPage<>(List.of(new Company()), "cursor");
+        when(companyService.getCompanies(null, 1)).thenReturn(page);
+
+        ResponseEntity<?> response = companyController.getCompanies(null, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(page, response.getBody());
+        verify(companyService, never()).getCompanies();
+    }
+
+    @Test
+    void testGetCompaniesWithInvalidLimitReturnsBadRequest() {
+        ResponseEntity<?> response = companyController.getCompanies(null, 0);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(companyService);
+    }
+
     @Test
     void testCreateCompanyWithValidData() {
         UUID industryId = UUID.randomUUID();
@@ -144,4 +172,27 @@ class CompanyControllerTest {
         assertEquals("Invalid company ID: " + invalidCompanyId, response.getBody());
         verify(contactService, never()).createCompanyContact(any(Contact.class));
     }
+
+    @Test
+    void testImportCompaniesWithBadHeaderReturnsBadRequest() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "companies.csv", "text/csv", "name\n".getBytes());
+        when(importService.importCompanies(any())).thenThrow(new IllegalArgumentException("Missing required columns: industry"));
+
+        ResponseEntity<?> response = companyController.importCompanies(file);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Missing required columns: industry", response.getBody());
+    }
+
+    @Test
+    void testPatchCompanyMapsVersionConflictsTo409() throws Exception {
+        UUID id = UUID.randomUUID();
+        JsonNode patch = new ObjectMapper().readTree("{\"city\": \"Split\", \"version\": 1}");
+        when(companyService.patchCompany(id, patch))
+            .thenThrow(new ConflictException("Stale version"))
+            .thenThrow(new OptimisticLockingFailureException("Row was updated by another transaction"));
+
+        assertEquals(HttpStatus.CONFLICT, companyController.patchCompany(id, patch).getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, companyController.patchCompany(id, patch).getStatusCode());
+    }
 }
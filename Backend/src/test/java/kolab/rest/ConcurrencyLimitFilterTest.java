@@ -0,0 +1,85 @@
+package kolab.rest;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private MockHttpServletRequest apiRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/companies");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    @Test
+    void testRequestBeyondLimitGetsServiceUnavailableAfterQueueTimeout() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(apiRequest(), new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+                        entered.countDown();
+                        try {
+                            finish.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), rejected, new MockFilterChain());
+
+        assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, rejected.getStatus());
+        assertEquals("1", rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, filter.getInFlight());
+
+        finish.countDown();
+        holder.join();
+        assertEquals(0, filter.getInFlight());
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), accepted, new MockFilterChain());
+        assertEquals(HttpServletResponse.SC_OK, accepted.getStatus());
+    }
+
+    @Test
+    void testAsyncRequestKeepsPermitUntilCompletion() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(2, Duration.ofMillis(50));
+        MockHttpServletRequest request = apiRequest();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertEquals(1, filter.getInFlight());
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertEquals(0, filter.getInFlight());
+    }
+
+    @Test
+    void testNonApiRequestsAreNotLimited() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api-docs");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> assertEquals(0, filter.getInFlight()));
+    }
+}
@@ -0,0 +1,91 @@
+package kolab.rest;
+
+import kolab.bench.SampleEntities;
+import kolab.domain.*;
+import kolab.domain.enums.*;
+import kolab.dto.CollaborationDTO;
+import kolab.dto.CompanyDTO;
+import kolab.dto.ProjectDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The DTO-to-entity mapping the create and update endpoints run before
+ * calling into the services. Run with {@code mvn -Pjmh test-compile exec:exec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+    private CompanyDTO companyDTO;
+    private ProjectDTO projectDTO;
+    private CollaborationDTO collaborationDTO;
+    private Industry industry;
+    private Category category;
+    private User user;
+    private Project project;
+    private Company company;
+    private Contact contact;
+
+    @Setup
+    public void setUp() {
+        industry = SampleEntities.industry(1);
+        category = SampleEntities.category(1);
+        user = SampleEntities.user(1);
+        company = SampleEntities.company(1, industry);
+        contact = SampleEntities.contact(1, company);
+        project = SampleEntities.project(1, category, user);
+
+        companyDTO = new CompanyDTO();
+        companyDTO.setIndustryId(industry.getId());
+        companyDTO.setName("Company d.o.o.");
+        companyDTO.setCategorization(CompanyCategorization.A);
+        companyDTO.setBudgetPlanningMonth(Month.OCTOBER);
+        companyDTO.setCountry("Croatia");
+        companyDTO.setZip(10000L);
+        companyDTO.setCity("Zagreb");
+        companyDTO.setAddress("Ilica 1");
+        companyDTO.setWebLink("https://company.example.com");
+        companyDTO.setDescription("Regional partner");
+        companyDTO.setContactInFuture(true);
+
+        projectDTO = new ProjectDTO();
+        projectDTO.setCategoryId(category.getId());
+        projectDTO.setResponsibleId(user.getId());
+        projectDTO.setName("Project");
+        projectDTO.setType(ProjectType.EXTERNAL);
+        projectDTO.setStartDate(ZonedDateTime.now());
+        projectDTO.setEndDate(ZonedDateTime.now().plusMonths(3));
+        projectDTO.setGoal(50_000L);
+
+        collaborationDTO = new CollaborationDTO();
+        collaborationDTO.setProjectId(project.getId());
+        collaborationDTO.setCompanyId(company.getId());
+        collaborationDTO.setContactId(contact.getId());
+        collaborationDTO.setResponsibleId(user.getId());
+        collaborationDTO.setCategory(CollaborationCategory.FINANCIAL);
+        collaborationDTO.setStatus(CollaborationStatus.CONTACTED);
+        collaborationDTO.setComment("Followed up after the introductory meeting");
+        collaborationDTO.setAchievedValue(1500.0);
+    }
+
+    @Benchmark
+    public Company company() {
+        return CompanyController.toCompany(companyDTO, industry);
+    }
+
+    @Benchmark
+    public Project project() {
+        return ProjectController.toProject(projectDTO, category, user);
+    }
+
+    @Benchmark
+    public Collaboration collaboration() {
+        return CollaborationController.toCollaboration(collaborationDTO, project, company, contact, user);
+    }
+}
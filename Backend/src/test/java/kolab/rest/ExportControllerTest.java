@@ -0,0 +1,124 @@
+package kolab.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kolab.domain.Company;
+import kolab.domain.Industry;
+import kolab.service.ExportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportControllerTest {
+
+    @Mock private ExportService exportService;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks private ExportController exportController;
+
+    private Company createCompany(String name) {
+        Industry industry = new Industry();
+        industry.setName("IT");
+        Company company = new Company();
+        company.setId(UUID.randomUUID());
+        company.setName(name);
+        company.setIndustry(industry);
+        company.setCountry("Croatia");
+        company.setCity("Zagreb");
+        company.setZip(10000L);
+        return company;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String render(ResponseEntity<?> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingResponseBody) response.getBody()).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void exportCompanies(Company... companies) {
+        doAnswer(invocation -> {
+            Consumer<Company> sink = invocation.getArgument(0);
+            for (Company company : companies) {
+                sink.accept(company);
+            }
+            return null;
+        }).when(exportService).exportCompanies(any());
+    }
+
+    @Test
+    void testExportCompaniesAsNdjsonWritesOneObjectPerLine() throws Exception {
+        exportCompanies(createCompany("First"), createCompany("Second"));
+
+        ResponseEntity<?> response = exportController.exportCompanies("ndjson");
+        String[] lines = render(response).split("\n");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ExportController.NDJSON, response.getHeaders().getContentType());
+        assertEquals(2, lines.length);
+        assertEquals("First", objectMapper.readTree(lines[0]).get("name").asText());
+        assertEquals("Second", objectMapper.readTree(lines[1]).get("name").asText());
+    }
+
+    @Test
+    void testNdjsonLinesAreExactAndFlushedInBatches() throws Exception {
+        Company first = createCompany("First");
+        Company second = createCompany("Second");
+        Company third = createCompany("Third");
+        exportCompanies(first, second, third);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int[] flushes = {0};
+        OutputStream out = new FilterOutputStream(bytes) {
+            @Override
+            public void flush() throws IOException {
+                flushes[0]++;
+                super.flush();
+            }
+        };
+        ((StreamingResponseBody) exportController.exportCompanies("ndjson").getBody()).writeTo(out);
+
+        assertEquals(objectMapper.writeValueAsString(first) + "\n"
+                + objectMapper.writeValueAsString(second) + "\n"
+                + objectMapper.writeValueAsString(third) + "\n",
+            bytes.toString(StandardCharsets.UTF_8));
+        // The first row is flushed on its own, the rest goes out with the close
+        assertEquals(2, flushes[0]);
+    }
+
+    @Test
+    void testExportCompaniesAsCsvQuotesSpecialCharacters() throws Exception {
+        exportCompanies(createCompany("Acme, \"Best\" d.o.o."));
+
+        String[] lines = render(exportController.exportCompanies("csv")).split("\n");
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,name,industry"));
+        assertTrue(lines[1].contains(",\"Acme, \"\"Best\"\" d.o.o.\",IT,"));
+    }
+
+    @Test
+    void testExportWithUnknownFormatReturnsBadRequest() {
+        ResponseEntity<?> response = exportController.exportCollaborations("xml");
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(exportService);
+    }
+}
@@ -72,7 +72,7 @@ class ProjectControllerTest {
         List<Project> mockProjects = Arrays.asList(new Project(), new Project());
         when(projectService.getProjects()).thenReturn(mockProjects);
 
-        ResponseEntity<List<Project>> response = projectController.getProjects();
+        ResponseEntity<?> response = projectController.getProjects(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(mockProjects, response.getBody());
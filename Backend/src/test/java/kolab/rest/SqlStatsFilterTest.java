@@ -0,0 +1,110 @@
+package kolab.rest;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kolab.util.SqlStats;
+import kolab.util.SqlStatsDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatsFilterTest {
+
+    private SqlStatsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql-stats;DB_CLOSE_DELAY=-1");
+        dataSource = new SqlStatsDataSource(h2);
+    }
+
+    private HttpServlet querying(int queries) {
+        return new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                try (Connection connection = dataSource.getConnection()) {
+                    for (int i = 0; i < queries; i++) {
+                        try (Statement statement = connection.createStatement();
+                             ResultSet rows = statement.executeQuery("select x from system_range(1, 3)")) {
+                            while (rows.next()) {
+                                rows.getLong(1);
+                            }
+                        }
+                    }
+                } catch (SQLException e) {
+                    throw new IOException(e);
+                }
+                resp.getWriter().write("[]");
+            }
+        };
+    }
+
+    private MockHttpServletRequest request(String uri, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    @Test
+    void testResponseCarriesTheRequestsSqlCounts() throws Exception {
+        SqlStatsFilter filter = new SqlStatsFilter(true, 50);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/projects", "/api/projects"), response, new MockFilterChain(querying(2)));
+
+        assertEquals("2", response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+        assertEquals("6", response.getHeader(SqlStatsFilter.ROWS_HEADER));
+        assertNotNull(response.getHeader(SqlStatsFilter.TIME_HEADER));
+        assertNull(SqlStats.current());
+    }
+
+    @Test
+    void testHeadersOffStillAggregatesPerEndpoint() throws Exception {
+        SqlStatsFilter filter = new SqlStatsFilter(false, 50);
+        for (String id : new String[]{"1", "2"}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request("/api/projects/" + id, "/api/projects/{projectId}"), response,
+                new MockFilterChain(querying(Integer.parseInt(id))));
+            assertNull(response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+        }
+
+        SqlStatsFilter.Endpoint endpoint = filter.getEndpoints().get("GET /api/projects/{projectId}");
+        assertEquals(2, endpoint.getRequests());
+        assertEquals(3, endpoint.getStatements());
+        assertEquals(2, endpoint.getMaxStatements());
+        assertEquals(9, endpoint.getRows());
+    }
+
+    @Test
+    void testWorkOutsideARequestIsNotCounted() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertFalse(statement instanceof java.lang.reflect.Proxy);
+        }
+    }
+
+    @Test
+    void testNonApiRequestsAreSkipped() throws Exception {
+        SqlStatsFilter filter = new SqlStatsFilter(true, 50);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api-docs"), response, new MockFilterChain(querying(1)));
+
+        assertNull(response.getHeader(SqlStatsFilter.STATEMENTS_HEADER));
+        assertTrue(filter.getEndpoints().isEmpty());
+    }
+}
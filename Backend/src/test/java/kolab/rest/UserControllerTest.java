@@ -129,7 +129,7 @@ class UserControllerTest {
 
         when(userService.getUsers()).thenReturn(userList);
 
-        ResponseEntity<List<User>> response = userController.getUsers();
+        ResponseEntity<?> response = userController.getUsers(null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(userList, response.getBody());
@@ -0,0 +1,95 @@
+package kolab.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    private SearchDocument company(String name, String city) {
+        return new SearchDocument("company", UUID.randomUUID(), name, city)
+            .field(name, 3)
+            .field(city, 1);
+    }
+
+    private List<String> titles(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(hit -> hit.document().getTitle()).toList();
+    }
+
+    @Test
+    void testFoldsCroatianDiacritics() {
+        assertEquals(List.of("durdevic", "cakovec", "zivko"), Tokenizer.tokenize("Đurđević, Čakovec - Živko"));
+    }
+
+    @Test
+    void testMatchesIgnoringDiacriticsAndCase() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(company("Šećerana Županja", "Županja"));
+        index.put(company("Podravka", "Koprivnica"));
+
+        assertEquals(List.of("Šećerana Županja"), titles(index.search(Tokenizer.tokenize("secerana ZUPANJA"), 10)));
+    }
+
+    @Test
+    void testPrefixMatchesRankBelowExactMatches() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(company("Infobip", "Vodnjan"));
+        index.put(company("Info", "Zagreb"));
+
+        assertEquals(List.of("Info", "Infobip"), titles(index.search(List.of("info"), 10)));
+        assertEquals(List.of("Infobip"), titles(index.search(List.of("infob"), 10)));
+    }
+
+    @Test
+    void testAllQueryTermsMustMatch() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(company("Rimac Automobili", "Sveta Nedelja"));
+        index.put(company("Rimac Technology", "Zagreb"));
+
+        assertEquals(List.of("Rimac Technology"), titles(index.search(List.of("rimac", "zagreb"), 10)));
+    }
+
+    @Test
+    void testRareTermsOutrankCommonOnes() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(company("Alpha Zagreb", "Zagreb"));
+        index.put(company("Beta", "Zagreb"));
+        index.put(company("Gamma", "Split"));
+
+        List<InvertedIndex.Hit> hits = index.search(List.of("split"), 10);
+        assertEquals(1, hits.size());
+        assertTrue(hits.get(0).score() > index.search(List.of("beta"), 10).get(0).score() / 3);
+        assertEquals("Alpha Zagreb", titles(index.search(List.of("zagreb"), 10)).get(0));
+    }
+
+    @Test
+    void testReplaceAndRemove() {
+        InvertedIndex index = new InvertedIndex();
+        SearchDocument original = company("Old Name", "Zagreb");
+        index.put(original);
+        index.put(new SearchDocument("company", original.getId(), "New Name", "Zagreb").field("New Name", 3));
+
+        assertTrue(index.search(List.of("old"), 10).isEmpty());
+        assertEquals(1, index.search(List.of("new"), 10).size());
+
+        index.remove(original.getId());
+        assertEquals(0, index.size());
+        assertTrue(index.search(List.of("new"), 10).isEmpty());
+    }
+
+    @Test
+    void testLimitKeepsBestHits() {
+        InvertedIndex index = new InvertedIndex();
+        for (int i = 0; i < 50; i++) {
+            index.put(company("Company " + i, "Zagreb"));
+        }
+        index.put(company("Company Company", "Zagreb"));
+
+        List<InvertedIndex.Hit> hits = index.search(List.of("company"), 5);
+        assertEquals(5, hits.size());
+        assertEquals("Company Company", hits.get(0).document().getTitle());
+    }
+}
@@ -0,0 +1,62 @@
+package kolab.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixTrieTest {
+
+    private List<String> labels(List<PrefixTrie.Entry> entries) {
+        return entries.stream().map(PrefixTrie.Entry::label).toList();
+    }
+
+    @Test
+    void testMatchesAnyWordStartIgnoringDiacritics() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.put(UUID.randomUUID(), "Ana Horvat");
+        trie.put(UUID.randomUUID(), "Ivan Horvatić");
+        trie.put(UUID.randomUUID(), "Marko Anić");
+
+        assertEquals(List.of("Ana Horvat", "Ivan Horvatić"), labels(trie.suggest("horv", 10)));
+        assertEquals(List.of("Ana Horvat", "Marko Anić"), labels(trie.suggest("an", 10)));
+        assertEquals(List.of("Ana Horvat"), labels(trie.suggest("ana h", 10)));
+        assertEquals(List.of("Ivan Horvatić"), labels(trie.suggest("HORVATIC", 10)));
+        assertTrue(trie.suggest("x", 10).isEmpty());
+    }
+
+    @Test
+    void testKeepsFirstEntriesInLabelOrder() {
+        PrefixTrie trie = new PrefixTrie();
+        for (int i = 25; i >= 0; i--) {
+            trie.put(UUID.randomUUID(), "Company " + (char) ('a' + i));
+        }
+
+        List<PrefixTrie.Entry> top = trie.suggest("comp", PrefixTrie.K);
+        assertEquals(PrefixTrie.K, top.size());
+        assertEquals("Company a", top.get(0).label());
+        assertEquals("Company j", top.get(PrefixTrie.K - 1).label());
+        assertEquals(List.of("Company a", "Company b", "Company c"), labels(trie.suggest("c", 3)));
+    }
+
+    @Test
+    void testRemoveAndRenameRefillTopLists() {
+        PrefixTrie trie = new PrefixTrie();
+        UUID first = UUID.randomUUID();
+        for (int i = 0; i < 12; i++) {
+            trie.put(i == 0 ? first : UUID.randomUUID(), "Company " + (char) ('a' + i));
+        }
+
+        trie.remove(first);
+        assertEquals("Company b", trie.suggest("company", 10).get(0).label());
+        assertEquals("Company k", trie.suggest("company", 10).get(9).label());
+
+        UUID renamed = trie.suggest("company b", 1).get(0).id();
+        trie.put(renamed, "Zeta");
+        assertTrue(trie.suggest("company b", 10).isEmpty());
+        assertEquals(renamed, trie.suggest("ze", 10).get(0).id());
+        assertEquals(11, trie.size());
+    }
+}
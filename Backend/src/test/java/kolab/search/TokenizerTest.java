@@ -0,0 +1,23 @@
+package kolab.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenizerTest {
+
+    @Test
+    void testCroatianSpellingsOfDjMeet() {
+        for (String spelling : List.of("Đurđević", "Djurdjević", "Djurdjevic", "Durdevic", "DJURDJEVIC")) {
+            assertEquals(List.of("durdevic"), Tokenizer.tokenize(spelling), spelling);
+        }
+    }
+
+    @Test
+    void testDiacriticsAreDroppedAndStopWordsSkipped() {
+        assertEquals(List.of("kovacic", "zagreb", "koncar", "hr"),
+            Tokenizer.tokenize("Kovačić, Zagreb — https://www.končar.hr"));
+    }
+}
@@ -0,0 +1,54 @@
+package kolab.service.impl;
+
+import kolab.dao.CollaborationSnapshotRepository;
+import kolab.domain.CollaborationSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+
+class CollaborationHistoryServiceJpaTest {
+
+    private CollaborationSnapshotRepository snapshotRepo;
+    private CollaborationHistoryServiceJpa historyService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotRepo = mock(CollaborationSnapshotRepository.class);
+        historyService = spy(new CollaborationHistoryServiceJpa());
+        ReflectionTestUtils.setField(historyService, "snapshotRepo", snapshotRepo);
+        ReflectionTestUtils.setField(historyService, "snapshotInterval", Duration.ofDays(7));
+        doReturn(snapshot(Instant.now())).when(historyService).takeSnapshot();
+    }
+
+    private CollaborationSnapshot snapshot(Instant asOf) {
+        CollaborationSnapshot snapshot = new CollaborationSnapshot();
+        snapshot.setAsOf(asOf);
+        return snapshot;
+    }
+
+    @Test
+    void testSnapshotIsDueByTheNewestSnapshotsAgeNotByUptime() {
+        when(snapshotRepo.findFirstByOrderByAsOfDesc())
+            .thenReturn(Optional.of(snapshot(Instant.now().minus(Duration.ofDays(6)))));
+        historyService.snapshotIfDue();
+        verify(historyService, never()).takeSnapshot();
+
+        when(snapshotRepo.findFirstByOrderByAsOfDesc())
+            .thenReturn(Optional.of(snapshot(Instant.now().minus(Duration.ofDays(8)))));
+        historyService.snapshotIfDue();
+        verify(historyService).takeSnapshot();
+    }
+
+    @Test
+    void testFirstSnapshotIsTakenRightAway() {
+        when(snapshotRepo.findFirstByOrderByAsOfDesc()).thenReturn(Optional.empty());
+        historyService.snapshotIfDue();
+        verify(historyService).takeSnapshot();
+    }
+}
@@ -1,14 +1,25 @@
 package kolab.service.impl;
 
 import kolab.dao.CollaborationRepository;
+import kolab.dao.CompanyRepository;
+import kolab.dao.ProjectRepository;
 import kolab.domain.Collaboration;
+import kolab.domain.CollaborationEvent;
 import kolab.domain.Company;
 import kolab.domain.Contact;
 import kolab.domain.Project;
 import kolab.domain.User;
 import kolab.domain.enums.CollaborationCategory;
+import kolab.domain.enums.CollaborationEventKind;
 import kolab.domain.enums.CollaborationStatus;
+import kolab.dto.BatchCollaborationDTO;
+import kolab.dto.BatchCollaborationResultDTO;
+import kolab.dto.ProgressBucketDTO;
+import kolab.dto.ProjectProgressDTO;
 import kolab.exception.NotFoundException;
+import kolab.service.CollaborationHistoryService;
+import kolab.service.ProjectRollupService;
+import kolab.service.ProjectRollupService.Contribution;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
@@ -16,6 +27,7 @@ import org.mockito.*;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class CollaborationServiceJpaTest {
@@ -23,6 +35,21 @@ class CollaborationServiceJpaTest {
     @Mock
     private CollaborationRepository collaborationRepo;
 
+    @Mock
+    private ProjectRollupService projectRollupService;
+
+    @Mock
+    private CollaborationHistoryService collaborationHistoryService;
+
+    @Mock
+    private ProjectRepository projectRepo;
+
+    @Mock
+    private CompanyRepository companyRepo;
+
+    @Captor
+    private ArgumentCaptor<List<Collaboration>> savedCollaborations;
+
     @InjectMocks
     private CollaborationServiceJpa collaborationServiceJpa;
 
@@ -123,4 +150,148 @@ class CollaborationServiceJpaTest {
         assertTrue(ex.getMessage().contains(id.toString()));
         verify(collaborationRepo, never()).deleteById(any());
     }
+
+    @Test
+    void testGetProjectProgressTotalsBucketsAgainstGoal() {
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        project.setGoal(1000L);
+        List<ProgressBucketDTO> buckets = List.of(
+            new ProgressBucketDTO(CollaborationStatus.SUCCESSFUL, CollaborationCategory.FINANCIAL, 2, 500.0),
+            new ProgressBucketDTO(CollaborationStatus.SUCCESSFUL, CollaborationCategory.MATERIAL, 1, 250.0),
+            new ProgressBucketDTO(CollaborationStatus.CONTACTED, CollaborationCategory.FINANCIAL, 4, 0.0));
+        when(projectRollupService.getBuckets(project.getId())).thenReturn(buckets);
+
+        ProjectProgressDTO progress = collaborationServiceJpa.getProjectProgress(project);
+
+        assertEquals(7, progress.getCollaborationCount());
+        assertEquals(750.0, progress.getAchievedValue());
+        assertEquals(75.0, progress.getPercentageOfGoal());
+        assertEquals(2, progress.getByStatus().size());
+        ProgressBucketDTO financial = progress.getByCategory().get(0);
+        assertEquals(CollaborationCategory.FINANCIAL, financial.getCategory());
+        assertEquals(6, financial.getCount());
+        verify(collaborationRepo, never()).findByProjectId(any());
+    }
+
+    @Test
+    void testUpdateCollaborationMovesRollupContribution() {
+        UUID id = UUID.randomUUID();
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        Collaboration existing = createValidCollaboration();
+        existing.setProject(project);
+        existing.setStatus(CollaborationStatus.MEETING);
+        existing.setAchievedValue(null);
+        Collaboration updated = createValidCollaboration();
+        updated.setProject(project);
+
+        when(collaborationRepo.findById(id)).thenReturn(Optional.of(existing));
+        when(collaborationRepo.save(existing)).thenReturn(existing);
+
+        collaborationServiceJpa.updateCollaboration(id, updated);
+
+        verify(projectRollupService).replace(
+            new Contribution(project.getId(), CollaborationStatus.MEETING, CollaborationCategory.FINANCIAL, 0.0),
+            new Contribution(project.getId(), CollaborationStatus.SUCCESSFUL, CollaborationCategory.FINANCIAL, 99.9));
+    }
+
+    @Test
+    void testUpdateCollaborationRecordsStateBeforeAndAfter() {
+        UUID id = UUID.randomUUID();
+        Collaboration existing = createValidCollaboration();
+        existing.setId(id);
+        existing.setStatus(CollaborationStatus.PING);
+        Collaboration updated = createValidCollaboration();
+        updated.setStatus(CollaborationStatus.MEETING);
+
+        when(collaborationRepo.findById(id)).thenReturn(Optional.of(existing));
+        when(collaborationRepo.save(existing)).thenReturn(existing);
+
+        collaborationServiceJpa.updateCollaboration(id, updated);
+
+        ArgumentCaptor<CollaborationEvent> before = ArgumentCaptor.forClass(CollaborationEvent.class);
+        ArgumentCaptor<CollaborationEvent> after = ArgumentCaptor.forClass(CollaborationEvent.class);
+        verify(collaborationHistoryService).recordChange(before.capture(), after.capture());
+        assertEquals(CollaborationStatus.PING, before.getValue().getStatus());
+        assertEquals(CollaborationStatus.MEETING, after.getValue().getStatus());
+        assertEquals(id, after.getValue().getCollaborationId());
+        assertEquals(CollaborationEventKind.UPDATED, after.getValue().getKind());
+        assertFalse(after.getValue().sameStateAs(before.getValue()));
+    }
+
+    @Test
+    void testDeleteCollaborationRecordsDeletion() {
+        UUID id = UUID.randomUUID();
+        Collaboration existing = createValidCollaboration();
+        existing.setId(id);
+        when(collaborationRepo.findById(id)).thenReturn(Optional.of(existing));
+
+        collaborationServiceJpa.deleteCollaboration(id);
+
+        ArgumentCaptor<CollaborationEvent> event = ArgumentCaptor.forClass(CollaborationEvent.class);
+        verify(collaborationHistoryService).record(event.capture());
+        assertEquals(CollaborationEventKind.DELETED, event.getValue().getKind());
+        assertEquals(id, event.getValue().getCollaborationId());
+    }
+
+    @Test
+    void testDeleteCollaborationRemovesRollupContribution() {
+        UUID id = UUID.randomUUID();
+        Collaboration existing = createValidCollaboration();
+        existing.getProject().setId(UUID.randomUUID());
+        when(collaborationRepo.findById(id)).thenReturn(Optional.of(existing));
+
+        collaborationServiceJpa.deleteCollaboration(id);
+
+        verify(projectRollupService).remove(Contribution.of(existing));
+        verify(collaborationRepo).delete(existing);
+    }
+
+    private BatchCollaborationDTO createBatch(UUID projectId, UUID... companyIds) {
+        BatchCollaborationDTO batch = new BatchCollaborationDTO();
+        batch.setProjectId(projectId);
+        batch.setCompanyIds(Arrays.asList(companyIds));
+        batch.setCategory(CollaborationCategory.FINANCIAL);
+        return batch;
+    }
+
+    @Test
+    void testCreateCollaborationsSkipsExistingPairs() {
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        UUID newCompany = UUID.randomUUID();
+        UUID assignedCompany = UUID.randomUUID();
+        BatchCollaborationDTO batch = createBatch(project.getId(), newCompany, assignedCompany, newCompany);
+
+        when(projectRepo.findForUpdateById(project.getId())).thenReturn(Optional.of(project));
+        when(companyRepo.findExistingIds(anyCollection())).thenReturn(Set.of(newCompany, assignedCompany));
+        when(collaborationRepo.findCompanyIdsByProjectId(eq(project.getId()), anyCollection()))
+            .thenReturn(Set.of(assignedCompany));
+        when(companyRepo.getReferenceById(newCompany)).thenReturn(new Company());
+
+        BatchCollaborationResultDTO result = collaborationServiceJpa.createCollaborations(batch);
+
+        assertEquals(1, result.getCreated());
+        assertEquals(List.of(assignedCompany), result.getSkippedCompanyIds());
+        verify(collaborationRepo).saveAll(savedCollaborations.capture());
+        assertEquals(CollaborationStatus.TODO, savedCollaborations.getValue().get(0).getStatus());
+        verify(projectRollupService).add(
+            new Contribution(project.getId(), CollaborationStatus.TODO, CollaborationCategory.FINANCIAL, 0.0), 1);
+    }
+
+    @Test
+    void testCreateCollaborationsWithUnknownCompanyThrows() {
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        UUID unknownCompany = UUID.randomUUID();
+
+        when(projectRepo.findForUpdateById(project.getId())).thenReturn(Optional.of(project));
+        when(companyRepo.findExistingIds(anyCollection())).thenReturn(Set.of());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> collaborationServiceJpa.createCollaborations(createBatch(project.getId(), unknownCompany)));
+        assertEquals("Invalid company IDs: [" + unknownCompany + "]", e.getMessage());
+        verify(collaborationRepo, never()).saveAll(any());
+    }
 }
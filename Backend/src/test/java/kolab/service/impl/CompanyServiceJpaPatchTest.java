@@ -0,0 +1,108 @@
+package kolab.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import kolab.domain.Company;
+import kolab.domain.Industry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "kolab.service.impl.CompanyServiceJpaPatchTest$SqlRecorder")
+@Import(CompanyServiceJpa.class)
+class CompanyServiceJpaPatchTest {
+
+    public static class SqlRecorder implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired EntityManager entityManager;
+    @Autowired CompanyServiceJpa companyService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        Industry industry = new Industry();
+        industry.setName("Industry_" + UUID.randomUUID());
+        entityManager.persist(industry);
+
+        company = new Company();
+        company.setName("Company_" + UUID.randomUUID());
+        company.setIndustry(industry);
+        company.setCity("Zagreb");
+        company.setCountry("Croatia");
+        company.setZip(10000L);
+        company.setDescription("Unchanged");
+        entityManager.persist(company);
+        entityManager.flush();
+        SqlRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    void testSingleFieldPatchIssuesOneNarrowUpdate() throws Exception {
+        companyService.patchCompany(company.getId(), objectMapper.readTree("{\"city\": \"Split\", \"version\": 0}"));
+        entityManager.flush();
+
+        assertEquals(1, SqlRecorder.STATEMENTS.size(), SqlRecorder.STATEMENTS::toString);
+        String update = SqlRecorder.STATEMENTS.get(0).toLowerCase();
+        assertTrue(update.startsWith("update company set city=?,version=?"), update);
+        assertFalse(update.contains("description"), update);
+        assertEquals(1L, company.getVersion());
+    }
+
+    @Test
+    void testRenameIsNotMistakenForADuplicateOfItself() throws Exception {
+        String name = "Company_" + UUID.randomUUID();
+        companyService.patchCompany(company.getId(), objectMapper.readTree("{\"name\": \"" + name + "\"}"));
+        entityManager.flush();
+
+        assertEquals(name, entityManager.find(Company.class, company.getId()).getName());
+    }
+
+    @Test
+    void testRenameToAnotherCompanysNameIsRejected() throws Exception {
+        Company other = new Company();
+        other.setName("Company_" + UUID.randomUUID());
+        other.setIndustry(company.getIndustry());
+        other.setCity("Zagreb");
+        other.setCountry("Croatia");
+        other.setZip(10000L);
+        entityManager.persist(other);
+        String originalName = company.getName();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> companyService.patchCompany(
+            company.getId(), objectMapper.readTree("{\"name\": \"" + other.getName() + "\"}")));
+        assertTrue(e.getMessage().contains("already exists"));
+        assertEquals(originalName, company.getName());
+    }
+
+    @Test
+    void testConcurrentWriteFailsInsteadOfOverwriting() throws Exception {
+        entityManager.createQuery("update Company c set c.version = c.version + 1 where c.id = :id")
+            .setParameter("id", company.getId())
+            .executeUpdate();
+
+        companyService.patchCompany(company.getId(), objectMapper.readTree("{\"city\": \"Split\"}"));
+
+        assertThrows(OptimisticLockException.class, entityManager::flush);
+    }
+}
@@ -1,12 +1,20 @@
 package kolab.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kolab.dao.CompanyRepository;
+import kolab.dao.IndustryRepository;
 import kolab.domain.Company;
 import kolab.domain.Industry;
+import kolab.dto.CursorPage;
+import kolab.event.EntityChangedEvent;
+import kolab.exception.ConflictException;
 import kolab.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.*;
 
@@ -16,6 +24,8 @@ import static org.mockito.Mockito.*;
 class CompanyServiceJpaTest {
 
     @Mock private CompanyRepository companyRepo;
+    @Mock private IndustryRepository industryRepo;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks private CompanyServiceJpa companyServiceJpa;
 
@@ -28,6 +38,10 @@ class CompanyServiceJpaTest {
         return prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
     }
 
+    private JsonNode json(String json) throws Exception {
+        return new ObjectMapper().readTree(json);
+    }
+
     private Company createValidCompany(String name) {
         Company company = new Company();
         company.setName(name);
@@ -49,6 +63,37 @@ class CompanyServiceJpaTest {
         verify(companyRepo).findAll();
     }
 
+    @Test
+    void testGetCompaniesPageReturnsCursorOfLastRow() {
+        Company first = createValidCompany(randomString("Company"));
+        first.setId(UUID.randomUUID());
+        Company second = createValidCompany(randomString("Company"));
+        second.setId(UUID.randomUUID());
+        Company extra = createValidCompany(randomString("Company"));
+        extra.setId(UUID.randomUUID());
+        when(companyRepo.findAllByOrderByIdAsc(PageRequest.of(0, 3)))
+            .thenReturn(new ArrayList<>(List.of(first, second, extra)));
+
+        CursorPage<Company> page = companyServiceJpa.getCompanies(null, 2);
+
+        assertEquals(List.of(first, second), page.getItems());
+        assertEquals(second.getId(), CursorPage.decodeCursor(page.getNextCursor()));
+    }
+
+    @Test
+    void testGetCompaniesPageAfterCursorUsesKeyset() {
+        UUID after = UUID.randomUUID();
+        Company last = createValidCompany(randomString("Company"));
+        when(companyRepo.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, 3)))
+            .thenReturn(List.of(last));
+
+        CursorPage<Company> page = companyServiceJpa.getCompanies(CursorPage.encodeCursor(after), 2);
+
+        assertEquals(List.of(last), page.getItems());
+        assertNull(page.getNextCursor());
+        verify(companyRepo, never()).findAll();
+    }
+
     @Test
     void testCreateCompanyWithValidUniqueData() {
         String name = randomString("Company");
@@ -62,6 +107,7 @@ class CompanyServiceJpaTest {
         assertEquals(company, result);
         verify(companyRepo).existsByName(name);
         verify(companyRepo).save(company);
+        verify(eventPublisher).publishEvent(EntityChangedEvent.created(Company.class, company.getId(), company));
     }
 
     @Test
@@ -107,6 +153,7 @@ class CompanyServiceJpaTest {
         assertTrue(ex.getMessage().contains("already exists"));
         verify(companyRepo).existsByName(duplicateName);
         verify(companyRepo, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -121,4 +168,61 @@ class CompanyServiceJpaTest {
         assertTrue(ex.getMessage().contains("Name is required"));
         verify(companyRepo, never()).save(any());
     }
+
+    @Test
+    void testPatchCompanyChangesOnlySuppliedFields() throws Exception {
+        UUID id = UUID.randomUUID();
+        Company existing = createValidCompany("Original");
+        existing.setId(id);
+        existing.setVersion(3L);
+        existing.setAddress("Street 1");
+        String country = existing.getCountry();
+        when(companyRepo.findById(id)).thenReturn(Optional.of(existing));
+
+        Company result = companyServiceJpa.patchCompany(id, json("{\"city\": \"Split\", \"address\": null, \"version\": 3}"));
+
+        assertEquals("Split", result.getCity());
+        assertNull(result.getAddress());
+        assertEquals("Original", result.getName());
+        assertEquals(country, result.getCountry());
+        verify(companyRepo, never()).existsByName(anyString());
+        verifyNoInteractions(industryRepo);
+        verify(eventPublisher).publishEvent(any(EntityChangedEvent.class));
+    }
+
+    @Test
+    void testPatchCompanyWithStaleVersionThrowsConflict() throws Exception {
+        UUID id = UUID.randomUUID();
+        Company existing = createValidCompany("Original");
+        existing.setVersion(4L);
+        when(companyRepo.findById(id)).thenReturn(Optional.of(existing));
+
+        assertThrows(ConflictException.class,
+            () -> companyServiceJpa.patchCompany(id, json("{\"city\": \"Split\", \"version\": 3}")));
+        assertNotEquals("Split", existing.getCity());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testPatchCompanyRejectsUnknownFieldsAndInvalidValues() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(companyRepo.findById(id)).thenReturn(Optional.of(createValidCompany("Original")));
+
+        assertThrows(IllegalArgumentException.class, () -> companyServiceJpa.patchCompany(id, json("{\"id\": null}")));
+        assertThrows(IllegalArgumentException.class, () -> companyServiceJpa.patchCompany(id, json("{\"zip\": \"abc\"}")));
+        assertThrows(IllegalArgumentException.class, () -> companyServiceJpa.patchCompany(id, json("{\"city\": null}")));
+    }
+
+    @Test
+    void testUpdateCompanyWithStaleVersionThrowsConflict() {
+        UUID id = UUID.randomUUID();
+        Company existing = createValidCompany("Original");
+        existing.setVersion(2L);
+        when(companyRepo.findById(id)).thenReturn(Optional.of(existing));
+        Company update = createValidCompany("Renamed");
+        update.setVersion(1L);
+
+        assertThrows(ConflictException.class, () -> companyServiceJpa.updateCompany(id, update));
+        verify(companyRepo, never()).save(any());
+    }
 }
@@ -0,0 +1,127 @@
+package kolab.service.impl;
+
+import jakarta.persistence.EntityManager;
+import kolab.dao.CompanyRepository;
+import kolab.domain.Company;
+import kolab.domain.Industry;
+import kolab.domain.enums.CompanyCategorization;
+import kolab.dto.ImportReportDTO;
+import kolab.event.EntitiesImportedEvent;
+import kolab.event.EntityChangedEvent;
+import kolab.service.ImportService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@RecordApplicationEvents
+@Import(ImportServiceJpa.class)
+class ImportServiceJpaTest {
+
+    private static final String HEADER = "name,industry,categorization,budgetPlanningMonth,country,zip,city,description\n";
+
+    @Autowired EntityManager entityManager;
+    @Autowired ImportService importService;
+    @Autowired CompanyRepository companyRepository;
+    @Autowired ApplicationEvents events;
+
+    private Industry industry;
+
+    @BeforeEach
+    void setUp() {
+        industry = new Industry();
+        industry.setName("Energy");
+        entityManager.persist(industry);
+
+        Company existing = new Company();
+        existing.setName("Existing");
+        existing.setIndustry(industry);
+        existing.setCountry("Croatia");
+        existing.setZip(10000L);
+        existing.setCity("Zagreb");
+        entityManager.persist(existing);
+        entityManager.flush();
+    }
+
+    @Test
+    void testImportReportsRejectedRowsAndInsertsTheRest() throws Exception {
+        String csv = HEADER
+            + "Alpha,energy,A,MARCH,Croatia,10000,Zagreb,\"Solar, wind\nand hydro\"\n"
+            + "Beta," + industry.getId() + ",,,Croatia,21000,Split,\n"
+            + "Gamma,Unknown,,,Croatia,10000,Zagreb,\n"
+            + "Existing,Energy,,,Croatia,10000,Zagreb,\n"
+            + "Delta,Energy,Z,,Croatia,10000,Zagreb,\n"
+            + "Alpha,Energy,,,Croatia,10000,Zagreb,\n"
+            + "Epsilon,Energy,,,Croatia,abc,Zagreb,\n";
+
+        ImportReportDTO report = importService.importCompanies(new StringReader(csv));
+
+        assertEquals(7, report.getTotalRows());
+        assertEquals(2, report.getImported());
+        assertEquals(5, report.getErrors().size());
+        assertEquals(5, report.getErrors().get(0).getLine());
+        assertEquals("Unknown industry: Unknown", report.getErrors().get(0).getMessage());
+        assertEquals("Company with name Existing already exists", report.getErrors().get(1).getMessage());
+        assertEquals("Invalid categorization: Z", report.getErrors().get(2).getMessage());
+        assertEquals(8, report.getErrors().get(3).getLine());
+        assertEquals("Invalid ZIP code: abc", report.getErrors().get(4).getMessage());
+
+        Company alpha = companyRepository.findByName("Alpha");
+        assertEquals(CompanyCategorization.A, alpha.getCategorization());
+        assertEquals("Solar, wind\nand hydro", alpha.getDescription());
+        assertEquals("Energy", alpha.getIndustry().getName());
+    }
+
+    @Test
+    void testImportPublishesOneEventInsteadOfOnePerRow() throws Exception {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < 50; i++) {
+            csv.append("Company ").append(i).append(",Energy,,,Croatia,10000,Zagreb,\n");
+        }
+
+        importService.importCompanies(new StringReader(csv.toString()));
+
+        assertEquals(0, events.stream(EntityChangedEvent.class).count());
+        assertEquals(List.of(new EntitiesImportedEvent(Company.class, 50)),
+            events.stream(EntitiesImportedEvent.class).toList());
+    }
+
+    @Test
+    void testLargeImportIsBatched() throws Exception {
+        StringBuilder csv = new StringBuilder(HEADER);
+        int rows = ImportServiceJpa.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < rows; i++) {
+            csv.append("Company ").append(i).append(",Energy,,,Croatia,10000,Zagreb,\n");
+        }
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        ImportReportDTO report = importService.importCompanies(new StringReader(csv.toString()));
+
+        assertEquals(rows, report.getImported());
+        assertTrue(report.getErrors().isEmpty());
+        assertEquals(rows, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 20,
+            "expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void testMissingRequiredColumnIsRejected() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> importService.importCompanies(new StringReader("name,industry,city\nAlpha,Energy,Zagreb\n")));
+        assertEquals("Missing required columns: country, zip", e.getMessage());
+    }
+}
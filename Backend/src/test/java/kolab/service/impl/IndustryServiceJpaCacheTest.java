@@ -0,0 +1,112 @@
+package kolab.service.impl;
+
+import jakarta.persistence.EntityManager;
+import kolab.config.CacheConfig;
+import kolab.dao.IndustryRepository;
+import kolab.domain.Industry;
+import kolab.service.IndustryService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional: evictions only run once the service's own transaction commits
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CacheConfig.class, IndustryServiceJpa.class})
+class IndustryServiceJpaCacheTest {
+
+    @Autowired EntityManager entityManager;
+    @Autowired IndustryService industryService;
+    @Autowired IndustryRepository industryRepository;
+    @Autowired CacheManager cacheManager;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @AfterEach
+    void deleteIndustries() {
+        industryRepository.deleteAll();
+    }
+
+    private Industry industry(String name) {
+        Industry industry = new Industry();
+        industry.setName(name);
+        return industry;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    void testWarmReadsDoNotTouchDatabase() {
+        Industry created = industryService.createIndustry(industry("Energy"));
+
+        industryService.getAllIndustries();
+        industryService.getIndustryById(created.getId());
+        assertThrows(IllegalArgumentException.class, () -> industryService.createIndustry(industry("Energy")));
+
+        Statistics statistics = statistics();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1, industryService.getAllIndustries().size());
+            assertEquals("Energy", industryService.getIndustryById(created.getId()).getName());
+            assertThrows(IllegalArgumentException.class, () -> industryService.createIndustry(industry("Energy")));
+        }
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testWritesEvictCachedEntries() {
+        Industry created = industryService.createIndustry(industry("Energy"));
+        assertEquals(1, industryService.getAllIndustries().size());
+
+        industryService.updateIndustry(created.getId(), industry("Mining"));
+        List<Industry> industries = industryService.getAllIndustries();
+        assertEquals("Mining", industries.get(0).getName());
+        assertEquals("Mining", industryService.getIndustryById(created.getId()).getName());
+
+        industryService.createIndustry(industry("Energy"));
+        assertEquals(2, industryService.getAllIndustries().size());
+    }
+
+    @Test
+    void testEvictionWaitsForCommit() throws Exception {
+        Industry created = industryService.createIndustry(industry("Energy"));
+        assertEquals("Energy", industryService.getAllIndustries().get(0).getName());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            industryService.updateIndustry(created.getId(), industry("Mining"));
+            // A concurrent reader before the commit must not leave the old list cached
+            try {
+                assertEquals("Energy", CompletableFuture.supplyAsync(industryService::getAllIndustries)
+                    .get().get(0).getName());
+            } catch (InterruptedException | ExecutionException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals("Mining", industryService.getAllIndustries().get(0).getName());
+    }
+}
@@ -0,0 +1,106 @@
+package kolab.service.impl;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+import com.google.api.client.testing.http.MockHttpTransport;
+import com.google.api.client.testing.http.MockLowLevelHttpResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtServiceImplTest {
+    private static final String CLIENT_ID = "kolab-test.apps.googleusercontent.com";
+
+    private PrivateKey signingKey;
+    private GoogleIdTokenVerifier verifier;
+    private JwtServiceImpl jwtService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = getClass().getResourceAsStream("/auth/google-test.p12")) {
+            keyStore.load(in, "changeit".toCharArray());
+        }
+        signingKey = (PrivateKey) keyStore.getKey("kolab-test", "changeit".toCharArray());
+
+        String certs;
+        try (InputStream in = getClass().getResourceAsStream("/auth/google-certs.json")) {
+            certs = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        MockHttpTransport transport = new MockHttpTransport.Builder()
+            .setLowLevelHttpResponse(new MockLowLevelHttpResponse()
+                .setContentType("application/json")
+                .addHeader("Cache-Control", "public, max-age=3600")
+                .setContent(certs))
+            .build();
+        verifier = spy(new GoogleIdTokenVerifier.Builder(
+                new GooglePublicKeysManager(transport, GsonFactory.getDefaultInstance()))
+            .setAudience(List.of(CLIENT_ID))
+            .build());
+
+        jwtService = new JwtServiceImpl();
+        ReflectionTestUtils.setField(jwtService, "verifier", verifier);
+    }
+
+    private String idToken(String email, String audience, long expiresInSeconds) throws Exception {
+        JsonWebSignature.Header header = new JsonWebSignature.Header()
+            .setAlgorithm("RS256")
+            .setKeyId("kolab-test");
+        long now = System.currentTimeMillis() / 1000;
+        GoogleIdToken.Payload payload = new GoogleIdToken.Payload()
+            .setIssuer("https://accounts.google.com")
+            .setAudience(audience)
+            .setIssuedAtTimeSeconds(now)
+            .setExpirationTimeSeconds(now + expiresInSeconds)
+            .setEmail(email);
+        return JsonWebSignature.signUsingRsaSha256(signingKey, GsonFactory.getDefaultInstance(), header, payload);
+    }
+
+    @Test
+    void testVerifiedTokenIsCachedUntilExpiry() throws Exception {
+        String token = idToken("ana@example.com", CLIENT_ID, 3600);
+
+        assertEquals("ana@example.com", jwtService.extractEmail(token));
+        assertEquals("ana@example.com", jwtService.extractEmail(token));
+
+        verify(verifier, times(1)).verify(token);
+        assertEquals(1, jwtService.cachedTokenCount());
+    }
+
+    @Test
+    void testRejectsTamperedWrongAudienceAndExpiredTokens() throws Exception {
+        String token = idToken("ana@example.com", CLIENT_ID, 3600);
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + idToken("eve@example.com", CLIENT_ID, 3600).split("\\.")[1] + "." + parts[2];
+
+        assertThrows(IllegalArgumentException.class, () -> jwtService.extractEmail(forged));
+        assertThrows(IllegalArgumentException.class,
+            () -> jwtService.extractEmail(idToken("ana@example.com", "someone-else", 3600)));
+        assertThrows(IllegalArgumentException.class,
+            () -> jwtService.extractEmail(idToken("ana@example.com", CLIENT_ID, -600)));
+        assertThrows(IllegalArgumentException.class, () -> jwtService.extractEmail("not-a-jwt"));
+        assertEquals(0, jwtService.cachedTokenCount());
+    }
+
+    @Test
+    void testLoginIsRefusedWithoutConfiguredClientId() throws Exception {
+        GoogleIdTokenVerifier noAudience = spy(new GoogleIdTokenVerifier.Builder(verifier.getPublicKeysManager()).build());
+        ReflectionTestUtils.setField(jwtService, "verifier", noAudience);
+        String token = idToken("ana@example.com", "some-other-app.apps.googleusercontent.com", 3600);
+
+        assertThrows(IllegalArgumentException.class, () -> jwtService.extractEmail(token));
+        verify(noAudience, never()).verify(token);
+    }
+}
@@ -1,5 +1,6 @@
 package kolab.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kolab.dao.ProjectRepository;
 import kolab.domain.Category;
 import kolab.domain.Project;
@@ -9,6 +10,7 @@ import kolab.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.ZonedDateTime;
 import java.util.*;
@@ -21,6 +23,9 @@ class ProjectServiceJpaTest {
     @Mock
     private ProjectRepository projectRepo;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProjectServiceJpa projectServiceJpa;
 
@@ -134,6 +139,36 @@ class ProjectServiceJpaTest {
         verify(projectRepo, never()).save(any());
     }
 
+    @Test
+    void testPatchProjectChecksNewNameAgainstOtherProjectsFirst() throws Exception {
+        UUID id = UUID.randomUUID();
+        Project existing = createValidProject(randomString("Project"));
+        String newName = randomString("Renamed");
+        when(projectRepo.findById(id)).thenReturn(Optional.of(existing));
+        when(projectRepo.existsByNameAndIdNot(newName, id)).thenReturn(false);
+
+        Project result = projectServiceJpa.patchProject(id, new ObjectMapper().readTree("{\"name\": \"" + newName + "\"}"));
+
+        assertEquals(newName, result.getName());
+        verify(projectRepo).existsByNameAndIdNot(newName, id);
+        verify(projectRepo, never()).existsByName(any());
+    }
+
+    @Test
+    void testPatchProjectToDuplicateNameLeavesProjectUnchanged() throws Exception {
+        UUID id = UUID.randomUUID();
+        String originalName = randomString("Project");
+        Project existing = createValidProject(originalName);
+        String duplicateName = randomString("Duplicate");
+        when(projectRepo.findById(id)).thenReturn(Optional.of(existing));
+        when(projectRepo.existsByNameAndIdNot(duplicateName, id)).thenReturn(true);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () ->
+            projectServiceJpa.patchProject(id, new ObjectMapper().readTree("{\"name\": \"" + duplicateName + "\"}")));
+        assertTrue(ex.getMessage().contains("already exists"));
+        assertEquals(originalName, existing.getName());
+    }
+
     @Test
     void testCreateProjectWithMissingFields() {
         Project project = new Project(); // Missing required fields
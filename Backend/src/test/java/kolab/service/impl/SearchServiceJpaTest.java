@@ -0,0 +1,96 @@
+package kolab.service.impl;
+
+import jakarta.persistence.EntityManager;
+import kolab.domain.Company;
+import kolab.domain.Contact;
+import kolab.domain.Industry;
+import kolab.dto.SearchHitDTO;
+import kolab.event.EntityChangedEvent;
+import kolab.service.SearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(SearchServiceJpa.class)
+class SearchServiceJpaTest {
+
+    @Autowired EntityManager entityManager;
+    @Autowired SearchService searchService;
+    @Autowired ApplicationEventPublisher eventPublisher;
+
+    private Company persistCompany(String name) {
+        Industry industry = new Industry();
+        industry.setName("Industry " + name);
+        entityManager.persist(industry);
+
+        Company company = new Company();
+        company.setName(name);
+        company.setIndustry(industry);
+        company.setCountry("Hrvatska");
+        company.setZip(10000L);
+        company.setCity("Zagreb");
+        entityManager.persist(company);
+        eventPublisher.publishEvent(EntityChangedEvent.created(Company.class, company.getId(), company));
+        return company;
+    }
+
+    @Test
+    void testIndexFollowsCommittedChangesOnly() {
+        Company company = persistCompany("Končar");
+        Contact contact = new Contact();
+        contact.setCompany(company);
+        contact.setFirstName("Ivana");
+        contact.setLastName("Kovačić");
+        contact.setPosition("Direktorica");
+        contact.setEmail("ivana@koncar.hr");
+        entityManager.persist(contact);
+        eventPublisher.publishEvent(EntityChangedEvent.created(Contact.class, contact.getId(), contact));
+        entityManager.flush();
+        assertTrue(searchService.search("koncar", null, 10).isEmpty());
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        List<SearchHitDTO> hits = searchService.search("koncar", null, 10);
+        assertEquals(2, hits.size());
+        assertEquals(SearchService.COMPANY, hits.get(0).getType());
+        assertEquals(List.of(contact.getId()),
+            searchService.search("kovacic", SearchService.CONTACT, 10).stream().map(SearchHitDTO::getId).toList());
+
+        TestTransaction.start();
+        entityManager.remove(entityManager.find(Contact.class, contact.getId()));
+        Company reloaded = entityManager.find(Company.class, company.getId());
+        entityManager.remove(reloaded);
+        entityManager.remove(reloaded.getIndustry());
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(Contact.class, contact.getId()));
+        eventPublisher.publishEvent(EntityChangedEvent.deleted(Company.class, company.getId()));
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertTrue(searchService.search("koncar", null, 10).isEmpty());
+    }
+
+    @Test
+    void testRebuildIndexesExistingRows() {
+        Company company = persistCompany("Podravka");
+        entityManager.flush();
+
+        searchService.rebuild();
+
+        assertEquals(company.getId(), searchService.search("podrav", SearchService.COMPANY, 10).get(0).getId());
+        assertEquals(1, searchService.getIndexSizes().get(SearchService.COMPANY));
+    }
+
+    @Test
+    void testUnknownTypeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("x", "invoice", 10));
+    }
+}
@@ -0,0 +1,55 @@
+package kolab.service.impl;
+
+import kolab.domain.User;
+import kolab.domain.enums.UserAuthorization;
+import kolab.security.SessionPrincipal;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionTokenServiceImplTest {
+    private static final Instant NOW = Instant.parse("2024-03-01T10:00:00Z");
+
+    private User createUser() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("ana|admin@example.com");
+        user.setAuthorization(UserAuthorization.ADMINISTRATOR);
+        return user;
+    }
+
+    private SessionTokenServiceImpl service(String secret, Instant now) {
+        return new SessionTokenServiceImpl(secret, Duration.ofMinutes(15), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void testIssuedTokenVerifiesToSamePrincipal() {
+        User user = createUser();
+        String token = service("secret", NOW).issue(user);
+
+        SessionPrincipal principal = service("secret", NOW.plusSeconds(60)).verify(token);
+
+        assertEquals(user.getId(), principal.userId());
+        assertEquals(user.getEmail(), principal.email());
+        assertEquals(UserAuthorization.ADMINISTRATOR, principal.authorization());
+        assertEquals(NOW.plus(Duration.ofMinutes(15)), principal.expiresAt());
+    }
+
+    @Test
+    void testRejectsExpiredForeignAndTamperedTokens() {
+        String token = service("secret", NOW).issue(createUser());
+        String otherPayload = service("secret", NOW).issue(createUser()).split("\\.")[0];
+
+        assertThrows(IllegalArgumentException.class, () -> service("secret", NOW.plus(Duration.ofMinutes(15))).verify(token));
+        assertThrows(IllegalArgumentException.class, () -> service("other-secret", NOW).verify(token));
+        assertThrows(IllegalArgumentException.class,
+            () -> service("secret", NOW).verify(otherPayload + "." + token.split("\\.")[1]));
+        assertThrows(IllegalArgumentException.class, () -> service("secret", NOW).verify("garbage"));
+    }
+}
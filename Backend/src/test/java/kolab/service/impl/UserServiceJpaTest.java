@@ -1,5 +1,6 @@
 package kolab.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kolab.dao.UserRepository;
 import kolab.domain.User;
 import kolab.domain.enums.UserAuthorization;
@@ -7,10 +8,12 @@ import kolab.exception.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 class UserServiceJpaTest {
@@ -18,6 +21,9 @@ class UserServiceJpaTest {
     @Mock
     private UserRepository userRepo;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceJpa userServiceJpa;
 
@@ -148,4 +154,41 @@ class UserServiceJpaTest {
         assertTrue(exception.getMessage().contains(userId.toString()));
         verify(userRepo, never()).deleteById(any());
     }
+
+    @Test
+    void testCreateUserWithDuplicateEmailThrows() {
+        User user = createValidUser(randomEmail());
+        when(userRepo.existsByEmail(user.getEmail())).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> userServiceJpa.createUser(user));
+        verify(userRepo, never()).save(any());
+    }
+
+    @Test
+    void testUpdateUserToAnotherUsersEmailThrows() {
+        UUID id = UUID.randomUUID();
+        User existing = createValidUser(randomEmail());
+        existing.setId(id);
+        User updated = createValidUser(randomEmail());
+        when(userRepo.findById(id)).thenReturn(Optional.of(existing));
+        when(userRepo.existsByEmailAndIdNot(updated.getEmail(), id)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> userServiceJpa.updateUser(id, updated));
+        verify(userRepo, never()).save(any());
+    }
+
+    @Test
+    void testPatchUserChecksEmailBeforeChangingIt() throws Exception {
+        UUID id = UUID.randomUUID();
+        String email = randomEmail();
+        User existing = createValidUser(email);
+        existing.setId(id);
+        String taken = randomEmail();
+        when(userRepo.findById(id)).thenReturn(Optional.of(existing));
+        when(userRepo.existsByEmailAndIdNot(taken, id)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> userServiceJpa.patchUser(id,
+            new ObjectMapper().readTree("{\"email\": \"" + taken + "\"}")));
+        assertEquals(email, existing.getEmail());
+    }
 }
@@ -0,0 +1,71 @@
+package kolab.service.impl;
+
+import kolab.bench.SampleEntities;
+import kolab.domain.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The service-side validators every create, update and patch runs.
+ * {@code userEmailPerCallRegex} keeps the old {@code String.matches} check
+ * from validateUser as a baseline for the precompiled pattern. Run with
+ * {@code mvn -Pjmh test-compile exec:exec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private Company company;
+    private Project project;
+    private Collaboration collaboration;
+    private Contact contact;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        collaboration = SampleEntities.collaborations(1).get(0);
+        company = collaboration.getCompany();
+        project = collaboration.getProject();
+        contact = collaboration.getContact();
+        user = collaboration.getResponsible();
+    }
+
+    @Benchmark
+    public Company company() {
+        CompanyServiceJpa.validateCompany(company);
+        return company;
+    }
+
+    @Benchmark
+    public Project project() {
+        ProjectServiceJpa.validateProject(project);
+        return project;
+    }
+
+    @Benchmark
+    public Collaboration collaboration() {
+        CollaborationServiceJpa.validateCollaboration(collaboration);
+        return collaboration;
+    }
+
+    @Benchmark
+    public Contact contact() {
+        ContactServiceJpa.validateContact(contact);
+        return contact;
+    }
+
+    @Benchmark
+    public User user() {
+        UserServiceJpa.validateUser(user);
+        return user;
+    }
+
+    @Benchmark
+    public boolean userEmailPerCallRegex() {
+        return user.getEmail().matches("^[A-Za-z0-9+_.-]+@(.+)$");
+    }
+}
@@ -0,0 +1,83 @@
+package kolab.util;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlLogTest {
+    private static final String SQL = "select x from system_range(?, ?)";
+
+    private final ListAppender<ILoggingEvent> slow = new ListAppender<>();
+    private final ListAppender<ILoggingEvent> sampled = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        slow.start();
+        sampled.start();
+        ((Logger) LoggerFactory.getLogger("kolab.sql.slow")).addAppender(slow);
+        ((Logger) LoggerFactory.getLogger("kolab.sql.sampled")).addAppender(sampled);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((Logger) LoggerFactory.getLogger("kolab.sql.slow")).detachAppender(slow);
+        ((Logger) LoggerFactory.getLogger("kolab.sql.sampled")).detachAppender(sampled);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void query(SqlLog log) throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql-log;DB_CLOSE_DELAY=-1");
+        try (Connection connection = new SqlStatsDataSource(h2, log).getConnection();
+             PreparedStatement statement = connection.prepareStatement(SQL)) {
+            statement.setInt(1, 1);
+            statement.setInt(2, 3);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    rows.getLong(1);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSlowStatementIsLoggedWithBindsAndEndpoint() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/projects/{projectId}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        query(new SqlLog(Duration.ZERO, 0));
+
+        assertEquals(1, slow.list.size());
+        String message = slow.list.get(0).getFormattedMessage();
+        assertTrue(message.contains("2 binds, GET /api/projects/{projectId}: " + SQL), message);
+        assertTrue(sampled.list.isEmpty());
+    }
+
+    @Test
+    void testFastStatementsAreOnlySampled() throws Exception {
+        query(new SqlLog(Duration.ofMinutes(1), 0));
+        assertTrue(slow.list.isEmpty());
+        assertTrue(sampled.list.isEmpty());
+
+        query(new SqlLog(Duration.ofMinutes(1), 1));
+        assertEquals(1, sampled.list.size());
+        assertTrue(sampled.list.get(0).getFormattedMessage().contains("no request: " + SQL));
+    }
+}